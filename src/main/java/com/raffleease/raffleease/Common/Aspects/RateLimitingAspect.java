@@ -2,46 +2,46 @@ package com.raffleease.raffleease.Common.Aspects;
 
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.RateLimitExceededException;
 import com.raffleease.raffleease.Common.RateLimiting.RateLimit;
+import com.raffleease.raffleease.Common.RateLimiting.RateLimitDescriptor;
+import com.raffleease.raffleease.Common.RateLimiting.RateLimitRegistry;
 import com.raffleease.raffleease.Common.RateLimiting.RateLimitingService;
-import com.raffleease.raffleease.Common.Utils.AspectUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
 /**
  * Aspect for handling rate limiting annotations.
- * Intercepts methods annotated with @RateLimit and applies throttling logic.
+ * Intercepts methods annotated with @RateLimit and applies throttling logic,
+ * using the descriptor precompiled for the method by {@link RateLimitRegistry}.
  */
 @Slf4j
 @RequiredArgsConstructor
 @Aspect
 @Component
 public class RateLimitingAspect {
-    
+
     private final RateLimitingService rateLimitingService;
-    
+    private final RateLimitRegistry rateLimitRegistry;
+
     @Around("@annotation(rateLimit)")
     public Object checkRateLimit(ProceedingJoinPoint joinPoint, RateLimit rateLimit) throws Throwable {
-        Long associationId = AspectUtils.extractAssociationId(joinPoint);
-        
-        boolean allowed = rateLimitingService.isRequestAllowed(
-            rateLimit.operation(), 
-            rateLimit.accessLevel(),
-            associationId, 
-            rateLimit.perUser()
-        );
-        
+        RateLimitDescriptor descriptor = rateLimitRegistry.get(((MethodSignature) joinPoint.getSignature()).getMethod(), rateLimit);
+        Long associationId = descriptor.associationId(joinPoint.getArgs());
+
+        boolean allowed = rateLimitingService.isRequestAllowed(descriptor, associationId);
+
         if (!allowed) {
-            log.warn("Rate limit exceeded for {} operation: {}", 
-                    rateLimit.accessLevel().name().toLowerCase(), rateLimit.operation());
-            throw new RateLimitExceededException(rateLimit.message());
+            log.warn("Rate limit exceeded for {} operation: {}",
+                    descriptor.accessLevelName(), descriptor.operation());
+            throw new RateLimitExceededException(descriptor.message());
         }
-        
-        log.debug("Rate limit check passed for {} operation: {}", 
-                rateLimit.accessLevel().name().toLowerCase(), rateLimit.operation());
+
+        log.debug("Rate limit check passed for {} operation: {}",
+                descriptor.accessLevelName(), descriptor.operation());
         return joinPoint.proceed();
     }
-} 
\ No newline at end of file
+}
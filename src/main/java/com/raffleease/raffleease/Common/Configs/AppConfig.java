@@ -1,19 +1,33 @@
 package com.raffleease.raffleease.Common.Configs;
 
+import com.raffleease.raffleease.Common.Security.BoundedPasswordEncoder;
 import com.raffleease.raffleease.Domains.Users.Services.Impls.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+import static org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256;
 
 @Configuration
 @RequiredArgsConstructor
 public class AppConfig {
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final String ARGON2 = "argon2";
+
     private final UserDetailsServiceImpl userDetailsService;
 
     @Bean
@@ -21,16 +35,53 @@ public class AppConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * When re-hashing is enabled, passwords stored with another algorithm or a lower cost than the configured one
+     * are hashed again with the current settings after a successful login.
+     */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(
+            PasswordEncoder encoder,
+            @Value("${spring.application.security.password.rehash_on_login:true}") boolean rehashOnLogin
+    ) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService);
-        authenticationProvider.setPasswordEncoder(encoder());
+        authenticationProvider.setPasswordEncoder(encoder);
+        if (rehashOnLogin) {
+            authenticationProvider.setUserDetailsPasswordService(userDetailsService);
+        }
         return authenticationProvider;
     }
 
+    /**
+     * Hashes new passwords with the configured algorithm, prefixing them with its id.
+     * Stored hashes without a prefix are bcrypt hashes created before the algorithm became configurable.
+     * All hashing runs on the bounded pool of {@link BoundedPasswordEncoder}.
+     */
     @Bean
-    public PasswordEncoder encoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder encoder(
+            @Value("${spring.application.security.password.algorithm:bcrypt}") String algorithm,
+            @Value("${spring.application.security.password.bcrypt_strength:10}") int bcryptStrength,
+            @Value("${spring.application.security.password.pbkdf2_iterations:310000}") int pbkdf2Iterations,
+            @Value("${spring.application.security.password.hashing.threads:0}") int threads,
+            @Value("${spring.application.security.password.hashing.queue_capacity:100}") int queueCapacity,
+            @Value("${spring.application.security.password.hashing.timeout_ms:10000}") long timeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations, PBKDF2WithHmacSHA256),
+                ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unsupported password hashing algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingEncoder, poolSize, queueCapacity, timeoutMillis, meterRegistry);
     }
-}
\ No newline at end of file
+}
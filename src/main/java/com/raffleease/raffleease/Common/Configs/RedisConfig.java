@@ -1,19 +1,87 @@
 package com.raffleease.raffleease.Common.Configs;
 
+import com.raffleease.raffleease.Common.RateLimiting.RateLimitRedisTemplate;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 public class RedisConfig {
+    @Primary
     @Bean
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * Template used only by the rate limiter, on its own connection so its short timeouts do not apply to other Redis usages.
+     * The server, credentials, SSL and client settings are copied from the connection factory built by Spring Boot,
+     * only the timeouts and the behaviour while disconnected differ.
+     * Commands fail after the latency budget and are rejected right away while the connection is down.
+     * Standalone and sentinel deployments are supported, startup fails on a cluster.
+     */
+    @Bean
+    public RateLimitRedisTemplate rateLimitRedisTemplate(
+            LettuceConnectionFactory bootConnectionFactory,
+            @Value("${rate-limiting.redis.timeout-ms:50}") long timeoutMillis,
+            @Value("${rate-limiting.redis.connect-timeout-ms:200}") long connectTimeoutMillis
+    ) {
+        if (bootConnectionFactory.isClusterAware()) {
+            throw new IllegalStateException("Rate limiting does not support Redis cluster connections");
+        }
+
+        LettuceClientConfiguration bootClientConfiguration = bootConnectionFactory.getClientConfiguration();
+        ClientOptions clientOptions = bootClientConfiguration.getClientOptions()
+                .map(ClientOptions::mutate)
+                .orElseGet(ClientOptions::builder)
+                .socketOptions(SocketOptions.builder().connectTimeout(Duration.ofMillis(connectTimeoutMillis)).build())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(Duration.ofMillis(timeoutMillis))
+                .clientOptions(clientOptions);
+        bootClientConfiguration.getClientResources().ifPresent(clientConfiguration::clientResources);
+        bootClientConfiguration.getClientName().ifPresent(clientConfiguration::clientName);
+        bootClientConfiguration.getReadFrom().ifPresent(clientConfiguration::readFrom);
+        bootClientConfiguration.getRedisCredentialsProviderFactory().ifPresent(clientConfiguration::redisCredentialsProviderFactory);
+        if (bootClientConfiguration.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder ssl = clientConfiguration.useSsl()
+                    .verifyPeer(bootClientConfiguration.getVerifyMode());
+            if (bootClientConfiguration.isStartTls()) {
+                ssl.startTls();
+            }
+        }
+
+        LettuceConnectionFactory connectionFactory = bootConnectionFactory.isRedisSentinelAware()
+                ? new LettuceConnectionFactory(bootConnectionFactory.getSentinelConfiguration(), clientConfiguration.build())
+                : new LettuceConnectionFactory(bootConnectionFactory.getStandaloneConfiguration(), clientConfiguration.build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        return new RateLimitRedisTemplate(connectionFactory);
+    }
 }
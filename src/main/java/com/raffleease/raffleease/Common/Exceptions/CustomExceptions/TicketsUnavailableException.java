@@ -0,0 +1,19 @@
+package com.raffleease.raffleease.Common.Exceptions.CustomExceptions;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static com.raffleease.raffleease.Common.Exceptions.ErrorCodes.TICKETS_UNAVAILABLE;
+
+@Getter
+public class TicketsUnavailableException extends BusinessException {
+    private final List<Long> ticketIds;
+
+    @Autowired
+    public TicketsUnavailableException(String message, List<Long> ticketIds) {
+        super(message, TICKETS_UNAVAILABLE);
+        this.ticketIds = ticketIds;
+    }
+}
@@ -32,4 +32,6 @@ public final class ErrorCodes {
     public static final String ADMIN_DISABLE_SELF_DENIED = "ADMIN_DISABLE_SELF_DENIED";
     public static final String ADMIN_CREATE_ADMIN_DENIED = "ADMIN_CREATE_ADMIN_DENIED";
     public static final String INSUFFICIENT_TICKETS_AVAILABLE = "INSUFFICIENT_TICKETS_AVAILABLE";
+    public static final String TICKETS_UNAVAILABLE = "TICKETS_UNAVAILABLE";
+    public static final String TICKET_UNAVAILABLE = "TICKET_UNAVAILABLE";
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.nio.file.AccessDeniedException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.raffleease.raffleease.Common.Exceptions.ErrorCodes.VALIDATION_ERROR;
@@ -100,6 +101,21 @@ public class GlobalExceptionHandler {
         return wrapError(ex, CONFLICT, ErrorCodes.CONFLICT);
     }
 
+    @ExceptionHandler(TicketsUnavailableException.class)
+    public ResponseEntity<ApiResponse> handleTicketsUnavailableException(TicketsUnavailableException ex) {
+        Map<String, String> errors = new LinkedHashMap<>();
+        ex.getTicketIds().forEach(ticketId -> errors.put(String.valueOf(ticketId), ErrorCodes.TICKET_UNAVAILABLE));
+
+        ApiResponse response = ResponseFactory.validationError(
+                ex.getMessage(),
+                BAD_REQUEST.value(),
+                BAD_REQUEST.getReasonPhrase(),
+                ex.getErrorCode(),
+                errors
+        );
+        return ResponseEntity.status(BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse> handleBusinessException(BusinessException ex) {
         String errorCode = ex.getErrorCode() != null ? ex.getErrorCode() : ErrorCodes.BUSINESS_ERROR;
@@ -0,0 +1,92 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.Algorithm.GCRA;
+
+/**
+ * Generic cell rate algorithm: requests are spaced by an emission interval of period / capacity,
+ * and up to the rule capacity may arrive ahead of that spacing, with no more than the rule burst within the same second.
+ * Redis: one hash holding the theoretical arrival time and the count of the current second,
+ * one script call (HMGET, HSET, PEXPIRE) per request.
+ * The key expires as soon as the bucket would be full again, so idle buckets cost nothing.
+ */
+@RequiredArgsConstructor
+@Component
+public class GcraAlgorithm implements RateLimitAlgorithm {
+    private static final String GCRA_KEY_PREFIX = "rate_limit_gcra:";
+
+    /**
+     * Accepts the request when the theoretical arrival time, pushed one interval ahead, stays within the capacity
+     * tolerance of the current Redis time and the current second leaves room in the burst,
+     * and stores the new arrival time. A count of zero only reports.
+     * Returns {accepted, requests still accepted}.
+     * KEYS: arrival time hash. ARGV: emission interval in milliseconds, capacity, burst, count.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local burst = tonumber(ARGV[3])
+            local count = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + tonumber(time[2]) / 1000
+            local second = tonumber(time[1])
+
+            local state = redis.call('HMGET', KEYS[1], 'tat', 'second', 'burst')
+            local tat = math.max(tonumber(state[1]) or now, now)
+            local in_second = 0
+            if tonumber(state[2]) == second then
+                in_second = tonumber(state[3]) or 0
+            end
+            local available = math.min(math.floor((capacity * interval - (tat - now)) / interval), burst - in_second)
+            if count == 0 or available < 1 then
+                return {0, math.max(available, 0)}
+            end
+
+            tat = tat + interval
+            redis.call('HSET', KEYS[1], 'tat', string.format('%.3f', tat), 'second', second, 'burst', in_second + 1)
+            redis.call('PEXPIRE', KEYS[1], math.max(1000, math.ceil(tat - now)))
+            return {1, available - 1}
+            """, List.class);
+
+    private final RateLimitRedisTemplate redisTemplate;
+
+    @Override
+    public RateLimit.Algorithm type() {
+        return GCRA;
+    }
+
+    @Override
+    public boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return ((Number) execute(bucketKey, rule, 1).get(0)).longValue() == 1;
+    }
+
+    @Override
+    public long available(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return ((Number) execute(bucketKey, rule, 0).get(1)).longValue();
+    }
+
+    @Override
+    public void clear(String bucketKey) {
+        redisTemplate.delete(GCRA_KEY_PREFIX + bucketKey);
+    }
+
+    private List<?> execute(String bucketKey, RateLimitConfig.RateLimitRule rule, long count) {
+        double interval = (double) rule.getRefillPeriod().toMillis() / rule.getCapacity();
+        List<?> result = redisTemplate.execute(GCRA_SCRIPT, List.of(GCRA_KEY_PREFIX + bucketKey),
+                String.valueOf(interval),
+                String.valueOf(rule.getCapacity()),
+                String.valueOf(rule.getBurst()),
+                String.valueOf(count));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected GCRA script result: " + result);
+        }
+        return result;
+    }
+}
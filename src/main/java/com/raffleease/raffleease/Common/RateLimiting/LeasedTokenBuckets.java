@@ -0,0 +1,191 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local tier of the rate limiter for high volume rules.
+ * Each instance leases batches of tokens from the shared {@link RedisTokenBucket} and hands them out from a
+ * lock-free local counter, so most requests never reach Redis. Leases are only ever filled in the background:
+ * while a lease is empty or expired, requests take their token straight from the shared bucket and never wait
+ * on another request. Tokens left unused when a lease expires or is cleared are returned to the shared bucket.
+ * A batch is a small fraction of the rule burst, shared by the expected number of instances, so no instance can
+ * drain the burst of a second for the others.
+ * Global limits stay approximately correct: at most one batch per instance and bucket is held locally at any time.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LeasedTokenBuckets {
+    private static final long MIN_BATCH_SIZE = 2;
+
+    private final RedisTokenBucket redisTokenBucket;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ExecutorService leaseExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${rate-limiting.lease.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limiting.lease.min-capacity:500}")
+    private long minCapacity;
+
+    @Value("${rate-limiting.lease.batch-size:20}")
+    private long batchSize;
+
+    @Value("${rate-limiting.lease.ttl-ms:1000}")
+    private long leaseTtlMillis;
+
+    @Value("${rate-limiting.lease.expected-instances:2}")
+    private long expectedInstances;
+
+    /**
+     * Only rules large enough for a batch per instance to be a small fraction of both their capacity and their burst
+     * are leased. Smaller rules keep exact accounting against Redis.
+     */
+    public boolean isLeased(RateLimitConfig.RateLimitRule rule) {
+        return enabled && rule.getCapacity() >= minCapacity && batchSize(rule) >= MIN_BATCH_SIZE;
+    }
+
+    /**
+     * A quarter of the burst of the rule split between the expected instances, and never more than the configured batch size.
+     */
+    private long batchSize(RateLimitConfig.RateLimitRule rule) {
+        return Math.min(batchSize, rule.getBurst() / (4 * Math.max(1, expectedInstances)));
+    }
+
+    public boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        Lease lease = leases.computeIfAbsent(bucketKey, key -> new Lease());
+        long now = System.currentTimeMillis();
+        lease.rule = rule;
+        lease.lastUsed = now;
+
+        if (!lease.isExpired(now) && lease.take()) {
+            if (lease.tokens.get() <= batchSize(rule) / 4) {
+                refreshAsync(bucketKey, rule, lease);
+            }
+            return true;
+        }
+
+        refreshAsync(bucketKey, rule, lease);
+        return redisTokenBucket.take(bucketKey, rule, 1).granted() == 1;
+    }
+
+    /**
+     * Forgets the lease of a bucket, returning its unused tokens to the shared bucket.
+     */
+    public void clear(String bucketKey) {
+        Lease lease = leases.remove(bucketKey);
+        if (lease == null) {
+            return;
+        }
+        long unused;
+        synchronized (lease) {
+            unused = lease.tokens.getAndSet(0);
+        }
+        if (unused > 0) {
+            redisTokenBucket.refund(bucketKey, lease.rule, unused);
+        }
+    }
+
+    /**
+     * Returns the unused tokens of expired leases and forgets buckets that have been idle for a while.
+     */
+    @Scheduled(fixedDelayString = "${rate-limiting.lease.ttl-ms:1000}")
+    public void returnExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leases.forEach((bucketKey, lease) -> {
+            long unused;
+            synchronized (lease) {
+                if (!lease.isExpired(now)) {
+                    return;
+                }
+                unused = lease.tokens.getAndSet(0);
+            }
+            if (unused > 0) {
+                try {
+                    redisTokenBucket.refund(bucketKey, lease.rule, unused);
+                } catch (Exception ex) {
+                    log.debug("Could not return {} leased tokens for key {}: {}", unused, bucketKey, ex.getMessage());
+                }
+            }
+            if (now - lease.lastUsed > leaseTtlMillis * 10) {
+                leases.remove(bucketKey, lease);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseExecutor.shutdownNow();
+    }
+
+    /**
+     * Tops the lease up to a full batch on the lease thread, so it never holds more than one batch locally.
+     * The unused tokens of an expired lease are returned first.
+     */
+    private void refreshAsync(String bucketKey, RateLimitConfig.RateLimitRule rule, Lease lease) {
+        if (!lease.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            leaseExecutor.execute(() -> {
+                try {
+                    synchronized (lease) {
+                        if (lease.isExpired(System.currentTimeMillis())) {
+                            redisTokenBucket.refund(bucketKey, rule, lease.tokens.getAndSet(0));
+                        }
+                        long missing = batchSize(rule) - lease.tokens.get();
+                        if (missing > 0) {
+                            lease.tokens.addAndGet(redisTokenBucket.take(bucketKey, rule, missing).granted());
+                        }
+                        lease.expiresAt = System.currentTimeMillis() + leaseTtlMillis;
+                    }
+                } catch (Exception ex) {
+                    log.debug("Could not refresh token lease for key {}: {}", bucketKey, ex.getMessage());
+                } finally {
+                    lease.refreshing.set(false);
+                }
+            });
+        } catch (Exception ex) {
+            lease.refreshing.set(false);
+        }
+    }
+
+    private static class Lease {
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile RateLimitConfig.RateLimitRule rule;
+        private volatile long expiresAt;
+        private volatile long lastUsed;
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        private boolean take() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
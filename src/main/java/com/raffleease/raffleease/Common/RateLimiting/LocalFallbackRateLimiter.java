@@ -0,0 +1,67 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process token buckets used while Redis is slow or unavailable.
+ * Limits are enforced per instance only, so the API keeps being protected, approximately, without Redis.
+ * Like the shared bucket, each one holds up to the rule capacity and hands out at most the rule burst per second.
+ * Buckets are kept in a bounded Caffeine cache and dropped once idle.
+ */
+@Component
+public class LocalFallbackRateLimiter {
+    private final Cache<String, LocalBucket> buckets;
+
+    public LocalFallbackRateLimiter(
+            @Value("${rate-limiting.fallback.max-buckets:10000}") long maxBuckets,
+            @Value("${rate-limiting.fallback.idle-ms:3600000}") long idleMillis
+    ) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofMillis(idleMillis))
+                .build();
+    }
+
+    public boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return buckets.get(bucketKey, key -> new LocalBucket(rule.getCapacity())).tryAcquire(rule);
+    }
+
+    public void clear(String bucketKey) {
+        buckets.invalidate(bucketKey);
+    }
+
+    private static class LocalBucket {
+        private double tokens;
+        private long refilledAt;
+        private long second;
+        private long inSecond;
+
+        private LocalBucket(long capacity) {
+            this.tokens = capacity;
+            this.refilledAt = System.currentTimeMillis();
+        }
+
+        private synchronized boolean tryAcquire(RateLimitConfig.RateLimitRule rule) {
+            long now = System.currentTimeMillis();
+            if (now > refilledAt) {
+                tokens = Math.min(rule.getCapacity(), tokens + (double) (now - refilledAt) * rule.getCapacity() / rule.getRefillPeriod().toMillis());
+                refilledAt = now;
+            }
+            if (now / 1000 != second) {
+                second = now / 1000;
+                inSecond = 0;
+            }
+            if (tokens < 1 || inSecond >= rule.getBurst()) {
+                return false;
+            }
+            tokens--;
+            inSecond++;
+            return true;
+        }
+    }
+}
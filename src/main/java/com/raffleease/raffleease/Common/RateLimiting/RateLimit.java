@@ -6,6 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.AccessLevel.PRIVATE;
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.Algorithm.TOKEN_BUCKET;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
@@ -41,6 +42,11 @@ public @interface RateLimit {
      * Whether to apply rate limiting per user or globally for the operation
      */
     boolean perUser() default true;
+
+    /**
+     * Algorithm used to enforce the limit
+     */
+    Algorithm algorithm() default TOKEN_BUCKET;
     
     /**
      * Access level enumeration
@@ -49,4 +55,13 @@ public @interface RateLimit {
         PUBLIC,
         PRIVATE
     }
+
+    /**
+     * Rate limiting algorithm enumeration
+     */
+    enum Algorithm {
+        TOKEN_BUCKET,
+        GCRA,
+        SLIDING_WINDOW
+    }
 } 
\ No newline at end of file
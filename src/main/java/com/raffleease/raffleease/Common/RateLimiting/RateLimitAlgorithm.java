@@ -0,0 +1,31 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+/**
+ * Strategy used to enforce a {@link RateLimitConfig.RateLimitRule} on a bucket.
+ * Implementations are Spring beans selected per endpoint through {@link RateLimit#algorithm()},
+ * and each keeps its state under its own Redis key prefix so algorithms never share a key.
+ */
+public interface RateLimitAlgorithm {
+
+    /**
+     * The algorithm implemented by this strategy.
+     */
+    RateLimit.Algorithm type();
+
+    /**
+     * Consumes one request from the bucket.
+     *
+     * @return true if the request is within the limit
+     */
+    boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule);
+
+    /**
+     * Reports the requests that would currently be accepted, without consuming any.
+     */
+    long available(String bucketKey, RateLimitConfig.RateLimitRule rule);
+
+    /**
+     * Removes every state kept for the bucket.
+     */
+    void clear(String bucketKey);
+}
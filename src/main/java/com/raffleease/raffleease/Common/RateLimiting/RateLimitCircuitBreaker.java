@@ -0,0 +1,91 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker guarding the Redis-backed rate limiter.
+ * Opens after a number of consecutive failed or timed out calls, so requests stop waiting on Redis at all,
+ * and lets a single probe through once the open period is over to decide whether to close again.
+ */
+@Slf4j
+@Component
+public class RateLimitCircuitBreaker {
+    private static final String OPENED_METRIC = "rate_limiting.circuit.opened";
+    private static final String OPEN_GAUGE = "rate_limiting.circuit.open";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    @Value("${rate-limiting.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${rate-limiting.circuit-breaker.open-ms:5000}")
+    private long openMillis;
+
+    public RateLimitCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge(OPEN_GAUGE, state, current -> current.get() == State.CLOSED ? 0 : 1);
+    }
+
+    /**
+     * Whether the next call may go to Redis. Once the open period is over, only the first caller is let through as a probe.
+     */
+    public boolean allowsRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        return current == State.OPEN
+                && System.currentTimeMillis() - openedAt.get() >= openMillis
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Rate limiting circuit closed, Redis is reachable again");
+        }
+    }
+
+    public void recordFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * Close the circuit and forget past failures (useful for testing/admin operations)
+     */
+    public void reset() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public boolean isOpen() {
+        return state.get() != State.CLOSED;
+    }
+
+    private void open() {
+        openedAt.set(System.currentTimeMillis());
+        if (state.getAndSet(State.OPEN) == State.CLOSED) {
+            meterRegistry.counter(OPENED_METRIC).increment();
+            log.warn("Rate limiting circuit opened after {} consecutive Redis failures, using local limits for {} ms",
+                    consecutiveFailures.get(), openMillis);
+        }
+    }
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
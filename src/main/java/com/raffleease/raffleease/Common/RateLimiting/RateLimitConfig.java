@@ -44,7 +44,7 @@ public class RateLimitConfig {
     @Value("${rate-limiting.burst.private:15}")
     private int privateBurstLimit;
 
-    @Value("${rate-limiting.burst.public:10}")
+    @Value("${rate-limiting.burst.public:50}")
     private int publicBurstLimit;
 
     @Value("${rate-limiting.burst.general:5}")
@@ -55,21 +55,25 @@ public class RateLimitConfig {
     
     @PostConstruct
     public void initializeMaps() {
-        rateLimits = new HashMap<>();
-        rateLimits.put("private.create", new RateLimitRule(privateCreateRateLimit, Duration.ofHours(1)));
-        rateLimits.put("private.read", new RateLimitRule(privateReadRateLimit, Duration.ofHours(1)));
-        rateLimits.put("private.update", new RateLimitRule(privateUpdateRateLimit, Duration.ofHours(1)));
-        rateLimits.put("private.delete", new RateLimitRule(privateDeleteRateLimit, Duration.ofHours(1)));
-        rateLimits.put("private.upload", new RateLimitRule(privateUploadRateLimit, Duration.ofHours(1)));
-        rateLimits.put("private.test", new RateLimitRule(privateUploadRateLimit, Duration.ofMinutes(1)));
-        rateLimits.put("public.search", new RateLimitRule(publicSearchRateLimit, Duration.ofHours(1)));
-        rateLimits.put("public.read", new RateLimitRule(publicReadRateLimit, Duration.ofHours(1)));
-        rateLimits.put("general.api", new RateLimitRule(generalApiRateLimit, Duration.ofHours(1)));
-        
         burstLimits = new HashMap<>();
         burstLimits.put("private", privateBurstLimit);
         burstLimits.put("public", publicBurstLimit);
         burstLimits.put("general", generalBurstLimit);
+
+        rateLimits = new HashMap<>();
+        rateLimits.put("private.create", rule(privateCreateRateLimit, Duration.ofHours(1), "private"));
+        rateLimits.put("private.read", rule(privateReadRateLimit, Duration.ofHours(1), "private"));
+        rateLimits.put("private.update", rule(privateUpdateRateLimit, Duration.ofHours(1), "private"));
+        rateLimits.put("private.delete", rule(privateDeleteRateLimit, Duration.ofHours(1), "private"));
+        rateLimits.put("private.upload", rule(privateUploadRateLimit, Duration.ofHours(1), "private"));
+        rateLimits.put("private.test", rule(privateUploadRateLimit, Duration.ofMinutes(1), "private"));
+        rateLimits.put("public.search", rule(publicSearchRateLimit, Duration.ofHours(1), "public"));
+        rateLimits.put("public.read", rule(publicReadRateLimit, Duration.ofHours(1), "public"));
+        rateLimits.put("general.api", rule(generalApiRateLimit, Duration.ofHours(1), "general"));
+    }
+
+    private RateLimitRule rule(long capacity, Duration refillPeriod, String burstLevel) {
+        return new RateLimitRule(capacity, refillPeriod, burstLimits.get(burstLevel));
     }
 
     public Map<String, RateLimitRule> getRateLimits() { return rateLimits; }
@@ -84,15 +88,26 @@ public class RateLimitConfig {
         private final long capacity;
         private final Duration refillPeriod;
         private final long refillTokens;
+        private final long burst;
         
         public RateLimitRule(long capacity, Duration refillPeriod) {
+            this(capacity, refillPeriod, capacity);
+        }
+
+        /**
+         * @param burst the most requests accepted within one second, capped at the capacity.
+         *              Every algorithm enforces it next to the capacity of the period.
+         */
+        public RateLimitRule(long capacity, Duration refillPeriod, long burst) {
             this.capacity = capacity;
             this.refillPeriod = refillPeriod;
             this.refillTokens = capacity;
+            this.burst = Math.max(1, Math.min(burst, capacity));
         }
         
         public long getCapacity() { return capacity; }
         public Duration getRefillPeriod() { return refillPeriod; }
         public long getRefillTokens() { return refillTokens; }
+        public long getBurst() { return burst; }
     }
 } 
\ No newline at end of file
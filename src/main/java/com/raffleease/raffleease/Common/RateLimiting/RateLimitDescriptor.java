@@ -0,0 +1,32 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+/**
+ * Immutable, precompiled form of a {@link RateLimit} annotation.
+ * Everything that does not depend on the request is resolved once, so a rate limit check
+ * only has to append the association and user to {@code scope} to build its bucket key.
+ *
+ * @param operation the operation type of the annotation
+ * @param accessLevel the access level of the annotation
+ * @param accessLevelName the lower case access level, as used in keys and logs
+ * @param rule the resolved rule, falling back to the general limit for unknown operations
+ * @param algorithm the algorithm enforcing the rule
+ * @param scope the interned key suffix shared by every bucket of the annotation
+ * @param perUser whether a bucket is kept per authenticated user
+ * @param message the message returned when the limit is exceeded
+ * @param associationIdIndex the position of the associationId parameter, or -1 if the method has none
+ */
+public record RateLimitDescriptor(
+        String operation,
+        RateLimit.AccessLevel accessLevel,
+        String accessLevelName,
+        RateLimitConfig.RateLimitRule rule,
+        RateLimitAlgorithm algorithm,
+        String scope,
+        boolean perUser,
+        String message,
+        int associationIdIndex
+) {
+    public Long associationId(Object[] args) {
+        return associationIdIndex >= 0 ? (Long) args[associationIdIndex] : null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * String template of the rate limiter, owning a dedicated connection with a short command timeout.
+ * A distinct type so the rate limiting components can inject it without qualifiers.
+ */
+public class RateLimitRedisTemplate extends RedisTemplate<String, String> implements DisposableBean {
+    private final LettuceConnectionFactory connectionFactory;
+
+    public RateLimitRedisTemplate(LettuceConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        setConnectionFactory(connectionFactory);
+        setKeySerializer(new StringRedisSerializer());
+        setValueSerializer(new StringRedisSerializer());
+        setHashKeySerializer(new StringRedisSerializer());
+        setHashValueSerializer(new StringRedisSerializer());
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactory.destroy();
+    }
+}
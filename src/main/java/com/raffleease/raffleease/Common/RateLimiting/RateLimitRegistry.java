@@ -0,0 +1,103 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import com.raffleease.raffleease.Common.Utils.AspectUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.AccessLevel.PRIVATE;
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.Algorithm.TOKEN_BUCKET;
+
+/**
+ * Compiles every {@link RateLimit} annotation of the application controllers into a {@link RateLimitDescriptor}
+ * once the context is refreshed. Methods not seen at startup are compiled on their first call.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RateLimitRegistry {
+    private static final String FALLBACK_RULE = "general.api";
+    private static final String ASSOCIATION_ID_PARAMETER = "associationId";
+
+    private final RateLimitConfig rateLimitConfig;
+    private final ApplicationContext applicationContext;
+    private final List<RateLimitAlgorithm> algorithms;
+    private final Map<Method, RateLimitDescriptor> descriptorsByMethod = new ConcurrentHashMap<>();
+    private final Map<String, RateLimitDescriptor> descriptorsByName = new ConcurrentHashMap<>();
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void compileControllers() {
+        for (Object controller : applicationContext.getBeansWithAnnotation(Controller.class).values()) {
+            ReflectionUtils.doWithMethods(AopUtils.getTargetClass(controller), method -> {
+                RateLimit rateLimit = AnnotatedElementUtils.findMergedAnnotation(method, RateLimit.class);
+                if (rateLimit != null) {
+                    descriptorsByMethod.computeIfAbsent(method, key -> compile(key, rateLimit));
+                }
+            });
+        }
+        log.info("Compiled {} rate limit descriptors", descriptorsByMethod.size());
+    }
+
+    /**
+     * Returns the descriptor of an annotated method, compiling it on first use if it was not found at startup.
+     */
+    public RateLimitDescriptor get(Method method, RateLimit rateLimit) {
+        RateLimitDescriptor descriptor = descriptorsByMethod.get(method);
+        return descriptor != null ? descriptor : descriptorsByMethod.computeIfAbsent(method, key -> compile(key, rateLimit));
+    }
+
+    /**
+     * Returns the descriptor for an operation checked outside of an annotated method.
+     */
+    public RateLimitDescriptor get(String operation, RateLimit.AccessLevel accessLevel, boolean perUser) {
+        String name = accessLevel.name() + "." + operation + "." + perUser;
+        return descriptorsByName.computeIfAbsent(name, key -> describe(operation, accessLevel, perUser, TOKEN_BUCKET, null, -1));
+    }
+
+    private RateLimitDescriptor compile(Method method, RateLimit rateLimit) {
+        int associationIdIndex = AspectUtils.findParameterIndex(method, ASSOCIATION_ID_PARAMETER, Long.class);
+        return describe(rateLimit.operation(), rateLimit.accessLevel(), rateLimit.perUser(), rateLimit.algorithm(),
+                rateLimit.message(), associationIdIndex);
+    }
+
+    private RateLimitDescriptor describe(String operation, RateLimit.AccessLevel accessLevel, boolean perUser,
+                                         RateLimit.Algorithm algorithm, String message, int associationIdIndex) {
+        String accessLevelName = accessLevel.name().toLowerCase(Locale.ROOT).intern();
+        RateLimitConfig.RateLimitRule rule = rateLimitConfig.getRateLimits().get(accessLevelName + "." + operation);
+        if (rule == null) {
+            rule = rateLimitConfig.getRateLimits().get(FALLBACK_RULE);
+            log.debug("Using fallback rate limit for operation: {}", operation);
+        }
+        return new RateLimitDescriptor(
+                operation.intern(),
+                accessLevel,
+                accessLevelName,
+                rule,
+                findAlgorithm(algorithm),
+                (":" + accessLevelName + ":" + operation).intern(),
+                perUser && accessLevel == PRIVATE,
+                message,
+                associationIdIndex
+        );
+    }
+
+    private RateLimitAlgorithm findAlgorithm(RateLimit.Algorithm type) {
+        return algorithms.stream()
+                .filter(algorithm -> algorithm.type() == type)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No rate limit algorithm registered for " + type));
+    }
+}
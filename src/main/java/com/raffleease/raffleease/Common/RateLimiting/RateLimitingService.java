@@ -1,201 +1,139 @@
 package com.raffleease.raffleease.Common.RateLimiting;
 
-import com.raffleease.raffleease.Domains.Users.Model.User;
-import com.raffleease.raffleease.Domains.Users.Services.UsersService;
+import com.raffleease.raffleease.Domains.Users.Model.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
-
-import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.AccessLevel.PRIVATE;
-
 /**
- * Service for managing rate limiting using Redis-backed token bucket algorithm.
+ * Service for managing rate limiting with Redis-backed algorithms.
+ * Each endpoint selects its {@link RateLimitAlgorithm} through {@link RateLimit#algorithm()}, the token bucket by default.
  * Provides access-level based rate limiting for different operations.
  */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RateLimitingService {
-    private final UsersService usersService;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final RateLimitConfig rateLimitConfig;
+    private static final String GLOBAL_SCOPE = "global";
+    private static final String FALLBACK_METRIC = "rate_limiting.fallback";
+
+    private final RateLimitRegistry rateLimitRegistry;
+    private final RateLimitCircuitBreaker circuitBreaker;
+    private final LocalFallbackRateLimiter localFallbackRateLimiter;
+    private final MeterRegistry meterRegistry;
 
-    private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
-    private static final String RATE_LIMIT_REFILL_KEY_PREFIX = "rate_limit_refill:";
-    
     /**
      * Check if a request is allowed based on rate limiting rules
      */
     public boolean isRequestAllowed(String operation, RateLimit.AccessLevel accessLevel, Long associationId, boolean perUser) {
-        try {
-            String bucketKey = buildBucketKey(operation, accessLevel, associationId, perUser);
-            RateLimitConfig.RateLimitRule rule = getRateLimitRule(operation, accessLevel);
-            return consumeToken(bucketKey, rule);
-        } catch (Exception e) {
-            log.error("Error checking rate limit for operation {}: {}", operation, e.getMessage());
-            return false;
-        }
+        return isRequestAllowed(rateLimitRegistry.get(operation, accessLevel, perUser), associationId);
     }
-    
+
     /**
-     * Consume a token from the Redis-backed token bucket
+     * Check if a request is allowed based on a precompiled rate limit descriptor.
+     * Fails open: an unexpected error never rejects the request.
      */
-    private boolean consumeToken(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+    public boolean isRequestAllowed(RateLimitDescriptor descriptor, Long associationId) {
         try {
-            String tokenKey = RATE_LIMIT_KEY_PREFIX + bucketKey;
-            String refillKey = RATE_LIMIT_REFILL_KEY_PREFIX + bucketKey;
-            
-            // Get current token count and last refill time
-            String currentTokensStr = redisTemplate.opsForValue().get(tokenKey);
-            String lastRefillStr = redisTemplate.opsForValue().get(refillKey);
-            
-            long currentTokens = currentTokensStr != null ? Long.parseLong(currentTokensStr) : rule.getCapacity();
-            long lastRefillTime = lastRefillStr != null ? Long.parseLong(lastRefillStr) : Instant.now().toEpochMilli();
-            
-            // Calculate tokens to add based on time elapsed
-            long now = Instant.now().toEpochMilli();
-            long timeElapsed = now - lastRefillTime;
-            long tokensToAdd = calculateTokensToAdd(timeElapsed, rule);
-            
-            // Refill tokens up to capacity
-            long newTokenCount = Math.min(currentTokens + tokensToAdd, rule.getCapacity());
-            
-            // Check if a token can be consumed
-            if (newTokenCount > 0) {
-                // Consume one token
-                newTokenCount--;
-                
-                // Update Redis with new values
-                Duration ttl = rule.getRefillPeriod().multipliedBy(2);
-                redisTemplate.opsForValue().set(tokenKey, String.valueOf(newTokenCount), ttl.toMillis(), TimeUnit.MILLISECONDS);
-                redisTemplate.opsForValue().set(refillKey, String.valueOf(now), ttl.toMillis(), TimeUnit.MILLISECONDS);
-                
-                log.debug("Rate limit check passed for operation: {} (tokens remaining: {})", bucketKey, newTokenCount);
-                return true;
-            } else {
-                // Update last refill time even if no tokens available
-                redisTemplate.opsForValue().set(refillKey, String.valueOf(now), 
-                                              rule.getRefillPeriod().multipliedBy(2).toMillis(), 
-                                              TimeUnit.MILLISECONDS);
-                
-                String userInfo = getUserInfo();
-                log.warn("Rate limit exceeded for user {} on operation: {}", userInfo, bucketKey);
-                return false;
-            }
-            
-        } catch (NumberFormatException e) {
-            log.error("Invalid number format in Redis rate limit data for key: {}", bucketKey, e);
-            return false;
+            String bucketKey = buildBucketKey(descriptor, associationId);
+            return consumeToken(bucketKey, descriptor);
         } catch (Exception e) {
-            log.error("Redis error during rate limit check for key: {}", bucketKey, e);
-            return false;
+            log.error("Error checking rate limit for operation {}: {}", descriptor.operation(), e.getMessage());
+            return true;
         }
     }
-    
+
     /**
-     * Calculate how many tokens to add based on elapsed time
+     * Consume one request from the bucket with the algorithm selected for the endpoint.
+     * Redis calls are bounded by the command timeout of {@link RateLimitRedisTemplate}; when they fail, time out
+     * or the circuit is open, the request is checked against the local fallback limiter instead of being rejected.
      */
-    private long calculateTokensToAdd(long timeElapsedMs, RateLimitConfig.RateLimitRule rule) {
-        if (timeElapsedMs <= 0) {
-            return 0;
+    private boolean consumeToken(String bucketKey, RateLimitDescriptor descriptor) {
+        boolean allowed;
+        if (!circuitBreaker.allowsRequest()) {
+            allowed = consumeLocalToken(bucketKey, descriptor, "circuit_open");
+        } else {
+            try {
+                allowed = descriptor.algorithm().tryAcquire(bucketKey, descriptor.rule());
+                circuitBreaker.recordSuccess();
+            } catch (Exception e) {
+                circuitBreaker.recordFailure();
+                log.warn("Redis error during rate limit check for key: {}, using local limits: {}", bucketKey, e.getMessage());
+                allowed = consumeLocalToken(bucketKey, descriptor, "redis_error");
+            }
         }
-        
-        double tokensPerMs = (double) rule.getRefillTokens() / rule.getRefillPeriod().toMillis();
-        return (long) (timeElapsedMs * tokensPerMs);
-    }
-    
-    /**
-     * Get the appropriate rate limit rule for the operation and access level
-     */
-    private RateLimitConfig.RateLimitRule getRateLimitRule(String operation, RateLimit.AccessLevel accessLevel) {
-        String accessPrefix = accessLevel.name().toLowerCase();
-        String ruleKey = accessPrefix + "." + operation;
-        RateLimitConfig.RateLimitRule rule = rateLimitConfig.getRateLimits().get(ruleKey);
-        if (rule == null) {
-            rule = rateLimitConfig.getRateLimits().get("general.api");
-            log.debug("Using fallback rate limit for operation: {}", operation);
+
+        if (!allowed) {
+            log.warn("Rate limit exceeded for user {} on operation: {}", getUserInfo(), bucketKey);
         }
-        return rule;
+        return allowed;
     }
-    
+
+    private boolean consumeLocalToken(String bucketKey, RateLimitDescriptor descriptor, String reason) {
+        meterRegistry.counter(FALLBACK_METRIC, "reason", reason).increment();
+        return localFallbackRateLimiter.tryAcquire(bucketKey, descriptor.rule());
+    }
+
     /**
-     * Build unique bucket key for the rate limiting scope
+     * Build unique bucket key for the rate limiting scope.
+     * The user is taken from the security principal already populated for the request, without querying the database.
      */
-    private String buildBucketKey(String operation, RateLimit.AccessLevel accessLevel, Long associationId, boolean perUser) {
-        StringBuilder keyBuilder = new StringBuilder();
-        keyBuilder.append(associationId != null ? associationId : "global").append(":");
-        keyBuilder.append(accessLevel.name().toLowerCase()).append(":");
-        keyBuilder.append(operation);
-        
-        if (perUser && accessLevel == PRIVATE) {
-            try {
-                User user = usersService.getAuthenticatedUser();
-                keyBuilder.append(":").append(user.getId());
-            } catch (Exception e) {
-                log.debug("Could not get authenticated user for per-user rate limiting: {}", e.getMessage());
-            }
+    private String buildBucketKey(RateLimitDescriptor descriptor, Long associationId) {
+        Object association = associationId != null ? associationId : GLOBAL_SCOPE;
+        if (!descriptor.perUser()) {
+            return association + descriptor.scope();
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return association + descriptor.scope();
+        }
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return association + descriptor.scope() + ":" + userDetails.user().getId();
         }
-        return keyBuilder.toString();
+        return association + descriptor.scope() + ":" + authentication.getName();
     }
-    
+
     /**
      * Get user info for logging
      */
     private String getUserInfo() {
-        try {
-            User user = usersService.getAuthenticatedUser();
-            return user.getUserName();
-        } catch (Exception e) {
-            return "unknown";
-        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "unknown";
     }
-    
+
     /**
      * Get current available tokens for monitoring/debugging
      */
-    public long getAvailableTokens(String operation, RateLimit.AccessLevel accessLevel, 
+    public long getAvailableTokens(String operation, RateLimit.AccessLevel accessLevel,
                                   Long associationId, boolean perUser) {
         try {
-            String bucketKey = buildBucketKey(operation, accessLevel, associationId, perUser);
-            String tokenKey = RATE_LIMIT_KEY_PREFIX + bucketKey;
-            
-            String currentTokensStr = redisTemplate.opsForValue().get(tokenKey);
-            if (currentTokensStr != null) {
-                return Long.parseLong(currentTokensStr);
-            }
-            
-            // If no key exists, return full capacity
-            RateLimitConfig.RateLimitRule rule = getRateLimitRule(operation, accessLevel);
-            return rule.getCapacity();
-            
+            RateLimitDescriptor descriptor = rateLimitRegistry.get(operation, accessLevel, perUser);
+            return descriptor.algorithm().available(buildBucketKey(descriptor, associationId), descriptor.rule());
         } catch (Exception e) {
             log.error("Error getting available tokens for operation {}: {}", operation, e.getMessage());
             return 0;
         }
     }
-    
+
     /**
      * Clear rate limit data for a specific key (useful for testing/admin operations)
      */
-    public void clearRateLimit(String operation, RateLimit.AccessLevel accessLevel, 
+    public void clearRateLimit(String operation, RateLimit.AccessLevel accessLevel,
                               Long associationId, boolean perUser) {
         try {
-            String bucketKey = buildBucketKey(operation, accessLevel, associationId, perUser);
-            String tokenKey = RATE_LIMIT_KEY_PREFIX + bucketKey;
-            String refillKey = RATE_LIMIT_REFILL_KEY_PREFIX + bucketKey;
-            
-            redisTemplate.delete(tokenKey);
-            redisTemplate.delete(refillKey);
-            
+            RateLimitDescriptor descriptor = rateLimitRegistry.get(operation, accessLevel, perUser);
+            String bucketKey = buildBucketKey(descriptor, associationId);
+            descriptor.algorithm().clear(bucketKey);
+            localFallbackRateLimiter.clear(bucketKey);
+
             log.info("Cleared rate limit data for key: {}", bucketKey);
         } catch (Exception e) {
             log.error("Error clearing rate limit for operation {}: {}", operation, e.getMessage());
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis-backed token bucket shared by every application instance.
+ * Each operation is a single EVALSHA of an atomic Lua script, falling back to EVAL when the script is not cached yet.
+ */
+@RequiredArgsConstructor
+@Component
+public class RedisTokenBucket {
+    private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
+
+    /**
+     * Refills the bucket for the time elapsed since its last refill and then, in one atomic step:
+     * takes up to the requested tokens for a positive count, returns tokens for a negative count,
+     * or only reports the available tokens without writing for a count of zero.
+     * No more than the rule burst is handed out within the same second, counted in the same hash.
+     * Tokens, refill time and the count of the current second live in a single hash, and the time is read from Redis
+     * so every instance shares the same clock.
+     * Returns {granted tokens, tokens still available}.
+     * KEYS: bucket hash. ARGV: capacity, refill period in milliseconds, time to live in milliseconds, token count, burst.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_period = tonumber(ARGV[2])
+            local count = tonumber(ARGV[4])
+            local burst = tonumber(ARGV[5])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local second = tonumber(time[1])
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'refilled_at', 'second', 'burst')
+            local tokens = tonumber(bucket[1]) or capacity
+            local refilled_at = tonumber(bucket[2]) or now
+            if now > refilled_at then
+                tokens = math.min(capacity, tokens + (now - refilled_at) * capacity / refill_period)
+            end
+            local in_second = 0
+            if tonumber(bucket[3]) == second then
+                in_second = tonumber(bucket[4]) or 0
+            end
+            if count == 0 then
+                return {0, math.max(0, math.min(math.floor(tokens), burst - in_second))}
+            end
+
+            local granted = 0
+            if count < 0 then
+                tokens = math.min(capacity, tokens - count)
+                in_second = math.max(0, in_second + count)
+            else
+                granted = math.max(0, math.min(count, math.floor(tokens), burst - in_second))
+                tokens = tokens - granted
+                in_second = in_second + granted
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'refilled_at', now, 'second', second, 'burst', in_second)
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return {granted, math.max(0, math.min(math.floor(tokens), burst - in_second))}
+            """, List.class);
+
+    private final RateLimitRedisTemplate redisTemplate;
+
+    /**
+     * Takes up to the requested number of tokens from the bucket.
+     */
+    public Grant take(String bucketKey, RateLimitConfig.RateLimitRule rule, long tokens) {
+        return execute(bucketKey, rule, tokens);
+    }
+
+    /**
+     * Returns unused tokens to the bucket, never exceeding its capacity.
+     * Tokens returned within the second they were taken no longer count against its burst.
+     */
+    public void refund(String bucketKey, RateLimitConfig.RateLimitRule rule, long tokens) {
+        if (tokens > 0) {
+            execute(bucketKey, rule, -tokens);
+        }
+    }
+
+    /**
+     * Reports the tokens currently available in the bucket.
+     */
+    public long peek(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return execute(bucketKey, rule, 0).remaining();
+    }
+
+    public void clear(String bucketKey) {
+        redisTemplate.delete(RATE_LIMIT_KEY_PREFIX + bucketKey);
+    }
+
+    private Grant execute(String bucketKey, RateLimitConfig.RateLimitRule rule, long count) {
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(RATE_LIMIT_KEY_PREFIX + bucketKey),
+                String.valueOf(rule.getCapacity()),
+                String.valueOf(rule.getRefillPeriod().toMillis()),
+                String.valueOf(rule.getRefillPeriod().multipliedBy(2).toMillis()),
+                String.valueOf(count),
+                String.valueOf(rule.getBurst()));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected token bucket script result: " + result);
+        }
+        return new Grant(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue());
+    }
+
+    /**
+     * Outcome of a bucket operation: the tokens handed out and the tokens left in the bucket.
+     */
+    public record Grant(long granted, long remaining) {
+    }
+}
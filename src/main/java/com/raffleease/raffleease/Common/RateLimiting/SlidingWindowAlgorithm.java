@@ -0,0 +1,103 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.Algorithm.SLIDING_WINDOW;
+
+/**
+ * Sliding window counter: the requests of the current fixed window are added to those of the previous one,
+ * weighted by how much of it still overlaps the sliding window, and must stay below the rule capacity.
+ * Unlike a sliding log it keeps two counters instead of one entry per request.
+ * Bursts are capped at the rule burst per second with a second counter in the same hash.
+ * Redis: one hash of five fields per key, one script call (HMGET, HSET, PEXPIRE) per request.
+ */
+@RequiredArgsConstructor
+@Component
+public class SlidingWindowAlgorithm implements RateLimitAlgorithm {
+    private static final String WINDOW_KEY_PREFIX = "rate_limit_window:";
+
+    /**
+     * Rolls the counters over to the current window and second, accepts the request when both the weighted window
+     * count and the count of the current second leave room for it, and increments both. A count of zero only reports.
+     * Returns {accepted, requests still accepted}.
+     * KEYS: window hash. ARGV: capacity, window in milliseconds, burst, count.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local burst = tonumber(ARGV[3])
+            local count = tonumber(ARGV[4])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window_start = now - (now % window)
+            local second = tonumber(time[1])
+
+            local state = redis.call('HMGET', KEYS[1], 'window', 'current', 'previous', 'second', 'burst')
+            local stored_window = tonumber(state[1])
+            local current = tonumber(state[2]) or 0
+            local previous = tonumber(state[3]) or 0
+            if stored_window ~= window_start then
+                if stored_window == window_start - window then
+                    previous = current
+                else
+                    previous = 0
+                end
+                current = 0
+            end
+            local in_second = 0
+            if tonumber(state[4]) == second then
+                in_second = tonumber(state[5]) or 0
+            end
+
+            local weight = (window - (now - window_start)) / window
+            local available = math.min(math.floor(capacity - previous * weight - current), burst - in_second)
+            if count == 0 or available < 1 then
+                return {0, math.max(available, 0)}
+            end
+
+            redis.call('HSET', KEYS[1], 'window', window_start, 'current', current + 1, 'previous', previous,
+                    'second', second, 'burst', in_second + 1)
+            redis.call('PEXPIRE', KEYS[1], window * 2)
+            return {1, available - 1}
+            """, List.class);
+
+    private final RateLimitRedisTemplate redisTemplate;
+
+    @Override
+    public RateLimit.Algorithm type() {
+        return SLIDING_WINDOW;
+    }
+
+    @Override
+    public boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return ((Number) execute(bucketKey, rule, 1).get(0)).longValue() == 1;
+    }
+
+    @Override
+    public long available(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return ((Number) execute(bucketKey, rule, 0).get(1)).longValue();
+    }
+
+    @Override
+    public void clear(String bucketKey) {
+        redisTemplate.delete(WINDOW_KEY_PREFIX + bucketKey);
+    }
+
+    private List<?> execute(String bucketKey, RateLimitConfig.RateLimitRule rule, long count) {
+        List<?> result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(WINDOW_KEY_PREFIX + bucketKey),
+                String.valueOf(rule.getCapacity()),
+                String.valueOf(rule.getRefillPeriod().toMillis()),
+                String.valueOf(rule.getBurst()),
+                String.valueOf(count));
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected sliding window script result: " + result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.Algorithm.TOKEN_BUCKET;
+
+/**
+ * Token bucket refilled continuously over the rule period, holding up to its full capacity,
+ * with no more than the rule burst handed out within the same second.
+ * High volume rules are served from tokens leased locally by {@link LeasedTokenBuckets},
+ * the rest take one token from the shared {@link RedisTokenBucket} on every request.
+ * Redis: one hash of four fields per key, one script call (HMGET, HSET, PEXPIRE) per request.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenBucketAlgorithm implements RateLimitAlgorithm {
+    private final RedisTokenBucket redisTokenBucket;
+    private final LeasedTokenBuckets leasedTokenBuckets;
+
+    @Override
+    public RateLimit.Algorithm type() {
+        return TOKEN_BUCKET;
+    }
+
+    @Override
+    public boolean tryAcquire(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        if (leasedTokenBuckets.isLeased(rule)) {
+            return leasedTokenBuckets.tryAcquire(bucketKey, rule);
+        }
+        RedisTokenBucket.Grant grant = redisTokenBucket.take(bucketKey, rule, 1);
+        if (grant.granted() == 1) {
+            log.debug("Rate limit check passed for operation: {} (tokens remaining: {})", bucketKey, grant.remaining());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long available(String bucketKey, RateLimitConfig.RateLimitRule rule) {
+        return redisTokenBucket.peek(bucketKey, rule);
+    }
+
+    @Override
+    public void clear(String bucketKey) {
+        leasedTokenBuckets.clear(bucketKey);
+        redisTokenBucket.clear(bucketKey);
+    }
+}
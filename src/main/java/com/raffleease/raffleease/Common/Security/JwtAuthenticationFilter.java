@@ -3,16 +3,20 @@ package com.raffleease.raffleease.Common.Security;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensQueryService;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensValidateService;
 import com.raffleease.raffleease.Domains.Users.Model.CustomUserDetails;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
 import com.raffleease.raffleease.Domains.Users.Model.User;
-import com.raffleease.raffleease.Domains.Users.Services.UsersService;
+import com.raffleease.raffleease.Domains.Users.Services.MembershipVersionsService;
+import com.raffleease.raffleease.Domains.Users.Services.UsersCacheService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,12 +27,14 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.util.Objects;
 
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokensQueryService tokenQueryService;
     private final TokensValidateService tokenValidationService;
-    private final UsersService usersService;
+    private final UsersCacheService usersCacheService;
+    private final MembershipVersionsService membershipVersionsService;
 
     @Override
     protected void doFilterInternal(
@@ -48,14 +54,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
-        boolean isTokenValid;
+        Claims claims;
         try {
-            isTokenValid = tokenValidationService.isTokenValid(jwt);
+            claims = tokenQueryService.getClaims(jwt);
         } catch (AuthorizationException ex) {
-            isTokenValid = false;
+            claims = null;
         }
 
-        if (!isTokenValid) {
+        if (Objects.isNull(claims) || !tokenValidationService.isTokenValid(claims)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -65,11 +71,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String subject = tokenQueryService.getSubject(jwt);
-        Long userId = Long.parseLong(subject);
+        Long userId = Long.parseLong(claims.getSubject());
         User user;
         try {
-            user = usersService.findById(userId);
+            user = usersCacheService.findUser(userId);
         } catch (NotFoundException ex) {
             filterChain.doFilter(request, response);
             return;
@@ -78,6 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         UserDetails userDetails = CustomUserDetails.builder()
                 .user(user)
                 .identifier(user.getEmail())
+                .membership(currentMembership(claims, userId))
                 .build();
 
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -94,4 +100,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the membership signed into the token unless a newer membership version has been published for the user.
+     * Tokens issued before a membership change, or without membership claims, fall back to the current membership until they are refreshed.
+     */
+    private MembershipSnapshot currentMembership(Claims claims, Long userId) {
+        MembershipSnapshot tokenMembership = tokenQueryService.getMembership(claims);
+        if (Objects.nonNull(tokenMembership) && membershipVersionsService.isCurrent(userId, tokenMembership.version())) {
+            return tokenMembership;
+        }
+        if (Objects.nonNull(tokenMembership)) {
+            log.debug("Membership claims of token for user {} are outdated, using the current membership", userId);
+        }
+        try {
+            return usersCacheService.findMembership(userId);
+        } catch (NotFoundException ex) {
+            return null;
+        }
+    }
+}
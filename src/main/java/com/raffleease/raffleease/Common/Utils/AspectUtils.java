@@ -25,9 +25,22 @@ public class AspectUtils {
      */
     public static <T> T extractParameterValue(JoinPoint joinPoint, String parameterName, Class<T> type) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+        int index = findParameterIndex(signature.getMethod(), parameterName, type);
+        return index >= 0 ? type.cast(joinPoint.getArgs()[index]) : null;
+    }
+
+    /**
+     * Find the position of a parameter by name and type in the method signature.
+     * Supports both @PathVariable annotated parameters and direct parameter name matching.
+     * Allows the lookup to be resolved once per method instead of on every call.
+     * 
+     * @param method the method to inspect
+     * @param parameterName the name of the parameter to find
+     * @param type the expected type of the parameter
+     * @return the index of the parameter, or -1 if not found or type mismatch
+     */
+    public static int findParameterIndex(Method method, String parameterName, Class<?> type) {
         Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
 
         for (int i = 0; i < parameters.length; i++) {
             Parameter parameter = parameters[i];
@@ -40,17 +53,17 @@ public class AspectUtils {
                     pathVarName = parameter.getName();
                 }
                 if (parameterName.equals(pathVarName) && type.isAssignableFrom(parameter.getType())) {
-                    return type.cast(args[i]);
+                    return i;
                 }
             }
             
             // Fallback: check parameter name directly
             if (parameterName.equals(parameter.getName()) && type.isAssignableFrom(parameter.getType())) {
-                return type.cast(args[i]);
+                return i;
             }
         }
         
-        return null;
+        return -1;
     }
 
     /**
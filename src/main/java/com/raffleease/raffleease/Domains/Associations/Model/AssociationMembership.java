@@ -34,4 +34,11 @@ public class AssociationMembership {
     @Enumerated(STRING)
     @Column(nullable = false)
     private AssociationRole role;
+
+    /**
+     * Incremented on every change of the membership, invalidating the membership claims of issued access tokens.
+     */
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
 }
\ No newline at end of file
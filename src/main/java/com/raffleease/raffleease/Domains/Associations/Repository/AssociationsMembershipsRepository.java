@@ -12,4 +12,5 @@ import java.util.Optional;
 public interface AssociationsMembershipsRepository extends JpaRepository<AssociationMembership, Long> {
     boolean existsByAssociationAndUser(Association association, User user);
     Optional<AssociationMembership> findByUser(User user);
+    Optional<AssociationMembership> findByUserId(Long userId);
 }
@@ -8,6 +8,8 @@ import com.raffleease.raffleease.Domains.Associations.Model.AssociationRole;
 import com.raffleease.raffleease.Domains.Associations.Repository.AssociationsMembershipsRepository;
 import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
 import com.raffleease.raffleease.Domains.Users.Model.User;
+import com.raffleease.raffleease.Domains.Users.Services.MembershipVersionsService;
+import com.raffleease.raffleease.Domains.Users.Services.UsersCacheService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class AssociationsMembershipServiceImpl implements AssociationsMembershipService {
     private final AssociationsMembershipsRepository repository;
+    private final UsersCacheService usersCacheService;
+    private final MembershipVersionsService membershipVersionsService;
 
     @Override
     public AssociationMembership createMembership(Association association, User user, AssociationRole role) {
@@ -54,7 +58,10 @@ public class AssociationsMembershipServiceImpl implements AssociationsMembership
     public AssociationMembership updateUserRole(User user, AssociationRole newRole) {
         AssociationMembership membership = findByUser(user);
         membership.setRole(newRole);
-        return repository.save(membership);
+        AssociationMembership updatedMembership = repository.saveAndFlush(membership);
+        usersCacheService.evict(user.getId());
+        membershipVersionsService.publish(user.getId(), updatedMembership.getVersion());
+        return updatedMembership;
     }
 
     private AssociationMembership save(AssociationMembership membership) {
@@ -1,7 +1,6 @@
 package com.raffleease.raffleease.Domains.Auth.Services.Impl;
 
 import com.raffleease.raffleease.Domains.Associations.Model.AssociationRole;
-import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
 import com.raffleease.raffleease.Domains.Auth.Services.AuthorizationService;
 import com.raffleease.raffleease.Domains.Users.Model.User;
 import com.raffleease.raffleease.Domains.Users.Services.UsersService;
@@ -19,7 +18,6 @@ import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRo
 @Service
 public class AuthorizationServiceImpl implements AuthorizationService {
     private final UsersService usersService;
-    private final AssociationsMembershipService membershipService;
     
     // Role hierarchy: ADMIN > MEMBER > COLLABORATOR
     private static final Map<AssociationRole, Integer> ROLE_HIERARCHY = Map.of(
@@ -31,8 +29,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     @Override
     public boolean hasRole(Long associationId, AssociationRole requiredRole) {
         try {
-            User user = usersService.getAuthenticatedUser();
-            AssociationRole userRole = membershipService.getUserRoleInAssociation(user);
+            AssociationRole userRole = usersService.getAuthenticatedMembership().role();
             return hasRoleHierarchy(userRole, requiredRole);
         } catch (Exception e) {
             log.debug("Failed to check role for association {}: {}", associationId, e.getMessage());
@@ -59,7 +56,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     public void requireRole(Long associationId, AssociationRole requiredRole, String message) {
         if (!hasRole(associationId, requiredRole)) {
             User user = usersService.getAuthenticatedUser();
-            AssociationRole userRole = membershipService.getUserRoleInAssociation(user);
+            AssociationRole userRole = usersService.getAuthenticatedMembership().role();
             
             log.warn("Access denied for user {} with role {} trying to access resource requiring {}", 
                     user.getUserName(), userRole, requiredRole);
@@ -2,11 +2,7 @@ package com.raffleease.raffleease.Domains.Auth.Validations.Interceptors;
 
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthenticationException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
-import com.raffleease.raffleease.Domains.Associations.Model.Association;
-import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
-import com.raffleease.raffleease.Domains.Associations.Services.AssociationsService;
 import com.raffleease.raffleease.Domains.Auth.Validations.ValidateAssociationAccess;
-import com.raffleease.raffleease.Domains.Users.Model.User;
 import com.raffleease.raffleease.Domains.Users.Services.UsersService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -24,9 +20,7 @@ import static org.springframework.web.servlet.HandlerMapping.URI_TEMPLATE_VARIAB
 @RequiredArgsConstructor
 @Component
 public class AssociationAccessInterceptor implements HandlerInterceptor {
-    private final AssociationsService associationsService;
     private final UsersService usersService;
-    private final AssociationsMembershipService membershipsService;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
@@ -51,12 +45,10 @@ public class AssociationAccessInterceptor implements HandlerInterceptor {
             throw new AuthorizationException("Invalid association ID format");
         }
 
-        String identifier = auth.getName();
-        User user = usersService.findByIdentifier(identifier);
-        
         try {
-            Association association = associationsService.findById(associationId);
-            membershipsService.validateIsMember(association, user);
+            if (!associationId.equals(usersService.getAuthenticatedMembership().associationId())) {
+                throw new AuthorizationException("User is not a member of the association");
+            }
             return true;
         } catch (Exception ex) {
             throw new AuthorizationException("You are not allowed to access this association");
@@ -1,9 +1,8 @@
 package com.raffleease.raffleease.Domains.Carts.Jobs;
 
-import com.raffleease.raffleease.Domains.Carts.Model.Cart;
-import com.raffleease.raffleease.Domains.Carts.Repository.CartsRepository;
 import com.raffleease.raffleease.Domains.Carts.Services.CartLifecycleService;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,33 +10,53 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
+/**
+ * Expires abandoned carts in chunks, each released in its own transaction.
+ * Progress is published as the {@code carts.cleanup.released}, {@code carts.cleanup.failures}
+ * and {@code carts.cleanup.chunk} metrics.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CartsCleanupScheduler {
-    private final CartsRepository cartsRepository;
+    private static final String RELEASED_METRIC = "carts.cleanup.released";
+    private static final String FAILURES_METRIC = "carts.cleanup.failures";
+    private static final String CHUNK_METRIC = "carts.cleanup.chunk";
+
     private final CartLifecycleService cartLifecycleService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.application.configs.cleanup.carts_cleanup_cutoff_seconds}")
     private Long cutoffSeconds;
 
+    @Value("${spring.application.configs.cleanup.carts_cleanup_chunk_size}")
+    private int chunkSize;
+
     @Scheduled(cron = "${spring.application.configs.cron.carts_cleanup}")
-    @Transactional
     public void releaseScheduled() {
         log.info("Starting scheduled cart cleanup process");
-        
+
         LocalDateTime updatedAt = LocalDateTime.now().minusSeconds(cutoffSeconds);
-        List<Cart> expiredCarts = cartsRepository.findAllByUpdatedAtBefore(updatedAt);
-        
-        if (expiredCarts.isEmpty()) {
+        Timer chunkTimer = meterRegistry.timer(CHUNK_METRIC);
+        int totalReleased = 0;
+        int released;
+        do {
+            try {
+                released = chunkTimer.record(() -> cartLifecycleService.releaseExpiredCarts(updatedAt, chunkSize));
+            } catch (Exception ex) {
+                meterRegistry.counter(FAILURES_METRIC).increment();
+                log.error("Failed to release chunk of expired carts after {} released. Error: {}", totalReleased, ex.getMessage(), ex);
+                return;
+            }
+            meterRegistry.counter(RELEASED_METRIC).increment(released);
+            totalReleased += released;
+        } while (released == chunkSize);
+
+        if (totalReleased == 0) {
             log.info("No expired carts found for cleanup");
             return;
         }
-        
-        log.info("Found {} expired carts for cleanup", expiredCarts.size());
-        cartLifecycleService.releaseExpiredCarts(expiredCarts);
-        log.info("Completed scheduled cart cleanup process");
+        log.info("Completed scheduled cart cleanup process, {} expired carts released", totalReleased);
     }
 }
@@ -0,0 +1,63 @@
+package com.raffleease.raffleease.Domains.Carts.Jobs;
+
+import com.raffleease.raffleease.Domains.Carts.Services.CartLifecycleService;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Releases carts as soon as their deadline in the expiry schedule passes.
+ * Carts that are no longer active, or were updated after being scheduled, are simply dropped.
+ * Progress is published as the {@code carts.expiry.released}, {@code carts.expiry.skipped}
+ * and {@code carts.expiry.failures} metrics.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CartsExpiryWorker {
+    private static final String RELEASED_METRIC = "carts.expiry.released";
+    private static final String SKIPPED_METRIC = "carts.expiry.skipped";
+    private static final String FAILURES_METRIC = "carts.expiry.failures";
+
+    private final CartsExpiryService cartsExpiryService;
+    private final CartLifecycleService cartLifecycleService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.application.configs.cleanup.carts_cleanup_cutoff_seconds}")
+    private Long cutoffSeconds;
+
+    @Value("${spring.application.configs.carts.expiry_batch_size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${spring.application.configs.carts.expiry_poll_ms}")
+    public void releaseDueCarts() {
+        List<Long> dueCartIds;
+        do {
+            dueCartIds = cartsExpiryService.pollDue(batchSize);
+            if (dueCartIds.isEmpty()) {
+                return;
+            }
+
+            List<Long> releasedCartIds;
+            try {
+                releasedCartIds = cartLifecycleService.releaseExpiredCarts(dueCartIds, LocalDateTime.now().minusSeconds(cutoffSeconds));
+            } catch (Exception ex) {
+                cartsExpiryService.retry(dueCartIds);
+                meterRegistry.counter(FAILURES_METRIC).increment();
+                log.error("Failed to release {} due carts, scheduled for retry. Error: {}", dueCartIds.size(), ex.getMessage(), ex);
+                return;
+            }
+
+            meterRegistry.counter(RELEASED_METRIC).increment(releasedCartIds.size());
+            meterRegistry.counter(SKIPPED_METRIC).increment(dueCartIds.size() - releasedCartIds.size());
+            log.debug("Released {} of {} due carts", releasedCartIds.size(), dueCartIds.size());
+        } while (dueCartIds.size() == batchSize);
+    }
+}
@@ -1,11 +1,11 @@
 package com.raffleease.raffleease.Domains.Carts.Repository;
 
-import com.raffleease.raffleease.Domains.Carts.Model.Cart;
-
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomCartRepository {
-    void updateExpiredCart(LocalDateTime updatedAt);
-    List<Cart> findExpiredCarts(LocalDateTime updatedAt);
+    int updateExpiredCarts(Collection<Long> cartIds);
+    List<Long> findExpiredCartIds(LocalDateTime updatedAt, int limit);
+    List<Long> findExpiredCartIds(Collection<Long> cartIds, LocalDateTime updatedAt);
 }
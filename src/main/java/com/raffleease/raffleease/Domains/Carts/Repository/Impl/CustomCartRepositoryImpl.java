@@ -4,9 +4,11 @@ import com.raffleease.raffleease.Domains.Carts.Model.Cart;
 import com.raffleease.raffleease.Domains.Carts.Repository.CustomCartRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.ACTIVE;
@@ -18,31 +20,82 @@ public class CustomCartRepositoryImpl implements CustomCartRepository {
     private EntityManager entityManager;
 
     @Override
-    public void updateExpiredCart(LocalDateTime updatedAt) {
+    public int updateExpiredCarts(Collection<Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return 0;
+        }
         String query = "UPDATE Cart c " +
                 "SET c.status = :expired, " +
                 "c.updatedAt = :currentTimestamp " +
-                "WHERE c.updatedAt < :updatedAt " +
+                "WHERE c.id IN :cartIds " +
                 "AND c.status = :active";
 
-        entityManager.createQuery(query)
-                .setParameter("updatedAt", updatedAt)
+        int updated = entityManager.createQuery(query)
+                .setParameter("cartIds", cartIds)
                 .setParameter("currentTimestamp", LocalDateTime.now())
                 .setParameter("expired", EXPIRED)
                 .setParameter("active", ACTIVE)
                 .executeUpdate();
+        refreshManaged(cartIds);
+        return updated;
     }
 
+    /**
+     * Locks a chunk of active carts not updated since the given time.
+     * Carts already locked by a concurrent reservation or cleanup are skipped instead of waited on.
+     */
+    @Override
+    public List<Long> findExpiredCartIds(LocalDateTime updatedAt, int limit) {
+        String query = "SELECT id FROM carts " +
+                "WHERE status = 'ACTIVE' " +
+                "AND updated_at < :updatedAt " +
+                "ORDER BY id " +
+                "LIMIT :limit " +
+                "FOR UPDATE SKIP LOCKED";
+
+        List<?> rows = entityManager.createNativeQuery(query)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+    }
 
+    /**
+     * Locks those of the given carts that are still active and not updated since the given time.
+     * Carts already locked by a concurrent reservation or cleanup are skipped instead of waited on.
+     */
     @Override
-    public List<Cart> findExpiredCarts(LocalDateTime updatedAt) {
-        String query = "SELECT c FROM Cart c " +
-                "WHERE c.updatedAt < :updatedAt " +
-                "AND c.status = :status";
+    public List<Long> findExpiredCartIds(Collection<Long> cartIds, LocalDateTime updatedAt) {
+        if (cartIds.isEmpty()) {
+            return List.of();
+        }
+        String query = "SELECT id FROM carts " +
+                "WHERE id IN (:cartIds) " +
+                "AND status = 'ACTIVE' " +
+                "AND updated_at < :updatedAt " +
+                "ORDER BY id " +
+                "FOR UPDATE SKIP LOCKED";
 
-        return entityManager.createQuery(query, Cart.class)
+        List<?> rows = entityManager.createNativeQuery(query)
+                .setParameter("cartIds", cartIds)
                 .setParameter("updatedAt", updatedAt)
-                .setParameter("status", ACTIVE)
                 .getResultList();
+        return rows.stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+    }
+
+    /**
+     * Bulk updates bypass the persistence context, so carts already loaded in it are refreshed.
+     */
+    private void refreshManaged(Collection<Long> cartIds) {
+        for (Long id : cartIds) {
+            Cart cart = entityManager.getReference(Cart.class, id);
+            if (Hibernate.isInitialized(cart)) {
+                entityManager.refresh(cart);
+            }
+        }
     }
 }
@@ -4,6 +4,8 @@ import com.raffleease.raffleease.Domains.Carts.Model.Cart;
 import com.raffleease.raffleease.Domains.Customers.Model.Customer;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,10 +33,24 @@ public interface CartLifecycleService {
     List<Ticket> finalizeCart(Cart cart, Customer customer);
     
     /**
-     * Releases expired carts in batch.
-     * Optimized for scheduled cleanup operations.
+     * Releases a chunk of expired carts in its own transaction.
+     * Active carts not updated since the given time are marked as expired, their reserved tickets
+     * are made available again and the statistics of the affected raffles are adjusted in bulk.
+     * Used by scheduled cleanup operations, which call it repeatedly until fewer carts than the limit are released.
      * 
-     * @param expiredCarts list of carts to release
+     * @param updatedAt the time before which an active cart is considered expired
+     * @param limit the maximum number of carts released in the chunk
+     * @return the number of carts released
      */
-    void releaseExpiredCarts(List<Cart> expiredCarts);
+    int releaseExpiredCarts(LocalDateTime updatedAt, int limit);
+
+    /**
+     * Releases the given carts in a single transaction, provided they are still active and have not been updated since the given time.
+     * Used by the expiry worker, which already knows which carts are due.
+     * 
+     * @param cartIds the IDs of the candidate carts
+     * @param updatedAt the time before which an active cart is considered expired
+     * @return the IDs of the carts released
+     */
+    List<Long> releaseExpiredCarts(Collection<Long> cartIds, LocalDateTime updatedAt);
 } 
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.raffleease.raffleease.Domains.Carts.Services;
+
+import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the expiry deadline of every active cart in a Redis sorted set, so that carts can be
+ * released shortly after they expire without scanning the carts table.
+ * Changes are written once the surrounding transaction commits. The scheduled cleanup remains
+ * in place to release any cart whose deadline was lost.
+ */
+public interface CartsExpiryService {
+
+    /**
+     * Schedules, or pushes back, the expiry of a cart.
+     * Called every time a cart is created or its reservations change, the deadline being
+     * the current time plus the carts cleanup cutoff.
+     * 
+     * @param cart the cart whose expiry is scheduled
+     */
+    void schedule(Cart cart);
+
+    /**
+     * Removes the scheduled expiry of carts that have been closed or released.
+     * 
+     * @param cartIds the IDs of the carts whose expiry is cancelled
+     */
+    void cancel(Collection<Long> cartIds);
+
+    /**
+     * Atomically takes the carts whose deadline has passed out of the schedule.
+     * Each cart is returned to a single caller, even with several application instances polling.
+     * 
+     * @param limit the maximum number of carts returned
+     * @return the IDs of the due carts, earliest deadline first
+     */
+    List<Long> pollDue(int limit);
+
+    /**
+     * Schedules again carts taken by {@link #pollDue(int)} that could not be released,
+     * after the configured retry delay.
+     * 
+     * @param cartIds the IDs of the carts to retry
+     */
+    void retry(Collection<Long> cartIds);
+}
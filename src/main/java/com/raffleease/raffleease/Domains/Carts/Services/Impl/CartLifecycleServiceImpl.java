@@ -1,18 +1,24 @@
 package com.raffleease.raffleease.Domains.Carts.Services.Impl;
 
 import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Repository.CustomCartRepository;
 import com.raffleease.raffleease.Domains.Carts.Services.CartLifecycleService;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
 import com.raffleease.raffleease.Domains.Carts.Services.CartsPersistenceService;
 import com.raffleease.raffleease.Domains.Customers.Model.Customer;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsService;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsQueryService;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsService;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.CLOSED;
 
@@ -21,6 +27,8 @@ import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.CLOSED;
 @Service
 public class CartLifecycleServiceImpl implements CartLifecycleService {
     private final CartsPersistenceService cartsPersistenceService;
+    private final CustomCartRepository customCartRepository;
+    private final CartsExpiryService cartsExpiryService;
     private final TicketsQueryService ticketsQueryService;
     private final TicketsService ticketsService;
     private final RafflesStatisticsService statisticsService;
@@ -40,18 +48,36 @@ public class CartLifecycleServiceImpl implements CartLifecycleService {
     }
 
     @Override
-    public void releaseExpiredCarts(List<Cart> expiredCarts) {
-        log.info("Releasing {} expired carts", expiredCarts.size());
-        
-        for (Cart cart : expiredCarts) {
-            try {
-                releaseCart(cart);
-            } catch (Exception e) {
-                log.error("Failed to release expired cart with ID: {}. Error: {}", cart.getId(), e.getMessage(), e);
-            }
+    @Transactional
+    public int releaseExpiredCarts(LocalDateTime updatedAt, int limit) {
+        List<Long> cartIds = customCartRepository.findExpiredCartIds(updatedAt, limit);
+        releaseCarts(cartIds);
+        return cartIds.size();
+    }
+
+    @Override
+    @Transactional
+    public List<Long> releaseExpiredCarts(Collection<Long> cartIds, LocalDateTime updatedAt) {
+        List<Long> expiredCartIds = customCartRepository.findExpiredCartIds(cartIds, updatedAt);
+        releaseCarts(expiredCartIds);
+        return expiredCartIds;
+    }
+
+    /**
+     * Releases the tickets of already locked expired carts, adjusts the raffles statistics and marks the carts as expired.
+     */
+    private void releaseCarts(List<Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return;
         }
-        
-        log.info("Completed releasing expired carts");
+
+        Map<Long, List<Ticket>> releasedTickets = ticketsService.releaseCartsTickets(cartIds);
+        statisticsService.setExpiredCartsStatistics(releasedTickets);
+        customCartRepository.updateExpiredCarts(cartIds);
+        cartsExpiryService.cancel(cartIds);
+
+        log.info("Released {} expired carts and {} reserved tickets",
+                cartIds.size(), releasedTickets.values().stream().mapToInt(List::size).sum());
     }
 
     /**
@@ -63,6 +89,7 @@ public class CartLifecycleServiceImpl implements CartLifecycleService {
         cart.setStatus(CLOSED);
         cart.setTickets(null);
         cartsPersistenceService.save(cart);
+        cartsExpiryService.cancel(List.of(cart.getId()));
 
         log.info("Cart with ID: {} successfully closed", cart.getId());
     }
@@ -0,0 +1,106 @@
+package com.raffleease.raffleease.Domains.Carts.Services.Impl;
+
+import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CartsExpiryServiceImpl implements CartsExpiryService {
+    private static final String DEADLINES_KEY = "carts_expiry:deadlines";
+
+    /**
+     * Returns and removes the members whose score is not greater than the current time.
+     * KEYS: deadlines sorted set. ARGV: current time in milliseconds, limit.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POLL_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #due > 0 then
+                redis.call('ZREM', KEYS[1], unpack(due))
+            end
+            return due
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.application.configs.cleanup.carts_cleanup_cutoff_seconds}")
+    private Long cutoffSeconds;
+
+    @Value("${spring.application.configs.carts.expiry_retry_seconds}")
+    private Long retrySeconds;
+
+    @Override
+    public void schedule(Cart cart) {
+        Long cartId = cart.getId();
+        afterCommit(() -> {
+            // Computed after commit, so the deadline is never earlier than the updatedAt just persisted
+            long deadline = System.currentTimeMillis() + cutoffSeconds * 1000 + 1;
+            redisTemplate.opsForZSet().add(DEADLINES_KEY, cartId.toString(), deadline);
+        });
+    }
+
+    @Override
+    public void cancel(Collection<Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return;
+        }
+        Object[] members = cartIds.stream().map(String::valueOf).toArray();
+        afterCommit(() -> redisTemplate.opsForZSet().remove(DEADLINES_KEY, members));
+    }
+
+    @Override
+    public List<Long> pollDue(int limit) {
+        List<?> due = redisTemplate.execute(POLL_SCRIPT, List.of(DEADLINES_KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(limit));
+        if (due == null) {
+            return List.of();
+        }
+        return due.stream()
+                .map(cartId -> Long.valueOf(cartId.toString()))
+                .toList();
+    }
+
+    @Override
+    public void retry(Collection<Long> cartIds) {
+        long deadline = System.currentTimeMillis() + retrySeconds * 1000;
+        cartIds.forEach(cartId -> redisTemplate.opsForZSet().add(DEADLINES_KEY, cartId.toString(), deadline));
+    }
+
+    /**
+     * Runs the Redis change once the surrounding transaction commits, or immediately without one.
+     * Failures are only logged: a cart missing from the schedule is still released by the scheduled cleanup.
+     */
+    private void afterCommit(Runnable change) {
+        Runnable guarded = () -> {
+            try {
+                change.run();
+            } catch (DataAccessException ex) {
+                log.warn("Failed to update carts expiry schedule. Error: {}", ex.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+}
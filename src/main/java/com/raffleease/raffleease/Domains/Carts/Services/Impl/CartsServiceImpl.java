@@ -8,6 +8,7 @@ import com.raffleease.raffleease.Domains.Carts.Services.CartsService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
 import com.raffleease.raffleease.Domains.Carts.Services.CartLifecycleService;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
 import com.raffleease.raffleease.Domains.Carts.Services.CartsPersistenceService;
 import com.raffleease.raffleease.Domains.Carts.Validations.CartsValidator;
 import com.raffleease.raffleease.Domains.Users.Model.User;
@@ -32,6 +33,7 @@ public class CartsServiceImpl implements CartsService {
     private final UsersService usersService;
     private final CartLifecycleService cartLifecycleService;
     private final CartsPersistenceService cartsPersistenceService;
+    private final CartsExpiryService cartsExpiryService;
     private final CartsValidator cartsValidator;
 
     @Override
@@ -42,11 +44,13 @@ public class CartsServiceImpl implements CartsService {
 
         log.info("Creating new cart for user: {}", user.getId());
 
-        return mapper.fromCart(save(Cart.builder()
+        Cart cart = save(Cart.builder()
                 .status(ACTIVE)
                 .user(user)
                 .tickets(new ArrayList<>())
-                .build()));
+                .build());
+        cartsExpiryService.schedule(cart);
+        return mapper.fromCart(cart);
     }
 
     @Override
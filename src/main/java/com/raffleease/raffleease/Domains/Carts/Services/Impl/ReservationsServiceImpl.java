@@ -1,10 +1,12 @@
 package com.raffleease.raffleease.Domains.Carts.Services.Impl;
 
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.TicketsUnavailableException;
 import com.raffleease.raffleease.Domains.Associations.Model.Association;
 import com.raffleease.raffleease.Domains.Associations.Services.AssociationsService;
 import com.raffleease.raffleease.Domains.Carts.DTO.CartDTO;
 import com.raffleease.raffleease.Domains.Carts.Mappers.CartsMapper;
 import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
 import com.raffleease.raffleease.Domains.Carts.Services.CartsPersistenceService;
 import com.raffleease.raffleease.Domains.Carts.Validations.CartsValidator;
 import com.raffleease.raffleease.Domains.Carts.DTO.ReservationRequest;
@@ -20,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -28,6 +32,7 @@ public class ReservationsServiceImpl implements ReservationsService {
     private final AssociationsService associationsService;
     private final RafflesQueryService rafflesQueryService;
     private final CartsPersistenceService cartsPersistenceService;
+    private final CartsExpiryService cartsExpiryService;
     private final CartsMapper cartsMapper;
     private final TicketsService ticketsService;
     private final RafflesStatisticsService statisticsService;
@@ -41,12 +46,16 @@ public class ReservationsServiceImpl implements ReservationsService {
         cartsValidator.validateIsUserCart(cart);
         cartsValidator.validateCartIsActive(cart);
         Association association = associationsService.findById(associationId);
-        List<Ticket> tickets = ticketsQueryService.findAllById(request.ticketIds());
-        cartsValidator.validateTicketsBelongToAssociationRaffle(tickets, association);
-        cartsValidator.validateTicketsAvailability(tickets);
-        reserveTickets(cart, tickets);
+        List<Long> ticketIds = request.ticketIds().stream().distinct().toList();
+        List<Ticket> tickets = ticketsService.reserveTickets(cart, association.getId(), ticketIds);
+        if (tickets.size() < ticketIds.size()) {
+            ticketsService.cancelReservation(cart, tickets);
+            reportFailedReservation(ticketIds, tickets, association);
+        }
+        statisticsService.reduceRaffleTicketsAvailability(tickets);
         cart.getTickets().addAll(tickets);
         Cart savedCart = cartsPersistenceService.save(cart);
+        cartsExpiryService.schedule(savedCart);
         return cartsMapper.fromCart(savedCart);
     }
 
@@ -64,10 +73,18 @@ public class ReservationsServiceImpl implements ReservationsService {
         statisticsService.increaseRafflesTicketsAvailability(tickets);
         cart.getTickets().removeAll(tickets);
         cartsPersistenceService.save(cart);
+        cartsExpiryService.schedule(cart);
     }
 
-    private void reserveTickets(Cart cart, List<Ticket> tickets) {
-        ticketsService.reserveTickets(cart, tickets);
-        statisticsService.reduceRaffleTicketsAvailability(tickets);
+    /**
+     * Works out why some of the requested tickets could not be reserved.
+     * Only the tickets that failed are inspected, so the successful path never reads tickets before claiming them.
+     */
+    private void reportFailedReservation(List<Long> requestedIds, List<Ticket> reservedTickets, Association association) {
+        Set<Long> reservedIds = reservedTickets.stream().map(Ticket::getId).collect(Collectors.toSet());
+        List<Long> failedIds = requestedIds.stream().filter(id -> !reservedIds.contains(id)).toList();
+        List<Ticket> failedTickets = ticketsQueryService.findAllById(failedIds);
+        cartsValidator.validateTicketsBelongToAssociationRaffle(failedTickets, association);
+        throw new TicketsUnavailableException("Some tickets are not available", failedIds);
     }
 }
\ No newline at end of file
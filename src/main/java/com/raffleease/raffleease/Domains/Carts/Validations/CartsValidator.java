@@ -14,11 +14,11 @@ import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.ACTIVE;
-import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
 
 @RequiredArgsConstructor
 @Component
@@ -28,7 +28,7 @@ public class CartsValidator {
 
     public void validateIsUserCart(Cart cart) {
         User user = usersService.getAuthenticatedUser();
-        if (cart.getUser().getId() != user.getId()) {
+        if (!Objects.equals(cart.getUser().getId(), user.getId())) {
             throw new AuthorizationException("You are not allowed to access this cart");
         }
     }
@@ -49,13 +49,6 @@ public class CartsValidator {
         }
     }
 
-    public void validateTicketsAvailability(List<Ticket> tickets) {
-        boolean anyUnavailable = tickets.stream().anyMatch(ticket -> ticket.getStatus() != AVAILABLE);
-        if (anyUnavailable) {
-            throw new BusinessException("Some tickets are not available");
-        }
-    }
-
     public void validateTicketsBelongToCart(Cart cart, List<Ticket> tickets) {
         if (cart.getTickets() == null || cart.getTickets().isEmpty()) {
             throw new BusinessException("Cart has no tickets to release");
@@ -1,36 +1,142 @@
 package com.raffleease.raffleease.Domains.Images.Controller;
 
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
+import com.raffleease.raffleease.Domains.Images.DTOs.ImageFile;
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
+import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesService;
 import com.raffleease.raffleease.Common.RateLimiting.RateLimit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+
 import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.AccessLevel.PUBLIC;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 
+/**
+ * Serves image files with HTTP caching.
+ * Entity tags come from the content hash recorded at upload, so conditional requests are answered without reading the file.
+ * URLs versioned with the content hash never change content and are cached as immutable.
+ * Byte ranges are served by Spring MVC for resource bodies.
+ */
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/v1/public/associations/{associationId}")
 public class PublicImagesController {
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
     private final ImagesService imagesService;
+    private final FileStorageService fileStorageService;
+
+    @Value("${spring.storage.images.cache.max_age_seconds:3600}")
+    private long maxAgeSeconds;
 
     @GetMapping("/images/{id}")
     @RateLimit(operation = "read", accessLevel = PUBLIC)
     public ResponseEntity<Resource> getTemp(
-            @PathVariable Long id
+            @PathVariable Long id,
+            @RequestParam(required = false) String size,
+            @RequestParam(name = "v", required = false) String version,
+            @RequestHeader HttpHeaders headers
     ) {
-        return ResponseEntity.ok().body(imagesService.getFile(id));
+        return serve(id, size, version, headers);
     }
 
     @GetMapping("/raffles/{raffleId}/images/{id}")
     @RateLimit(operation = "read", accessLevel = PUBLIC)
     public ResponseEntity<Resource> get(
-            @PathVariable Long id
+            @PathVariable Long id,
+            @RequestParam(required = false) String size,
+            @RequestParam(name = "v", required = false) String version,
+            @RequestHeader HttpHeaders headers
     ) {
-        return ResponseEntity.ok().body(imagesService.getFile(id));
+        return serve(id, size, version, headers);
+    }
+
+    private ResponseEntity<Resource> serve(Long id, String size, String version, HttpHeaders headers) {
+        ImageVariant variant = ImageVariant.fromSize(size).orElse(null);
+        ImageFile file = imagesService.getImageFile(id, variant);
+        if (isNotModified(file, headers)) {
+            return cacheHeaders(ResponseEntity.status(NOT_MODIFIED), file, version).build();
+        }
+        Resource resource;
+        try {
+            resource = fileStorageService.load(file.filePath());
+        } catch (FileStorageException ex) {
+            // The cached metadata may point to a file moved or deleted since, resolve it once more from the database
+            ImageFile reloaded = imagesService.reloadImageFile(id, variant);
+            if (reloaded.filePath().equals(file.filePath())) {
+                throw ex;
+            }
+            file = reloaded;
+            resource = fileStorageService.load(file.filePath());
+        }
+        return cacheHeaders(ResponseEntity.ok(), file, version)
+                .contentType(mediaType(file))
+                .body(resource);
+    }
+
+    private ResponseEntity.BodyBuilder cacheHeaders(ResponseEntity.BodyBuilder response, ImageFile file, String version) {
+        if (file.etag() != null) {
+            response.eTag(file.etag());
+        }
+        if (file.lastModified() != null) {
+            response.lastModified(file.lastModified());
+        }
+        return response.cacheControl(isImmutable(file, version) ? IMMUTABLE : CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic());
+    }
+
+    /**
+     * A versioned URL is immutable only while it serves the representation it asks for,
+     * an original served in place of a pending variant must be fetched again.
+     */
+    private boolean isImmutable(ImageFile file, String version) {
+        return version != null && !file.fallback() && version.equals(file.contentHash());
+    }
+
+    /**
+     * If-None-Match takes precedence over If-Modified-Since, as required by RFC 9110.
+     */
+    private boolean isNotModified(ImageFile file, HttpHeaders headers) {
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String etag = "\"" + file.etag() + "\"";
+            return file.etag() != null && ifNoneMatch.stream()
+                    .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                    .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+        }
+        try {
+            long ifModifiedSince = headers.getIfModifiedSince();
+            return ifModifiedSince != -1 && file.lastModified() != null && file.lastModified().getEpochSecond() <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private MediaType mediaType(ImageFile file) {
+        if (file.contentType() != null) {
+            try {
+                return MediaType.parseMediaType(file.contentType());
+            } catch (InvalidMediaTypeException ignored) {
+                // Fall back to the file extension
+            }
+        }
+        return MediaTypeFactory.getMediaType(file.filePath()).orElse(APPLICATION_OCTET_STREAM);
     }
 }
@@ -2,9 +2,20 @@ package com.raffleease.raffleease.Domains.Images.DTOs;
 
 import lombok.*;
 
+import java.time.Instant;
+
+/**
+ * File to serve for an image request, with the metadata needed to answer conditional requests without reading it.
+ * The entity tag is null for images whose content hash has not been backfilled yet.
+ * A fallback file is the original served in place of a variant that is not available yet, without a modification time.
+ */
 @Builder
 public record ImageFile(
-        byte[] data,
-        String contentType
+        String filePath,
+        String contentType,
+        String contentHash,
+        String etag,
+        Instant lastModified,
+        boolean fallback
 ) {
 }
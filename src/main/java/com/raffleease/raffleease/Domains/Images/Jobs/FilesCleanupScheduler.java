@@ -1,5 +1,6 @@
 package com.raffleease.raffleease.Domains.Images.Jobs;
 
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -203,7 +204,7 @@ public class FilesCleanupScheduler {
         for (Path actualFile : actualFiles) {
             String absolutePath = actualFile.toString();
             
-            if (!dbFilePaths.contains(absolutePath)) {
+            if (!dbFilePaths.contains(absolutePath) && !isVariantOf(absolutePath, dbFilePaths)) {
                 try {
                     Files.deleteIfExists(actualFile);
                     cleanedUp++;
@@ -217,6 +218,13 @@ public class FilesCleanupScheduler {
         return cleanedUp;
     }
 
+    /**
+     * Resized variants are not tracked in the database, they are kept as long as their original is
+     */
+    private boolean isVariantOf(String path, Set<String> dbFilePaths) {
+        return ImageVariant.originalPathOf(path).filter(dbFilePaths::contains).isPresent();
+    }
+
     private boolean isDirectoryEmpty(Path directory) {
         try {
             return Files.list(directory).findAny().isEmpty();
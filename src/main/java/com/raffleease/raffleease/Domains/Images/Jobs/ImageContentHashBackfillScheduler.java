@@ -0,0 +1,64 @@
+package com.raffleease.raffleease.Domains.Images.Jobs;
+
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
+import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
+import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Scheduled service that records the content hash of images stored before content hashes were recorded,
+ * so they get entity tags without hashing files while serving them.
+ * Images are walked by ID in small batches. A file that cannot be read is skipped until the next pass.
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class ImageContentHashBackfillScheduler {
+    private final ImagesRepository imagesRepository;
+    private final FileStorageService fileStorageService;
+    private final ImagesCacheService imagesCacheService;
+
+    private long lastImageId;
+
+    @Value("${spring.application.configs.images.hash_backfill_batch_size:20}")
+    private int batchSize;
+
+    /**
+     * Hashes the next batch of images without a content hash.
+     * Only a missing hash is written, so a concurrent update of the image is never overwritten,
+     * and the cached metadata is evicted so following reads pick the hash up.
+     */
+    @Scheduled(fixedDelayString = "${spring.application.configs.images.hash_backfill_poll_ms:60000}")
+    public synchronized void backfillContentHashes() {
+        List<Image> images = imagesRepository.findAllByContentHashIsNullAndFilePathIsNotNullAndIdGreaterThanOrderByIdAsc(lastImageId, Limit.of(batchSize));
+        if (images.isEmpty()) {
+            lastImageId = 0;
+            return;
+        }
+
+        int hashed = 0;
+        for (Image image : images) {
+            lastImageId = image.getId();
+            try {
+                String contentHash = fileStorageService.contentHash(image.getFilePath());
+                imagesRepository.updateContentHashIfMissing(image.getId(), contentHash);
+                imagesCacheService.evict(image.getId());
+                hashed++;
+            } catch (FileStorageException ex) {
+                log.debug("Could not hash image {}: {}", image.getId(), ex.getMessage());
+            } catch (Exception ex) {
+                log.warn("Error backfilling the content hash of image {}", image.getId(), ex);
+            }
+        }
+        log.info("Backfilled the content hash of {} images", hashed);
+    }
+}
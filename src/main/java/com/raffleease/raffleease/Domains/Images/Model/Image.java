@@ -35,6 +35,9 @@ public class Image {
     private String filePath;
     private String contentType;
 
+    @Column(length = 43)
+    private String contentHash;
+
     @Column(unique = true)
     private String url;
 
@@ -0,0 +1,16 @@
+package com.raffleease.raffleease.Domains.Images.Model;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of the metadata needed to serve an image, cached for public image reads.
+ *
+ * @param id the ID of the image
+ * @param filePath the path of the original file
+ * @param contentType the content type of the original file
+ * @param status the status of the image
+ * @param contentHash the content hash of the original file, used as entity tag, or null if it was never computed
+ * @param createdAt the creation time of the image, used as last modification time since its content never changes
+ */
+public record ImageSnapshot(Long id, String filePath, String contentType, ImageStatus status, String contentHash, Instant createdAt) {
+}
@@ -0,0 +1,59 @@
+package com.raffleease.raffleease.Domains.Images.Model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Resized JPEG renditions generated for every uploaded image.
+ * Each variant is stored next to the original file, with the variant name and extension appended to its path,
+ * so variants follow the original without being tracked in the database.
+ */
+public enum ImageVariant {
+    THUMB(320),
+    MEDIUM(800),
+    LARGE(1600);
+
+    private static final String ORIGINAL = "original";
+
+    private final int maxWidth;
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public String pathFor(String originalPath) {
+        return originalPath + "." + name().toLowerCase() + ".jpg";
+    }
+
+    /**
+     * Returns the original path of a variant file path, or empty if the path is not one of a variant.
+     */
+    public static Optional<String> originalPathOf(String path) {
+        return Arrays.stream(values())
+                .map(variant -> "." + variant.name().toLowerCase() + ".jpg")
+                .filter(path::endsWith)
+                .findFirst()
+                .map(suffix -> path.substring(0, path.length() - suffix.length()));
+    }
+
+    /**
+     * Resolves the size requested by clients; null or "original" select the original upload.
+     *
+     * @throws IllegalArgumentException if the size is not supported
+     */
+    public static Optional<ImageVariant> fromSize(String size) {
+        if (size == null || size.isBlank() || ORIGINAL.equalsIgnoreCase(size)) {
+            return Optional.empty();
+        }
+        for (ImageVariant variant : values()) {
+            if (variant.name().equalsIgnoreCase(size)) {
+                return Optional.of(variant);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported image size: " + size);
+    }
+}
@@ -5,10 +5,13 @@ import com.raffleease.raffleease.Domains.Images.Model.Image;
 import com.raffleease.raffleease.Domains.Images.Model.ImageStatus;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Users.Model.User;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,10 +25,16 @@ public interface ImagesRepository extends JpaRepository<Image, Long> {
     List<Image> findAllByRaffleIsNullAndCreatedAtBefore(LocalDateTime cutoff);
     List<Image> findAllByRaffleIsNullAndUserAndStatus(User user, ImageStatus status);
     List<Image> findAllByRaffle(Raffle raffle);
+    List<Image> findAllByContentHashIsNullAndFilePathIsNotNullAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
     @Query("SELECT i.filePath FROM Image i WHERE i.filePath IS NOT NULL")
     List<String> findAllFilePaths();
 
+    @Modifying
+    @Transactional
+    @Query("UPDATE Image i SET i.contentHash = :contentHash WHERE i.id = :id AND i.contentHash IS NULL")
+    void updateContentHashIfMissing(@Param("id") Long id, @Param("contentHash") String contentHash);
+
     List<Image> findAllByUserAndStatus(User user, ImageStatus imageStatus);
     List<Image> findAllByUserAndRaffleAndStatus(User user, Raffle raffle, ImageStatus imageStatus);
 }
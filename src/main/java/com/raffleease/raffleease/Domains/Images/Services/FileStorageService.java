@@ -27,6 +27,23 @@ public interface FileStorageService {
      */
     Resource load(String filePath);
 
+    /*
+     * Compute the content hash of a single file, as URL-safe Base64 of its SHA-256 digest.
+     *
+     * @param filePath Path of the file to hash
+     * @return Content hash of the file
+     */
+    String contentHash(String filePath);
+
+    /*
+     * Compute the content hashes of a batch of files in parallel.
+     * Used to tag new images so they can be served with strong entity tags and content-addressed URLs.
+     *
+     * @param filePaths Paths of the files to hash
+     * @return Content hashes, in the same order as the paths
+     */
+    List<String> contentHashes(List<String> filePaths);
+
     /*
      * Delete file from the file system by its path.
      *
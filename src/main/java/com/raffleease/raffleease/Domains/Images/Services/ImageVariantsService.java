@@ -0,0 +1,35 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
+
+import java.util.List;
+
+public interface ImageVariantsService {
+    /**
+     * Generates the resized variants of the given images in the background.
+     * When called inside a transaction, generation starts once the transaction commits, so variants are
+     * never produced for images whose creation is rolled back.
+     *
+     * @param filePaths paths of the original files
+     */
+    void generateVariants(List<String> filePaths);
+
+    /**
+     * Generates the resized variants of an image, next to the original file.
+     * Only variants narrower than the original are produced; files that cannot be decoded are skipped.
+     *
+     * @param filePath path of the original file
+     */
+    void createVariants(String filePath);
+
+    /**
+     * Resolves the file to serve for an image and a requested variant.
+     * Falls back to the original file while the variant has not been generated, or when the original is
+     * already smaller than the variant.
+     *
+     * @param filePath path of the original file
+     * @param variant the requested variant
+     * @return path of the file to serve
+     */
+    String resolve(String filePath, ImageVariant variant);
+}
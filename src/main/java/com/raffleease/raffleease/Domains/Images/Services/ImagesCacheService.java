@@ -0,0 +1,35 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Domains.Images.Model.ImageSnapshot;
+
+public interface ImagesCacheService {
+
+    /**
+     * Finds the metadata of an image by ID, served from a size-bounded cache with a time to live.
+     * 
+     * Used to serve public image reads, the most requested endpoints, without querying the database.
+     * 
+     * @param imageId the ID of the image
+     * @return the metadata of the image
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException
+     *         if no image exists with the given ID
+     */
+    ImageSnapshot findImage(Long imageId);
+
+    /**
+     * Removes the cached image metadata, both immediately and once the current transaction commits,
+     * and publishes the eviction to every other node once committed.
+     * Must be called whenever the file, status or content hash of an image changes, or the image is deleted.
+     * 
+     * @param imageId the ID of the image
+     */
+    void evict(Long imageId);
+
+    /**
+     * Removes the cached image metadata on this node only, without publishing the eviction.
+     * Used when this node finds its cached metadata stale, such as a file path that no longer exists.
+     * 
+     * @param imageId the ID of the image
+     */
+    void evictLocally(Long imageId);
+}
@@ -1,7 +1,9 @@
 package com.raffleease.raffleease.Domains.Images.Services;
 
+import com.raffleease.raffleease.Domains.Images.DTOs.ImageFile;
 import com.raffleease.raffleease.Domains.Images.DTOs.UserImagesResponse;
 import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
 import org.springframework.core.io.Resource;
 
 import java.util.List;
@@ -39,6 +41,26 @@ public interface ImagesService {
      */
     Resource getFile(Long id);
 
+    /**
+     * Resolves the file to serve for an image and its caching metadata, without reading the file.
+     * The original file is resolved while the requested variant is not available.
+     *
+     * @param id the ID of the image
+     * @param variant the requested variant, or null for the original file
+     * @return the file to serve
+     */
+    ImageFile getImageFile(Long id, ImageVariant variant);
+
+    /**
+     * Resolves the file to serve for an image again from fresh metadata, discarding the metadata cached on this node.
+     * Used when the file resolved from the cached metadata could not be loaded.
+     *
+     * @param id the ID of the image
+     * @param variant the requested variant, or null for the original file
+     * @return the file to serve
+     */
+    ImageFile reloadImageFile(Long id, ImageVariant variant);
+
     /*
      * Fetches all images for a user. 
      * Useful during the creation of a raffle to fetch the pending images that the user creating the raffle uploaded.
@@ -1,7 +1,11 @@
 package com.raffleease.raffleease.Domains.Images.Services.Impls;
 
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
 import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,20 +15,72 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class FileStorageServiceImpl implements FileStorageService {
+    private static final String FILE_OPERATION_METRIC = "images.ingestion.file";
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private ThreadPoolExecutor ingestionExecutor;
+
     @Value("${spring.storage.images.base_path}")
     private String basePath;
 
+    @Value("${spring.storage.images.ingestion.threads:8}")
+    private int ingestionThreads;
+
+    @Value("${spring.storage.images.ingestion.queue_capacity:100}")
+    private int ingestionQueueCapacity;
+
+    /**
+     * Files of a batch are written and moved in parallel on a bounded pool of I/O threads.
+     * When the pool and its queue are full the request thread runs the operation itself, slowing uploads down
+     * instead of rejecting them.
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ingestionExecutor = new ThreadPoolExecutor(
+                ingestionThreads,
+                ingestionThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ingestionQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "images-ingestion-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ingestionExecutor.shutdownNow();
+    }
+
     @Override
     public Path moveFileToRaffle(String associationId, String raffleId, String imageId, String currentPath) {
         try {
@@ -38,6 +94,7 @@ public class FileStorageServiceImpl implements FileStorageService {
             String finalFileName = imageId + "_" + originalFileName;
             Path finalFilePath = finalDir.resolve(finalFileName);
             Files.move(currentFile, finalFilePath);
+            moveVariants(currentPath, finalFilePath.toString());
             return finalFilePath;
         } catch (IOException e) {
             throw new FileStorageException("Failed to move file to raffle: " + e.getMessage());
@@ -64,10 +121,50 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public String contentHash(String filePath) {
+        try (InputStream input = Files.newInputStream(Paths.get(filePath))) {
+            MessageDigest digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to hash file " + filePath + ": " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(CONTENT_HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    @Override
+    public List<String> contentHashes(List<String> filePaths) {
+        List<Future<String>> hashes = new ArrayList<>();
+        for (String filePath : filePaths) {
+            hashes.add(ingestionExecutor.submit(() -> meterRegistry.timer(FILE_OPERATION_METRIC, "operation", "hash")
+                    .recordCallable(() -> contentHash(filePath))));
+        }
+        awaitAll(hashes);
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> hash : hashes) {
+            try {
+                results.add(hash.get());
+            } catch (InterruptedException | ExecutionException e) {
+                throw new FileStorageException("Failed to hash file: " + e.getMessage());
+            }
+        }
+        return results;
+    }
+
     @Override
     public void delete(String filePath) {
         try {
             Files.deleteIfExists(Paths.get(filePath));
+            for (ImageVariant variant : ImageVariant.values()) {
+                Files.deleteIfExists(Paths.get(variant.pathFor(filePath)));
+            }
         } catch (IOException ex) {
             throw new FileStorageException("Failed to delete file: " + ex.getMessage());
         }
@@ -75,31 +172,35 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     @Override
     public List<String> saveTemporaryBatch(List<MultipartFile> files, String associationId, String batchId) {
-        List<String> tempPaths = new ArrayList<>();
-        Path tempDirectory;
-        
+        Path tempDirectory = Paths.get(basePath, "associations", associationId, "images", "temp", batchId);
         try {
-            tempDirectory = Paths.get(basePath, "associations", associationId, "images", "temp", batchId);
             Files.createDirectories(tempDirectory);
-            
-            for (int i = 0; i < files.size(); i++) {
-                MultipartFile file = files.get(i);
-                String tempFileName = "temp_" + i + "_" + file.getOriginalFilename();
-                Path tempFilePath = tempDirectory.resolve(tempFileName);
-                
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to create temporary directory: " + e.getMessage());
+        }
+
+        List<String> tempPaths = new ArrayList<>();
+        List<Future<?>> writes = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            Path tempFilePath = tempDirectory.resolve("temp_" + i + "_" + file.getOriginalFilename());
+            tempPaths.add(tempFilePath.toString());
+            writes.add(ingestionExecutor.submit(() -> timed("write", () -> {
                 try {
-                    Files.write(tempFilePath, file.getBytes());
-                    tempPaths.add(tempFilePath.toString());
+                    transferToDisk(file, tempFilePath);
                 } catch (IOException e) {
-                    cleanupTemporaryFiles(tempPaths);
-                    throw new FileStorageException("Failed to save file " + tempFileName + ": " + e.getMessage());
+                    throw new FileStorageException("Failed to save file " + tempFilePath.getFileName() + ": " + e.getMessage());
                 }
-            }
-            return tempPaths;
-        } catch (IOException e) {
+            })));
+        }
+
+        try {
+            awaitAll(writes);
+        } catch (FileStorageException ex) {
             cleanupTemporaryFiles(tempPaths);
-            throw new FileStorageException("Failed to create temporary directory: " + e.getMessage());
+            throw ex;
         }
+        return tempPaths;
     }
 
     @Override
@@ -108,37 +209,44 @@ public class FileStorageServiceImpl implements FileStorageService {
             throw new IllegalArgumentException("Number of temp paths must match number of image IDs");
         }
         
-        List<String> finalPaths = new ArrayList<>();
-        Path finalDirectory;
-        
+        Path finalDirectory = raffleId != null ?
+            Paths.get(basePath, "associations", associationId, "raffles", raffleId, "images") :
+            Paths.get(basePath, "associations", associationId, "images", "pending");
         try {
-            finalDirectory = raffleId != null ? 
-                Paths.get(basePath, "associations", associationId, "raffles", raffleId, "images") :
-                Paths.get(basePath, "associations", associationId, "images", "pending");
             Files.createDirectories(finalDirectory);
-            
-            for (int i = 0; i < tempPaths.size(); i++) {
-                Path tempFile = Paths.get(tempPaths.get(i));
-                String originalFileName = extractOriginalFileName(tempFile.getFileName().toString());
-                String finalFileName = imageIds.get(i) + "_" + originalFileName;
-                Path finalFilePath = finalDirectory.resolve(finalFileName);
-                
+        } catch (IOException e) {
+            cleanupTemporaryFiles(tempPaths);
+            throw new FileStorageException("Failed to create final directory: " + e.getMessage());
+        }
+
+        List<String> finalPaths = new ArrayList<>();
+        List<String> movedPaths = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> moves = new ArrayList<>();
+        for (int i = 0; i < tempPaths.size(); i++) {
+            Path tempFile = Paths.get(tempPaths.get(i));
+            String originalFileName = extractOriginalFileName(tempFile.getFileName().toString());
+            Path finalFilePath = finalDirectory.resolve(imageIds.get(i) + "_" + originalFileName);
+            finalPaths.add(finalFilePath.toString());
+            moves.add(ingestionExecutor.submit(() -> timed("move", () -> {
                 try {
                     Files.move(tempFile, finalFilePath);
-                    finalPaths.add(finalFilePath.toString());
+                    movedPaths.add(finalFilePath.toString());
                 } catch (IOException e) {
                     log.error("Failed to move file from {} to {}, initiating complete rollback", tempFile, finalFilePath, e);
-                    rollbackCompletelyOnFailure(finalPaths, tempPaths);
                     throw new FileStorageException("Failed to move file " + tempFile.getFileName() + ": " + e.getMessage());
                 }
-            }
-            
-            cleanupEmptyDirectory(tempPaths.get(0));
-            return finalPaths;
-        } catch (IOException e) {
-            cleanupTemporaryFiles(tempPaths);
-            throw new FileStorageException("Failed to create final directory: " + e.getMessage());
+            })));
         }
+
+        try {
+            awaitAll(moves);
+        } catch (FileStorageException ex) {
+            rollbackCompletelyOnFailure(movedPaths, tempPaths);
+            throw ex;
+        }
+
+        cleanupEmptyDirectory(tempPaths.get(0));
+        return finalPaths;
     }
 
     @Override
@@ -165,6 +273,81 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    /*
+     * Move the generated variants of an image along with its original file.
+     * A variant that cannot be moved is dropped, the original is served in its place.
+     * 
+     * @param currentPath Previous path of the original file
+     * @param finalPath New path of the original file
+     */
+    private void moveVariants(String currentPath, String finalPath) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            Path currentVariant = Paths.get(variant.pathFor(currentPath));
+            if (!Files.exists(currentVariant)) {
+                continue;
+            }
+            try {
+                Files.move(currentVariant, Paths.get(variant.pathFor(finalPath)));
+            } catch (IOException e) {
+                log.warn("Failed to move variant {}, the original will be served instead: {}", currentVariant, e.getMessage());
+                cleanupFiles(List.of(currentVariant.toString()));
+            }
+        }
+    }
+
+    /*
+     * Wait for every file operation of a batch, even after one of them failed,
+     * so rollback never races with operations still in progress.
+     * 
+     * @param operations Pending file operations
+     * @throws FileStorageException with the first failure, once all operations have finished
+     */
+    private void awaitAll(List<? extends Future<?>> operations) {
+        FileStorageException failure = null;
+        for (Future<?> operation : operations) {
+            try {
+                operation.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof FileStorageException storageException ?
+                            storageException :
+                            new FileStorageException("File operation failed: " + e.getCause().getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new FileStorageException("Interrupted while waiting for file operations");
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /*
+     * Run a single file operation, recording its duration
+     * 
+     * @param operation Operation name used as metric tag
+     * @param task File operation
+     */
+    private void timed(String operation, Runnable task) {
+        meterRegistry.timer(FILE_OPERATION_METRIC, "operation", operation).record(task);
+    }
+
+    /*
+     * Write an uploaded file to disk without loading it on the heap.
+     * Uploads above the multipart size threshold are already spooled to the multipart location by the container,
+     * which moves them to the target, a plain rename when both are on the same filesystem.
+     * Otherwise the content is streamed through a fixed size buffer.
+     * 
+     * @param file Uploaded file
+     * @param target Path to write the file to
+     */
+    private void transferToDisk(MultipartFile file, Path target) throws IOException {
+        file.transferTo(target.toAbsolutePath().toFile());
+    }
+
     /*
      * Extract original file name from temporary file name
      * 
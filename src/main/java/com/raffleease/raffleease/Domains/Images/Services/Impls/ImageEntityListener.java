@@ -2,9 +2,11 @@ package com.raffleease.raffleease.Domains.Images.Services.Impls;
 
 import com.raffleease.raffleease.Domains.Images.Model.Image;
 import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
 import jakarta.persistence.PreRemove;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,10 +20,12 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ImageEntityListener {
     private final FileStorageService fileStorageService;
+    // Resolved lazily, the cache depends on the repositories built with the listeners of the entity manager
+    private final ObjectProvider<ImagesCacheService> imagesCacheService;
 
     /**
      * Automatically deletes the associated file when an Image entity is being removed.
-     * This ensures no orphaned files are left on the filesystem.
+     * This ensures no orphaned files are left on the filesystem, and no removed image is served from the cache.
      */
     @PreRemove
     public void onPreRemove(Image image) {
@@ -29,5 +33,6 @@ public class ImageEntityListener {
             log.debug("Deleting file for removed image entity: {}", image.getFilePath());
             fileStorageService.delete(image.getFilePath());
         }
+        imagesCacheService.getObject().evict(image.getId());
     }
 }
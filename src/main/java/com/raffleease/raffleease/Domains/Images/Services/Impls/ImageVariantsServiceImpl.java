@@ -0,0 +1,218 @@
+package com.raffleease.raffleease.Domains.Images.Services.Impls;
+
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
+import com.raffleease.raffleease.Domains.Images.Services.ImageVariantsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class ImageVariantsServiceImpl implements ImageVariantsService {
+    private static final String GENERATION_METRIC = "images.variants.generation";
+    private static final String REJECTED_METRIC = "images.variants.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private ThreadPoolExecutor variantsExecutor;
+
+    @Value("${spring.storage.images.variants.threads:2}")
+    private int variantsThreads;
+
+    @Value("${spring.storage.images.variants.queue_capacity:500}")
+    private int variantsQueueCapacity;
+
+    @Value("${spring.storage.images.variants.quality:0.8}")
+    private float quality;
+
+    /**
+     * Variants are generated off the request thread on a small pool, as decoding and resizing are CPU bound.
+     * When the queue is full the images are skipped and served at their original size.
+     */
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        variantsExecutor = new ThreadPoolExecutor(
+                variantsThreads,
+                variantsThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(variantsQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "images-variants-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> {
+                    meterRegistry.counter(REJECTED_METRIC).increment();
+                    log.warn("Image variants queue is full, the image will be served at its original size");
+                }
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        variantsExecutor.shutdownNow();
+    }
+
+    @Override
+    public void generateVariants(List<String> filePaths) {
+        Runnable submit = () -> filePaths.forEach(filePath -> variantsExecutor.execute(() -> createVariants(filePath)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    @Override
+    public void createVariants(String filePath) {
+        meterRegistry.timer(GENERATION_METRIC).record(() -> {
+            try {
+                writeVariants(Paths.get(filePath));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to generate variants for image {}: {}", filePath, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public String resolve(String filePath, ImageVariant variant) {
+        String variantPath = variant.pathFor(filePath);
+        return Files.exists(Paths.get(variantPath)) ? variantPath : filePath;
+    }
+
+    /**
+     * Decode the original once and write every variant narrower than it.
+     * The original is subsampled while decoding to about twice the width of the largest variant,
+     * which keeps memory bounded for large uploads and leaves enough pixels for a smooth downscale.
+     *
+     * @param original Path of the original file
+     */
+    private void writeVariants(Path original) throws IOException {
+        if (!Files.exists(original)) {
+            return;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.debug("No image reader available for {}, skipping variants", original);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                List<ImageVariant> variants = Arrays.stream(ImageVariant.values())
+                        .filter(variant -> variant.getMaxWidth() < width)
+                        .toList();
+                if (variants.isEmpty()) {
+                    return;
+                }
+
+                int largestWidth = variants.stream().map(ImageVariant::getMaxWidth).max(Comparator.naturalOrder()).orElseThrow();
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (largestWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                for (ImageVariant variant : variants) {
+                    writeJpeg(resize(decoded, variant.getMaxWidth()), Paths.get(variant.pathFor(original.toString())));
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image to the given width keeping its aspect ratio.
+     * Transparent areas are flattened onto white since JPEG has no alpha channel.
+     *
+     * @param source Decoded image
+     * @param targetWidth Width of the variant
+     * @return Resized RGB image
+     */
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Encode a variant as JPEG with the configured quality.
+     * The file is written under a temporary name and renamed, so a variant is never served half written.
+     *
+     * @param image Resized image
+     * @param target Path of the variant
+     */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(partial.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        try {
+            Files.move(partial, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.raffleease.raffleease.Domains.Images.Model.Image;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesAssociateService;
 import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesDeleteService;
 import com.raffleease.raffleease.Domains.Images.Validators.ImagesValidator;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
@@ -30,6 +31,7 @@ public class ImagesAssociateServiceImpl implements ImagesAssociateService {
     private final UsersService usersService;
     private final FileStorageService fileStorageService;
     private final ImagesRepository repository;
+    private final ImagesCacheService imagesCacheService;
     private final ImagesValidator imagesValidator;
 
     @Value("${spring.application.hosts.server}")
@@ -87,6 +89,7 @@ public class ImagesAssociateServiceImpl implements ImagesAssociateService {
             image.setRaffle(raffle);
             image.setStatus(ACTIVE);
             image.setUser(null);
+            imagesCacheService.evict(image.getId());
         }
         return existingImages;
     }
@@ -160,9 +163,10 @@ public class ImagesAssociateServiceImpl implements ImagesAssociateService {
                         image.getFilePath()
                 );
                 image.setFilePath(finalPath.toString());
-                image.setUrl(host + "/v1/public/associations/" + raffle.getAssociation().getId() + "/raffles/" + raffle.getId() + "/images/" + image.getId());
+                image.setUrl(buildRaffleImageUrl(raffle, image));
                 image.setRaffle(raffle);
                 image.setStatus(ACTIVE);
+                imagesCacheService.evict(image.getId());
             }
 
             image.setUser(null);
@@ -193,7 +197,16 @@ public class ImagesAssociateServiceImpl implements ImagesAssociateService {
                     image.getFilePath()
             );
             image.setFilePath(finalPath.toString());
-            image.setUrl(host + "/v1/public/associations/" + raffle.getAssociation().getId() + "/raffles/" + raffle.getId() + "/images/" + image.getId());
+            image.setUrl(buildRaffleImageUrl(raffle, image));
+            imagesCacheService.evict(image.getId());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Public URL of an image attached to a raffle, versioned with its content hash when it is known
+     */
+    private String buildRaffleImageUrl(Raffle raffle, Image image) {
+        String url = host + "/v1/public/associations/" + raffle.getAssociation().getId() + "/raffles/" + raffle.getId() + "/images/" + image.getId();
+        return image.getContentHash() != null ? url + "?v=" + image.getContentHash() : url;
+    }
+}
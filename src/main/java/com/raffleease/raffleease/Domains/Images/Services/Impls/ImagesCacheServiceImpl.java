@@ -0,0 +1,131 @@
+package com.raffleease.raffleease.Domains.Images.Services.Impls;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
+import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Model.ImageSnapshot;
+import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Node-local cache of image metadata. Evictions are published to every node once the change commits,
+ * so the time to live only bounds staleness for evictions whose message was missed while disconnected.
+ */
+@Slf4j
+@Service
+public class ImagesCacheServiceImpl implements ImagesCacheService {
+    private static final String EVICTIONS_CHANNEL = "images_cache:evictions";
+
+    private final ImagesRepository repository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, ImageSnapshot> images;
+
+    public ImagesCacheServiceImpl(
+            ImagesRepository repository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${spring.application.configs.images.cache_ttl_seconds:300}") long ttlSeconds,
+            @Value("${spring.application.configs.images.cache_max_size:10000}") long maxSize
+    ) {
+        this.repository = repository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.images = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onEviction(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICTIONS_CHANNEL));
+    }
+
+    @Override
+    public ImageSnapshot findImage(Long imageId) {
+        ImageSnapshot image = images.get(imageId, id -> {
+            try {
+                return repository.findById(id).map(this::snapshot).orElse(null);
+            } catch (DataAccessException ex) {
+                throw new DatabaseException("Database error occurred while retrieving image with ID <" + id + ">: " + ex.getMessage());
+            }
+        });
+        if (image == null) {
+            throw new NotFoundException("Image not found for id <" + imageId + ">");
+        }
+        return image;
+    }
+
+    @Override
+    public void evict(Long imageId) {
+        if (imageId == null) {
+            return;
+        }
+        images.invalidate(imageId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Requests running before the commit could have cached the old state again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    images.invalidate(imageId);
+                    publishEviction(imageId);
+                }
+            });
+        } else {
+            publishEviction(imageId);
+        }
+    }
+
+    @Override
+    public void evictLocally(Long imageId) {
+        if (imageId != null) {
+            images.invalidate(imageId);
+        }
+    }
+
+    private void publishEviction(Long imageId) {
+        try {
+            redisTemplate.convertAndSend(EVICTIONS_CHANNEL, imageId.toString());
+        } catch (Exception ex) {
+            log.warn("Failed to publish the eviction of image {}, other nodes refresh it when it expires. Error: {}", imageId, ex.getMessage());
+        }
+    }
+
+    private void onEviction(String message) {
+        try {
+            images.invalidate(Long.valueOf(message));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed image eviction message: {}", message);
+        }
+    }
+
+    private ImageSnapshot snapshot(Image image) {
+        return new ImageSnapshot(
+                image.getId(),
+                image.getFilePath(),
+                image.getContentType(),
+                image.getStatus(),
+                image.getContentHash(),
+                image.getCreatedAt() != null ? image.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant() : null
+        );
+    }
+}
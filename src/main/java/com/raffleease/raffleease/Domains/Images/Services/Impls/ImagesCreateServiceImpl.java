@@ -9,6 +9,7 @@ import com.raffleease.raffleease.Domains.Images.Mappers.ImagesMapper;
 import com.raffleease.raffleease.Domains.Images.Model.Image;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
 import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImageVariantsService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesCreateService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesService;
 import com.raffleease.raffleease.Domains.Images.Validators.ImagesValidator;
@@ -18,6 +19,7 @@ import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageE
 import com.raffleease.raffleease.Domains.Users.Model.User;
 import com.raffleease.raffleease.Domains.Users.Services.UsersService;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +29,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static com.raffleease.raffleease.Domains.Images.Model.ImageStatus.PENDING;
 
@@ -34,14 +37,18 @@ import static com.raffleease.raffleease.Domains.Images.Model.ImageStatus.PENDING
 @Service
 @Slf4j
 public class ImagesCreateServiceImpl implements ImagesCreateService {
+    private static final String STAGE_METRIC = "images.ingestion.stage";
+
     private final ImagesService imagesService;
     private final FileStorageService fileStorageService;
+    private final ImageVariantsService imageVariantsService;
     private final ImagesRepository repository;
     private final ImagesMapper mapper;
     private final AssociationsService associationsService;
     private final RafflesPersistenceService rafflesPersistenceService;
     private final ImagesValidator imagesValidator;
     private final UsersService usersService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.application.hosts.server}")
     private String host;
@@ -105,19 +112,26 @@ public class ImagesCreateServiceImpl implements ImagesCreateService {
         
         try {
             // 1: Store files to temporary location first
-            tempFilePaths = fileStorageService.saveTemporaryBatch(files, String.valueOf(associationId), batchId);
+            tempFilePaths = timed("save_temporary", () -> fileStorageService.saveTemporaryBatch(files, String.valueOf(associationId), batchId));
             // 2: Create Image entities in database
-            savedImages = createImageEntities(association, user, files, raffle);
+            savedImages = timed("create_entities", () -> createImageEntities(association, user, files, raffle));
             // 3: Set image order based on both pending and existing images in the raffle
             setImagesOrder(savedImages, currentImagesCount, pendingImagesCount);
             // 4: Move files to final location using database IDs
             List<String> imageIds = savedImages.stream().map(img -> String.valueOf(img.getId())).toList();
             String raffleId = raffle != null ? String.valueOf(raffle.getId()) : null;
-            finalFilePaths = fileStorageService.moveTemporaryBatchToFinal(tempFilePaths, String.valueOf(associationId), raffleId, imageIds);
-            // 5: Update Image entities with final file paths and URLs
-            updateImageEntitiesWithFilePaths(savedImages, finalFilePaths, baseURL);
-            List<Image> updatedImages = imagesService.saveAll(savedImages);
-            // 6: Convert to DTOs and return
+            List<String> temporaryPaths = tempFilePaths;
+            finalFilePaths = timed("move_final", () -> fileStorageService.moveTemporaryBatchToFinal(temporaryPaths, String.valueOf(associationId), raffleId, imageIds));
+            // 5: Hash the stored files, used as entity tags and to version image URLs
+            List<String> finalPaths = finalFilePaths;
+            List<String> contentHashes = timed("hash_content", () -> fileStorageService.contentHashes(finalPaths));
+            // 6: Update Image entities with final file paths, content hashes and URLs
+            updateImageEntitiesWithFilePaths(savedImages, finalFilePaths, contentHashes, baseURL);
+            List<Image> imagesToUpdate = savedImages;
+            List<Image> updatedImages = timed("update_entities", () -> imagesService.saveAll(imagesToUpdate));
+            // 7: Generate resized variants once the images are committed
+            imageVariantsService.generateVariants(finalFilePaths);
+            // 8: Convert to DTOs and return
             List<ImageDTO> mappedImages = mapper.fromImagesList(updatedImages);
             return new ImageResponse(mappedImages);
             
@@ -175,13 +189,15 @@ public class ImagesCreateServiceImpl implements ImagesCreateService {
     }
 
     /**
-     * Update Image entities with final file paths and URLs
+     * Update Image entities with final file paths, content hashes and URLs
+     * URLs carry the content hash so clients can cache them indefinitely
      * 
      * @param images List of images to update
      * @param filePaths List of file paths to set
+     * @param contentHashes List of content hashes of the files
      * @param baseURL Base URL for the images
      */
-    private void updateImageEntitiesWithFilePaths(List<Image> images, List<String> filePaths, String baseURL) {
+    private void updateImageEntitiesWithFilePaths(List<Image> images, List<String> filePaths, List<String> contentHashes, String baseURL) {
         if (images.size() != filePaths.size()) {
             throw new IllegalArgumentException("Number of images must match number of file paths");
         }
@@ -190,10 +206,22 @@ public class ImagesCreateServiceImpl implements ImagesCreateService {
             Image image = images.get(i);
             String filePath = filePaths.get(i);
             image.setFilePath(filePath);
-            image.setUrl(baseURL + image.getId());
+            image.setContentHash(contentHashes.get(i));
+            image.setUrl(baseURL + image.getId() + "?v=" + image.getContentHash());
         }
     }
 
+    /**
+     * Run a stage of the images creation, recording its duration
+     * 
+     * @param stage Stage name used as metric tag
+     * @param step Stage to run
+     * @return Result of the stage
+     */
+    private <T> T timed(String stage, Supplier<T> step) {
+        return meterRegistry.timer(STAGE_METRIC, "stage", stage).record(step);
+    }
+
     /**
      * Rollback image creation by cleaning up any saved files
      * 
@@ -5,6 +5,7 @@ import com.raffleease.raffleease.Domains.Images.Model.ImageStatus;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesDeleteService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
@@ -19,11 +20,13 @@ import static com.raffleease.raffleease.Domains.Images.Model.ImageStatus.MARKED_
 public class ImagesDeleteServiceImpl implements ImagesDeleteService {
     private final ImagesService imagesService;
     private final ImagesRepository repository;
+    private final ImagesCacheService imagesCacheService;
 
     @Override
     public void deleteAll(List<Image> images) {
         try {
             repository.deleteAll(images);
+            images.forEach(image -> imagesCacheService.evict(image.getId()));
         } catch (DataAccessException ex) {
             throw new DatabaseException("Database error occurred while deleting images: " + ex.getMessage());
         }
@@ -33,6 +36,7 @@ public class ImagesDeleteServiceImpl implements ImagesDeleteService {
     public void delete(Image image) {
         try {
             repository.delete(image);
+            imagesCacheService.evict(image.getId());
         } catch (DataAccessException ex) {
             throw new DatabaseException("Database error occurred while deleting image: " + ex.getMessage());
         }
@@ -43,5 +47,6 @@ public class ImagesDeleteServiceImpl implements ImagesDeleteService {
         Image image = imagesService.findById(id);
         image.setStatus(MARKED_FOR_DELETION);
         repository.save(image);
+        imagesCacheService.evict(id);
     }
 }
@@ -3,11 +3,16 @@ package com.raffleease.raffleease.Domains.Images.Services.Impls;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
 import com.raffleease.raffleease.Domains.Images.DTOs.ImageDTO;
+import com.raffleease.raffleease.Domains.Images.DTOs.ImageFile;
 import com.raffleease.raffleease.Domains.Images.DTOs.UserImagesResponse;
 import com.raffleease.raffleease.Domains.Images.Mappers.ImagesMapper;
 import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Model.ImageSnapshot;
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
 import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImageVariantsService;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
 import com.raffleease.raffleease.Domains.Images.Services.ImagesService;
 import com.raffleease.raffleease.Domains.Images.Validators.ImagesValidator;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
@@ -24,11 +29,14 @@ import java.util.List;
 
 import static com.raffleease.raffleease.Domains.Images.Model.ImageStatus.MARKED_FOR_DELETION;
 import static com.raffleease.raffleease.Domains.Images.Model.ImageStatus.PENDING;
+import static org.springframework.http.MediaType.IMAGE_JPEG_VALUE;
 
 @RequiredArgsConstructor
 @Service
 public class ImagesServiceImpl implements ImagesService {
     private final FileStorageService fileStorageService;
+    private final ImageVariantsService imageVariantsService;
+    private final ImagesCacheService imagesCacheService;
     private final ImagesRepository repository;
     private final UsersService usersService;
     private final RafflesPersistenceService rafflesPersistence;
@@ -69,11 +77,41 @@ public class ImagesServiceImpl implements ImagesService {
 
     @Override
     public Resource getFile(Long id) {
-        Image image = findById(id);
-        if (image.getStatus() == MARKED_FOR_DELETION) {
+        return fileStorageService.load(findAvailableImage(id).getFilePath());
+    }
+
+    @Override
+    public ImageFile getImageFile(Long id, ImageVariant variant) {
+        ImageSnapshot image = imagesCacheService.findImage(id);
+        if (image.status() == MARKED_FOR_DELETION) {
             throw new NotFoundException("Image not found for id <" + id + ">");
         }
-        return fileStorageService.load(image.getFilePath());
+        String contentHash = image.contentHash();
+        ImageFile.ImageFileBuilder file = ImageFile.builder()
+                .filePath(image.filePath())
+                .contentType(image.contentType())
+                .contentHash(contentHash)
+                .etag(contentHash)
+                .lastModified(image.createdAt());
+        if (variant == null) {
+            return file.build();
+        }
+
+        String variantPath = imageVariantsService.resolve(image.filePath(), variant);
+        if (variantPath.equals(image.filePath())) {
+            return file.fallback(true).lastModified(null).build();
+        }
+        return file
+                .filePath(variantPath)
+                .contentType(IMAGE_JPEG_VALUE)
+                .etag(contentHash != null ? contentHash + "-" + variant.name().toLowerCase() : null)
+                .build();
+    }
+
+    @Override
+    public ImageFile reloadImageFile(Long id, ImageVariant variant) {
+        imagesCacheService.evictLocally(id);
+        return getImageFile(id, variant);
     }
 
     @Override
@@ -97,4 +135,12 @@ public class ImagesServiceImpl implements ImagesService {
                 .images(mappedImages)
                 .build();
     }
+
+    private Image findAvailableImage(Long id) {
+        Image image = findById(id);
+        if (image.getStatus() == MARKED_FOR_DELETION) {
+            throw new NotFoundException("Image not found for id <" + id + ">");
+        }
+        return image;
+    }
 }
\ No newline at end of file
@@ -26,7 +26,7 @@ public class ImagesValidator {
     }
 
     public void validatePendingImagesBelongToUser(User user, List<Image> images) {
-        if (images.stream().anyMatch(image -> !image.getUser().equals(user))) {
+        if (images.stream().anyMatch(image -> !image.getUser().getId().equals(user.getId()))) {
             throw new AuthorizationException("You are not authorized to use the specified pending image(s)");
         }
     }
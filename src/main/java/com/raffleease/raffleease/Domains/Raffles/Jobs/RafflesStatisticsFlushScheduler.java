@@ -0,0 +1,40 @@
+package com.raffleease.raffleease.Domains.Raffles.Jobs;
+
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RafflesStatisticsFlushScheduler {
+    private final RafflesStatisticsBuffer statisticsBuffer;
+
+    @Value("${spring.application.configs.statistics.write_behind}")
+    private boolean writeBehind;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPending() {
+        if (!writeBehind) {
+            return;
+        }
+        int flushed = statisticsBuffer.flush();
+        log.info("Recovered pending statistics for {} raffles", flushed);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.application.configs.statistics.flush_poll_ms}")
+    public void flushPending() {
+        if (!statisticsBuffer.isFlushDue()) {
+            return;
+        }
+        int flushed = statisticsBuffer.flush();
+        if (flushed > 0) {
+            log.debug("Flushed pending statistics for {} raffles", flushed);
+        }
+    }
+}
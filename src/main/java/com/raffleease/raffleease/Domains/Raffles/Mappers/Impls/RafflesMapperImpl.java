@@ -7,6 +7,7 @@ import com.raffleease.raffleease.Domains.Raffles.DTOs.RaffleStatisticsDTO;
 import com.raffleease.raffleease.Domains.Raffles.Mappers.RafflesMapper;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +18,7 @@ import java.util.List;
 @Service
 public class RafflesMapperImpl implements RafflesMapper {
     private final ImagesMapper imagesMapper;
+    private final RafflesStatisticsService statisticsService;
 
     @Override
     public RaffleDTO fromRaffle(Raffle raffle) {
@@ -36,7 +38,7 @@ public class RafflesMapperImpl implements RafflesMapper {
                 .images(images)
                 .completionReason(raffle.getCompletionReason())
                 .winningTicketId(raffle.getWinningTicket() != null ? raffle.getWinningTicket().getId() : null)
-                .statistics(fromStatistics(raffle.getId(), raffle.getStatistics()))
+                .statistics(fromStatistics(raffle.getId(), statisticsService.getStatistics(raffle)))
                 .startDate(raffle.getStartDate())
                 .endDate(raffle.getEndDate())
                 .createdAt(raffle.getCreatedAt())
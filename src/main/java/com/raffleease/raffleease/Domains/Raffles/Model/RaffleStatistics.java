@@ -62,4 +62,5 @@ public class RaffleStatistics {
     private LocalDateTime firstSaleDate;
     private LocalDateTime lastSaleDate;
     private BigDecimal dailySalesVelocity;
+    private Long lastFlushedBatch;
 }
@@ -0,0 +1,76 @@
+package com.raffleease.raffleease.Domains.Raffles.Model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static java.math.BigDecimal.ZERO;
+
+/**
+ * Relative change to the statistics of a raffle. Counters are added to the current values,
+ * while the sale dates and the derived ratios are resolved when the change is applied.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class RaffleStatisticsDelta {
+    private long availableTickets;
+    private long soldTickets;
+    @Builder.Default
+    private BigDecimal revenue = ZERO;
+    private long totalOrders;
+    private long completedOrders;
+    private long pendingOrders;
+    private long cancelledOrders;
+    private long unpaidOrders;
+    private long refundedOrders;
+    private long participants;
+    private LocalDateTime firstSaleDate;
+    private LocalDateTime lastSaleDate;
+    private boolean recalculateTicketsPerParticipant;
+    private boolean recalculateAverageOrderValue;
+
+    public static RaffleStatisticsDelta empty() {
+        return RaffleStatisticsDelta.builder().build();
+    }
+
+    public RaffleStatisticsDelta plus(RaffleStatisticsDelta other) {
+        return RaffleStatisticsDelta.builder()
+                .availableTickets(availableTickets + other.availableTickets)
+                .soldTickets(soldTickets + other.soldTickets)
+                .revenue(revenue.add(other.revenue))
+                .totalOrders(totalOrders + other.totalOrders)
+                .completedOrders(completedOrders + other.completedOrders)
+                .pendingOrders(pendingOrders + other.pendingOrders)
+                .cancelledOrders(cancelledOrders + other.cancelledOrders)
+                .unpaidOrders(unpaidOrders + other.unpaidOrders)
+                .refundedOrders(refundedOrders + other.refundedOrders)
+                .participants(participants + other.participants)
+                .firstSaleDate(earliest(firstSaleDate, other.firstSaleDate))
+                .lastSaleDate(latest(lastSaleDate, other.lastSaleDate))
+                .recalculateTicketsPerParticipant(recalculateTicketsPerParticipant || other.recalculateTicketsPerParticipant)
+                .recalculateAverageOrderValue(recalculateAverageOrderValue || other.recalculateAverageOrderValue)
+                .build();
+    }
+
+    public boolean isEmpty() {
+        return availableTickets == 0 && soldTickets == 0 && revenue.signum() == 0
+                && totalOrders == 0 && completedOrders == 0 && pendingOrders == 0
+                && cancelledOrders == 0 && unpaidOrders == 0 && refundedOrders == 0
+                && participants == 0 && firstSaleDate == null && lastSaleDate == null
+                && !recalculateTicketsPerParticipant && !recalculateAverageOrderValue;
+    }
+
+    private static LocalDateTime earliest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) return second;
+        if (second == null) return first;
+        return first.isAfter(second) ? first : second;
+    }
+}
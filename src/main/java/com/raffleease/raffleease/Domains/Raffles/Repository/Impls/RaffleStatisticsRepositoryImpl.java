@@ -0,0 +1,116 @@
+package com.raffleease.raffleease.Domains.Raffles.Repository.Impls;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RaffleStatisticsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class RaffleStatisticsRepositoryImpl implements RaffleStatisticsRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public boolean applyDelta(Long raffleId, RaffleStatisticsDelta delta, boolean guarded) {
+        return update(raffleId, delta, guarded, null);
+    }
+
+    @Override
+    public boolean applyBatch(Long raffleId, RaffleStatisticsDelta delta, long batchId) {
+        return update(raffleId, delta, false, batchId);
+    }
+
+    private boolean update(Long raffleId, RaffleStatisticsDelta delta, boolean guarded, Long batchId) {
+        StringBuilder query = new StringBuilder("UPDATE raffle_statistics s SET " +
+                "available_tickets = s.available_tickets + :availableTickets, " +
+                "sold_tickets = s.sold_tickets + :soldTickets, " +
+                "revenue = s.revenue + :revenue, " +
+                "total_orders = s.total_orders + :totalOrders, " +
+                "completed_orders = s.completed_orders + :completedOrders, " +
+                "pending_orders = s.pending_orders + :pendingOrders, " +
+                "cancelled_orders = s.cancelled_orders + :cancelledOrders, " +
+                "unpaid_orders = s.unpaid_orders + :unpaidOrders, " +
+                "refunded_orders = s.refunded_orders + :refundedOrders, " +
+                "participants = s.participants + :participants");
+
+        if (delta.isRecalculateTicketsPerParticipant()) {
+            query.append(", tickets_per_participant = CASE WHEN s.participants + :participants > 0 " +
+                    "THEN ROUND(CAST(r.total_tickets - (s.available_tickets + :availableTickets) AS NUMERIC) / (s.participants + :participants), 2) " +
+                    "ELSE 0 END");
+        }
+
+        if (delta.isRecalculateAverageOrderValue()) {
+            query.append(", average_order_value = CASE WHEN s.completed_orders + :completedOrders > 0 " +
+                    "THEN ROUND((s.revenue + :revenue) / (s.completed_orders + :completedOrders), 2) " +
+                    "ELSE 0 END");
+        }
+
+        if (delta.getFirstSaleDate() != null) {
+            query.append(", first_sale_date = COALESCE(s.first_sale_date, :firstSaleDate)");
+        }
+
+        if (delta.getLastSaleDate() != null) {
+            query.append(", last_sale_date = GREATEST(s.last_sale_date, :lastSaleDate)");
+        }
+
+        if (batchId != null) {
+            query.append(", last_flushed_batch = :batchId");
+        }
+
+        query.append(" FROM raffles r WHERE r.id = s.raffle_id AND s.raffle_id = :raffleId");
+
+        if (guarded) {
+            query.append(" AND s.available_tickets + :availableTickets BETWEEN 0 AND r.total_tickets");
+        }
+
+        if (batchId != null) {
+            query.append(" AND (s.last_flushed_batch IS NULL OR s.last_flushed_batch < :batchId)");
+        }
+
+        Query nativeQuery = entityManager.createNativeQuery(query.toString())
+                .setParameter("raffleId", raffleId)
+                .setParameter("availableTickets", delta.getAvailableTickets())
+                .setParameter("soldTickets", delta.getSoldTickets())
+                .setParameter("revenue", delta.getRevenue())
+                .setParameter("totalOrders", delta.getTotalOrders())
+                .setParameter("completedOrders", delta.getCompletedOrders())
+                .setParameter("pendingOrders", delta.getPendingOrders())
+                .setParameter("cancelledOrders", delta.getCancelledOrders())
+                .setParameter("unpaidOrders", delta.getUnpaidOrders())
+                .setParameter("refundedOrders", delta.getRefundedOrders())
+                .setParameter("participants", delta.getParticipants());
+
+        if (delta.getFirstSaleDate() != null) {
+            nativeQuery.setParameter("firstSaleDate", delta.getFirstSaleDate());
+        }
+
+        if (delta.getLastSaleDate() != null) {
+            nativeQuery.setParameter("lastSaleDate", delta.getLastSaleDate());
+        }
+
+        if (batchId != null) {
+            nativeQuery.setParameter("batchId", batchId);
+        }
+
+        boolean updated = nativeQuery.executeUpdate() > 0;
+        if (updated) {
+            refreshManaged(raffleId);
+        }
+        return updated;
+    }
+
+    /**
+     * Native updates are not reflected in the persistence context, so statistics that are
+     * already loaded are refreshed to keep the rest of the request consistent with the database.
+     */
+    private void refreshManaged(Long raffleId) {
+        RaffleStatistics statistics = entityManager.getReference(RaffleStatistics.class, raffleId);
+        if (Hibernate.isInitialized(statistics)) {
+            entityManager.refresh(statistics);
+        }
+    }
+}
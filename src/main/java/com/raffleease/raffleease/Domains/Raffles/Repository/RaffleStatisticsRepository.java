@@ -0,0 +1,26 @@
+package com.raffleease.raffleease.Domains.Raffles.Repository;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+
+/**
+ * Applies raffle statistics changes as relative updates computed by the database,
+ * so concurrent operations on the same raffle never overwrite each other's changes.
+ */
+public interface RaffleStatisticsRepository {
+    /**
+     * Adds the delta to the persisted statistics of the raffle.
+     * When guarded, the change is only applied if the resulting available tickets stay
+     * between zero and the total tickets of the raffle.
+     *
+     * @return whether the statistics were updated
+     */
+    boolean applyDelta(Long raffleId, RaffleStatisticsDelta delta, boolean guarded);
+
+    /**
+     * Adds a batch of buffered changes to the persisted statistics of the raffle and records the batch as flushed.
+     * Batch ids of a raffle increase with every batch, so a batch that was already applied is skipped.
+     *
+     * @return whether the statistics were updated, false if the batch was already applied or the raffle does not exist
+     */
+    boolean applyBatch(Long raffleId, RaffleStatisticsDelta delta, long batchId);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,6 +22,7 @@ public interface RafflesRepository extends JpaRepository<Raffle, Long>, RafflesS
     """)
     List<Raffle> findAllEligibleForCompletion(@Param("status") RaffleStatus status);
     List<Raffle> findAllByAssociation(Association association);
+    List<Raffle> findAllByStatusIn(Collection<RaffleStatus> statuses);
 
     @Query("""
     SELECT r FROM Raffle r
@@ -11,7 +11,6 @@ import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesCreateService;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesPersistenceService;
-import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -44,11 +43,10 @@ public class RafflesCreateServiceImpl implements RafflesCreateService {
         // 3. Associate images without paths/URLs
         List<Image> images = imagesAssociateService.associateImagesToRaffleOnCreate(newRaffle, raffleData.images());
         newRaffle.getImages().addAll(images);
-        // 4. Create tickets
-        List<Ticket> tickets = ticketsService.create(newRaffle, raffleData.ticketsInfo());
-        newRaffle.getTickets().addAll(tickets);
-        // 5. Save the raffle
+        // 4. Save the raffle
         Raffle savedRaffle = rafflesPersistence.save(newRaffle);
+        // 5. Create tickets in bulk for the saved raffle
+        ticketsService.create(savedRaffle, raffleData.ticketsInfo());
         // 6. Finalize the image paths and URLs with the saved raffle's ID
         imagesAssociateService.finalizeImagePathsAndUrls(savedRaffle, images);
 
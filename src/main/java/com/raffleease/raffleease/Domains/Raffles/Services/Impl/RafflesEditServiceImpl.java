@@ -10,9 +10,9 @@ import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesEditService;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesPersistenceService;
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsService;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatusService;
 import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsCreate;
-import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.BusinessException;
 import jakarta.transaction.Transactional;
@@ -30,6 +30,7 @@ import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.COMPL
 public class RafflesEditServiceImpl implements RafflesEditService {
     private final RafflesPersistenceService rafflesPersistence;
     private final RafflesStatusService rafflesStatusService;
+    private final RafflesStatisticsService rafflesStatisticsService;
     private final TicketsService ticketsCreateService;
     private final ImagesAssociateService imagesAssociateService;
     private final RafflesMapper rafflesMapper;
@@ -82,7 +83,7 @@ public class RafflesEditServiceImpl implements RafflesEditService {
     }
 
     private void editTotalTickets(Raffle raffle, long editTotal) {
-        RaffleStatistics statistics = raffle.getStatistics();
+        RaffleStatistics statistics = rafflesStatisticsService.getStatistics(raffle);
 
         if (statistics.getSoldTickets() != null && editTotal < statistics.getSoldTickets()) {
             throw new BusinessException("The total tickets count cannot be less than the number of tickets already sold for this raffle");
@@ -96,7 +97,7 @@ public class RafflesEditServiceImpl implements RafflesEditService {
             return;
         }
 
-        statistics.setAvailableTickets(statistics.getAvailableTickets() + ticketDifference);
+        rafflesStatisticsService.setTicketsAddedStatistics(raffle, ticketDifference);
         createAdditionalTickets(raffle, oldTotal, ticketDifference);
         rafflesStatusService.updateStatusAfterAvailableTicketsIncrease(raffle);
     }
@@ -110,7 +111,6 @@ public class RafflesEditServiceImpl implements RafflesEditService {
                 .lowerLimit(lowerLimit)
                 .build();
 
-        List<Ticket> newTickets = ticketsCreateService.create(raffle, request);
-        raffle.getTickets().addAll(newTickets);
+        ticketsCreateService.create(raffle, request);
     }
 }
\ No newline at end of file
@@ -0,0 +1,348 @@
+package com.raffleease.raffleease.Domains.Raffles.Services.Impl;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RaffleStatisticsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.math.RoundingMode.HALF_UP;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RafflesStatisticsBufferImpl implements RafflesStatisticsBuffer {
+    private static final String PENDING_KEY_PREFIX = "raffle_statistics:pending:";
+    private static final String INFLIGHT_KEY_PREFIX = "raffle_statistics:inflight:";
+    private static final String DIRTY_KEY = "raffle_statistics:dirty";
+    private static final String INFLIGHT_KEY = "raffle_statistics:inflight";
+    private static final String EVENTS_KEY = "raffle_statistics:events";
+    private static final String BATCH_SEQUENCE_KEY = "raffle_statistics:batch_sequence";
+    private static final String FLUSH_LOCK_KEY = "raffle_statistics:flush_lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    private static final String FIRST_SALE_DATE = "first_sale_date";
+    private static final String LAST_SALE_DATE = "last_sale_date";
+    private static final String RECALCULATE_TICKETS_PER_PARTICIPANT = "recalculate_tickets_per_participant";
+    private static final String RECALCULATE_AVERAGE_ORDER_VALUE = "recalculate_average_order_value";
+    private static final String REVENUE_CENTS = "revenue_cents";
+    private static final String BATCH_ID = "batch_id";
+
+    /**
+     * Adds the counters of a change to the pending hash of a raffle and marks the raffle as dirty in one step.
+     * KEYS: pending hash, dirty set, events counter. ARGV: raffle id, first sale date, last sale date, then field/increment pairs.
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 4, #ARGV, 2 do
+                redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if ARGV[2] ~= '' then
+                redis.call('HSETNX', KEYS[1], 'first_sale_date', ARGV[2])
+            end
+            if ARGV[3] ~= '' then
+                redis.call('HSET', KEYS[1], 'last_sale_date', ARGV[3])
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            return redis.call('INCR', KEYS[3])
+            """, Long.class);
+
+    /**
+     * Moves the pending hash of a raffle to its in-flight hash unless a previous flush left one behind,
+     * and returns the in-flight contents. KEYS: pending hash, in-flight hash, dirty set, in-flight set, batch sequence. ARGV: raffle id.
+     * Every in-flight hash gets a batch id that is never lower than the server time in microseconds,
+     * so ids keep increasing even if the sequence is lost.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('SADD', KEYS[4], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 and redis.call('HEXISTS', KEYS[2], 'batch_id') == 0 then
+                local time = redis.call('TIME')
+                local batch = math.max(redis.call('INCR', KEYS[5]), tonumber(time[1]) * 1000000 + tonumber(time[2]))
+                batch = string.format('%d', batch)
+                redis.call('SET', KEYS[5], batch)
+                redis.call('HSET', KEYS[2], 'batch_id', batch)
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[3], ARGV[1])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * Reads the pending and in-flight hashes of a raffle at once, so a concurrent claim cannot make a change appear in both.
+     * KEYS: pending hash, in-flight hash. Returns the number of pending entries followed by the pending and in-flight entries.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local pending = redis.call('HGETALL', KEYS[1])
+            local result = {tostring(#pending)}
+            for _, value in ipairs(pending) do
+                table.insert(result, value)
+            end
+            for _, value in ipairs(redis.call('HGETALL', KEYS[2])) do
+                table.insert(result, value)
+            end
+            return result
+            """, List.class);
+
+    /**
+     * Deletes the flush lock only if it is still held with the given token.
+     * KEYS: lock key. ARGV: token.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RaffleStatisticsRepository statisticsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong lastFlush = new AtomicLong(System.currentTimeMillis());
+
+    @Value("${spring.application.configs.statistics.write_behind}")
+    private boolean writeBehind;
+
+    @Value("${spring.application.configs.statistics.flush_interval_ms}")
+    private Long flushIntervalMillis;
+
+    @Value("${spring.application.configs.statistics.flush_max_events}")
+    private Long flushMaxEvents;
+
+    /**
+     * Changes to the available tickets are applied to the database immediately, so the guard is checked
+     * atomically against exact availability and never against a buffered value that another node is also changing.
+     * This keeps reservations and releases, the busiest writers, on the synchronous path: only order and
+     * sale counters are buffered. Buffering availability would need the guard to move into Redis next to
+     * the pending hashes, and the ticket bitmaps cannot stand in for it because they only change after commit.
+     */
+    @Override
+    public boolean add(Raffle raffle, RaffleStatisticsDelta delta, boolean guarded) {
+        if (!writeBehind || guarded || delta.getAvailableTickets() != 0) {
+            return statisticsRepository.applyDelta(raffle.getId(), delta, guarded);
+        }
+
+        Long raffleId = raffle.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pushOrApply(raffleId, delta);
+                }
+            });
+        } else {
+            pushOrApply(raffleId, delta);
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RaffleStatisticsDelta getPending(RaffleStatistics statistics) {
+        if (!writeBehind) {
+            return RaffleStatisticsDelta.empty();
+        }
+        List<String> entries = redisTemplate.execute(READ_SCRIPT,
+                List.of(PENDING_KEY_PREFIX + statistics.getId(), INFLIGHT_KEY_PREFIX + statistics.getId()));
+        if (entries == null || entries.isEmpty()) {
+            return RaffleStatisticsDelta.empty();
+        }
+        int pendingSize = Integer.parseInt(entries.get(0));
+        Map<Object, Object> pending = toFields(entries.subList(1, pendingSize + 1));
+        Map<Object, Object> inflight = toFields(entries.subList(pendingSize + 1, entries.size()));
+        if (isFlushed(inflight, statistics)) {
+            return toDelta(pending);
+        }
+        return toDelta(pending).plus(toDelta(inflight));
+    }
+
+    @Override
+    public boolean isFlushDue() {
+        if (!writeBehind) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastFlush.get() >= flushIntervalMillis) {
+            return true;
+        }
+        String events = redisTemplate.opsForValue().get(EVENTS_KEY);
+        return events != null && Long.parseLong(events) >= flushMaxEvents;
+    }
+
+    @Override
+    public int flush() {
+        lastFlush.set(System.currentTimeMillis());
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, lockToken, FLUSH_LOCK_TTL))) {
+            return 0;
+        }
+        try {
+            redisTemplate.opsForValue().set(EVENTS_KEY, "0");
+            Set<String> raffleIds = redisTemplate.opsForSet().union(DIRTY_KEY, INFLIGHT_KEY);
+            return raffleIds == null ? 0 : flushRaffles(raffleIds);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), lockToken);
+        }
+    }
+
+    private int flushRaffles(Set<String> raffleIds) {
+        int flushed = 0;
+        for (String raffleId : raffleIds) {
+            try {
+                if (flushRaffle(Long.valueOf(raffleId))) {
+                    flushed++;
+                }
+            } catch (Exception ex) {
+                meterRegistry.counter("raffle.statistics.flush.failures").increment();
+                log.error("Failed to flush statistics for raffle {}: {}", raffleId, ex.getMessage());
+            }
+        }
+        meterRegistry.counter("raffle.statistics.flushed").increment(flushed);
+        return flushed;
+    }
+
+    /**
+     * Applies the in-flight changes of a raffle and discards them once the database transaction has committed.
+     * The batch id is recorded in the same update, so a batch left behind by a failure after the commit
+     * is skipped instead of applied twice on the next flush.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean flushRaffle(Long raffleId) {
+        String inflightKey = INFLIGHT_KEY_PREFIX + raffleId;
+        List<String> entries = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(PENDING_KEY_PREFIX + raffleId, inflightKey, DIRTY_KEY, INFLIGHT_KEY, BATCH_SEQUENCE_KEY),
+                raffleId.toString());
+        if (entries == null || entries.isEmpty()) {
+            redisTemplate.opsForSet().remove(INFLIGHT_KEY, raffleId.toString());
+            return false;
+        }
+
+        Map<Object, Object> fields = toFields(entries);
+        RaffleStatisticsDelta delta = toDelta(fields);
+        long batchId = getLong(fields, BATCH_ID);
+        Boolean applied = transactionTemplate.execute(status -> statisticsRepository.applyBatch(raffleId, delta, batchId));
+        if (!Boolean.TRUE.equals(applied)) {
+            log.warn("Discarding statistics batch {} of raffle {}, already applied or the raffle no longer exists", batchId, raffleId);
+        }
+
+        redisTemplate.delete(inflightKey);
+        redisTemplate.opsForSet().remove(INFLIGHT_KEY, raffleId.toString());
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private boolean isFlushed(Map<Object, Object> inflight, RaffleStatistics statistics) {
+        Long lastFlushedBatch = statistics.getLastFlushedBatch();
+        return lastFlushedBatch != null && inflight.containsKey(BATCH_ID) && getLong(inflight, BATCH_ID) <= lastFlushedBatch;
+    }
+
+    /**
+     * Buffers a change, or applies it to the database in a transaction of its own when Redis cannot take it,
+     * so a change is never lost once the transaction that produced it has committed.
+     */
+    private void pushOrApply(Long raffleId, RaffleStatisticsDelta delta) {
+        try {
+            push(raffleId, delta);
+        } catch (Exception ex) {
+            meterRegistry.counter("raffle.statistics.buffer.failures").increment();
+            log.warn("Failed to buffer statistics for raffle {}, applying them directly: {}", raffleId, ex.getMessage());
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.executeWithoutResult(status -> statisticsRepository.applyDelta(raffleId, delta, false));
+        }
+    }
+
+    private void push(Long raffleId, RaffleStatisticsDelta delta) {
+        List<String> args = new ArrayList<>();
+        args.add(raffleId.toString());
+        args.add(delta.getFirstSaleDate() != null ? delta.getFirstSaleDate().toString() : "");
+        args.add(delta.getLastSaleDate() != null ? delta.getLastSaleDate().toString() : "");
+        addCounter(args, "available_tickets", delta.getAvailableTickets());
+        addCounter(args, "sold_tickets", delta.getSoldTickets());
+        addCounter(args, REVENUE_CENTS, delta.getRevenue().setScale(2, HALF_UP).movePointRight(2).longValueExact());
+        addCounter(args, "total_orders", delta.getTotalOrders());
+        addCounter(args, "completed_orders", delta.getCompletedOrders());
+        addCounter(args, "pending_orders", delta.getPendingOrders());
+        addCounter(args, "cancelled_orders", delta.getCancelledOrders());
+        addCounter(args, "unpaid_orders", delta.getUnpaidOrders());
+        addCounter(args, "refunded_orders", delta.getRefundedOrders());
+        addCounter(args, "participants", delta.getParticipants());
+        addCounter(args, RECALCULATE_TICKETS_PER_PARTICIPANT, delta.isRecalculateTicketsPerParticipant() ? 1 : 0);
+        addCounter(args, RECALCULATE_AVERAGE_ORDER_VALUE, delta.isRecalculateAverageOrderValue() ? 1 : 0);
+
+        redisTemplate.execute(ADD_SCRIPT, List.of(PENDING_KEY_PREFIX + raffleId, DIRTY_KEY, EVENTS_KEY), args.toArray());
+    }
+
+    private void addCounter(List<String> args, String field, long increment) {
+        if (increment != 0) {
+            args.add(field);
+            args.add(Long.toString(increment));
+        }
+    }
+
+    private Map<Object, Object> toFields(List<String> entries) {
+        Map<Object, Object> fields = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            fields.put(entries.get(i), entries.get(i + 1));
+        }
+        return fields;
+    }
+
+    private RaffleStatisticsDelta toDelta(Map<Object, Object> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return RaffleStatisticsDelta.empty();
+        }
+        return RaffleStatisticsDelta.builder()
+                .availableTickets(getLong(fields, "available_tickets"))
+                .soldTickets(getLong(fields, "sold_tickets"))
+                .revenue(BigDecimal.valueOf(getLong(fields, REVENUE_CENTS), 2))
+                .totalOrders(getLong(fields, "total_orders"))
+                .completedOrders(getLong(fields, "completed_orders"))
+                .pendingOrders(getLong(fields, "pending_orders"))
+                .cancelledOrders(getLong(fields, "cancelled_orders"))
+                .unpaidOrders(getLong(fields, "unpaid_orders"))
+                .refundedOrders(getLong(fields, "refunded_orders"))
+                .participants(getLong(fields, "participants"))
+                .firstSaleDate(getDate(fields, FIRST_SALE_DATE))
+                .lastSaleDate(getDate(fields, LAST_SALE_DATE))
+                .recalculateTicketsPerParticipant(getLong(fields, RECALCULATE_TICKETS_PER_PARTICIPANT) > 0)
+                .recalculateAverageOrderValue(getLong(fields, RECALCULATE_AVERAGE_ORDER_VALUE) > 0)
+                .build();
+    }
+
+    private long getLong(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private LocalDateTime getDate(Map<Object, Object> fields, String field) {
+        Object value = fields.get(field);
+        return value != null ? LocalDateTime.parse(value.toString()) : null;
+    }
+}
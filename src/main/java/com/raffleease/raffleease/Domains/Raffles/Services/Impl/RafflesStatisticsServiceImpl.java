@@ -3,14 +3,17 @@ package com.raffleease.raffleease.Domains.Raffles.Services.Impl;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.BusinessException;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsBuffer;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsService;
-import com.raffleease.raffleease.Domains.Raffles.Services.RafflesPersistenceService;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,97 +24,97 @@ import static java.math.RoundingMode.HALF_UP;
 @RequiredArgsConstructor
 @Service
 public class RafflesStatisticsServiceImpl implements RafflesStatisticsService {
-    private final RafflesPersistenceService rafflesPersistence;
+    private static final String UPDATES_METRIC = "raffle.statistics.updates";
+    private static final String CONFLICTS_METRIC = "raffle.statistics.conflicts";
+
+    private final RafflesStatisticsBuffer statisticsBuffer;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void setReservationStatistics(Raffle raffle, long reductionQuantity) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        long availableTickets = statistics.getAvailableTickets() - reductionQuantity;
-        if (availableTickets < 0) {
+        RaffleStatisticsDelta delta = RaffleStatisticsDelta.builder()
+                .availableTickets(-reductionQuantity)
+                .participants(1)
+                .recalculateTicketsPerParticipant(true)
+                .build();
+        if (!statisticsBuffer.add(raffle, delta, true)) {
+            recordConflict("reservation");
             throw new BusinessException("Insufficient tickets available to complete the operation");
         }
-        statistics.setAvailableTickets(availableTickets);
-        statistics.setParticipants(statistics.getParticipants() + 1);
-        updateTicketsPerParticipant(statistics, raffle.getTotalTickets());
-        rafflesPersistence.save(raffle);
+        recordUpdate("reservation");
     }
 
     @Override
     public void setReleaseStatistics(Raffle raffle, long increaseQuantity) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        Long availableTickets = statistics.getAvailableTickets() + increaseQuantity;
-        if (availableTickets > raffle.getTotalTickets()) {
+        RaffleStatisticsDelta delta = RaffleStatisticsDelta.builder()
+                .availableTickets(increaseQuantity)
+                .participants(-1)
+                .recalculateTicketsPerParticipant(true)
+                .build();
+        if (!statisticsBuffer.add(raffle, delta, true)) {
+            recordConflict("release");
             throw new BusinessException("The operation exceeds the total ticket limit");
         }
-        statistics.setAvailableTickets(availableTickets);
-        statistics.setParticipants(statistics.getParticipants() - 1);
-        updateTicketsPerParticipant(statistics, raffle.getTotalTickets());
-        rafflesPersistence.save(raffle);
+        recordUpdate("release");
+    }
+
+    @Override
+    public void setTicketsAddedStatistics(Raffle raffle, long addedTickets) {
+        apply(raffle, "tickets_added", RaffleStatisticsDelta.builder()
+                .availableTickets(addedTickets)
+                .build());
     }
 
     @Override
     public void setCreateOrderStatistics(Raffle raffle, long reservedTickets) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        statistics.setTotalOrders(statistics.getTotalOrders() + 1);
-        statistics.setPendingOrders(statistics.getPendingOrders() + 1);
-        rafflesPersistence.save(raffle);
+        apply(raffle, "order_created", RaffleStatisticsDelta.builder()
+                .totalOrders(1)
+                .pendingOrders(1)
+                .build());
     }
 
     @Override
     public void setCancelStatistics(Raffle raffle, long cancelledTickets) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        statistics.setPendingOrders(statistics.getPendingOrders() - 1);
-        statistics.setCancelledOrders(statistics.getCancelledOrders() + 1);
-        statistics.setAvailableTickets(statistics.getAvailableTickets() + cancelledTickets);
-        rafflesPersistence.save(raffle);
+        apply(raffle, "order_cancelled", RaffleStatisticsDelta.builder()
+                .pendingOrders(-1)
+                .cancelledOrders(1)
+                .availableTickets(cancelledTickets)
+                .build());
     }
 
     @Override
     public void setCompleteStatistics(Raffle raffle, long soldTickets) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        statistics.setPendingOrders(statistics.getPendingOrders() - 1);
-        statistics.setSoldTickets(statistics.getSoldTickets() + soldTickets);
-        long newCompletedOrders = statistics.getCompletedOrders() + 1;
-        statistics.setCompletedOrders(newCompletedOrders);
-        BigDecimal sellAmount = calculateAmount(raffle.getTicketPrice(), soldTickets);
-        BigDecimal newRevenue = statistics.getRevenue().add(sellAmount);
-        statistics.setRevenue(newRevenue);
-        if (newCompletedOrders > 0) {
-            statistics.setAverageOrderValue(newRevenue.divide(BigDecimal.valueOf(newCompletedOrders), 2, HALF_UP));
-        }
-        if (statistics.getFirstSaleDate() == null) {
-            statistics.setFirstSaleDate(LocalDateTime.now());
-        }
-        statistics.setLastSaleDate(LocalDateTime.now());
-        rafflesPersistence.save(raffle);
+        LocalDateTime saleDate = LocalDateTime.now();
+        apply(raffle, "order_completed", RaffleStatisticsDelta.builder()
+                .pendingOrders(-1)
+                .completedOrders(1)
+                .soldTickets(soldTickets)
+                .revenue(calculateAmount(raffle.getTicketPrice(), soldTickets))
+                .recalculateAverageOrderValue(true)
+                .firstSaleDate(saleDate)
+                .lastSaleDate(saleDate)
+                .build());
     }
 
     @Override
     public void setRefundStatistics(Raffle raffle, long refundTickets) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        statistics.setRefundedOrders(statistics.getRefundedOrders() + 1);
-        long newCompletedOrders = statistics.getCompletedOrders() - 1;
-        statistics.setCompletedOrders(newCompletedOrders);
-        statistics.setSoldTickets(statistics.getSoldTickets() - refundTickets);
-        statistics.setAvailableTickets(statistics.getAvailableTickets() + refundTickets);
-        BigDecimal refundAmount = calculateAmount(raffle.getTicketPrice(), refundTickets);
-        BigDecimal newRevenue = statistics.getRevenue().subtract(refundAmount);
-        statistics.setRevenue(newRevenue);
-        if (newCompletedOrders > 0) {
-            statistics.setAverageOrderValue(newRevenue.divide(BigDecimal.valueOf(newCompletedOrders), 2, HALF_UP));
-        } else {
-            statistics.setAverageOrderValue(ZERO);
-        }
-        rafflesPersistence.save(raffle);
+        apply(raffle, "order_refunded", RaffleStatisticsDelta.builder()
+                .refundedOrders(1)
+                .completedOrders(-1)
+                .soldTickets(-refundTickets)
+                .availableTickets(refundTickets)
+                .revenue(calculateAmount(raffle.getTicketPrice(), refundTickets).negate())
+                .recalculateAverageOrderValue(true)
+                .build());
     }
 
     @Override
     public void setUnpaidStatistics(Raffle raffle, long unpaidTickets) {
-        RaffleStatistics statistics = raffle.getStatistics();
-        statistics.setPendingOrders(statistics.getPendingOrders() - 1);
-        statistics.setUnpaidOrders(statistics.getUnpaidOrders() + 1);
-        statistics.setAvailableTickets(statistics.getAvailableTickets() + unpaidTickets);
-        rafflesPersistence.save(raffle);
+        apply(raffle, "order_unpaid", RaffleStatisticsDelta.builder()
+                .pendingOrders(-1)
+                .unpaidOrders(1)
+                .availableTickets(unpaidTickets)
+                .build());
     }
 
     @Override
@@ -121,6 +124,19 @@ public class RafflesStatisticsServiceImpl implements RafflesStatisticsService {
         ticketsByRaffle.forEach(this::setReleaseStatistics);
     }
 
+    @Override
+    public void setExpiredCartsStatistics(Map<Long, List<Ticket>> ticketsByCart) {
+        Map<Raffle, RaffleStatisticsDelta> deltas = new HashMap<>();
+        ticketsByCart.values().forEach(cartTickets -> cartTickets.stream()
+                .collect(Collectors.groupingBy(Ticket::getRaffle, Collectors.counting()))
+                .forEach((raffle, releasedTickets) -> deltas.merge(raffle, RaffleStatisticsDelta.builder()
+                        .availableTickets(releasedTickets)
+                        .participants(-1)
+                        .recalculateTicketsPerParticipant(true)
+                        .build(), RaffleStatisticsDelta::plus)));
+        deltas.forEach((raffle, delta) -> apply(raffle, "carts_expired", delta));
+    }
+
     @Override
     public void reduceRaffleTicketsAvailability(List<Ticket> tickets) {
         Map<Raffle, Long> ticketsByRaffle = tickets.stream().collect(
@@ -129,18 +145,62 @@ public class RafflesStatisticsServiceImpl implements RafflesStatisticsService {
         ticketsByRaffle.forEach(this::setReservationStatistics);
     }
 
+    @Override
+    public RaffleStatistics getStatistics(Raffle raffle) {
+        RaffleStatistics persisted = raffle.getStatistics();
+        RaffleStatisticsDelta pending = statisticsBuffer.getPending(persisted);
+        if (pending.isEmpty()) {
+            return persisted;
+        }
+
+        RaffleStatistics merged = RaffleStatistics.builder()
+                .id(persisted.getId())
+                .availableTickets(persisted.getAvailableTickets() + pending.getAvailableTickets())
+                .soldTickets(persisted.getSoldTickets() + pending.getSoldTickets())
+                .revenue(persisted.getRevenue().add(pending.getRevenue()))
+                .averageOrderValue(persisted.getAverageOrderValue())
+                .totalOrders(persisted.getTotalOrders() + pending.getTotalOrders())
+                .completedOrders(persisted.getCompletedOrders() + pending.getCompletedOrders())
+                .pendingOrders(persisted.getPendingOrders() + pending.getPendingOrders())
+                .cancelledOrders(persisted.getCancelledOrders() + pending.getCancelledOrders())
+                .unpaidOrders(persisted.getUnpaidOrders() + pending.getUnpaidOrders())
+                .refundedOrders(persisted.getRefundedOrders() + pending.getRefundedOrders())
+                .participants(persisted.getParticipants() + pending.getParticipants())
+                .ticketsPerParticipant(persisted.getTicketsPerParticipant())
+                .firstSaleDate(persisted.getFirstSaleDate() != null ? persisted.getFirstSaleDate() : pending.getFirstSaleDate())
+                .lastSaleDate(pending.getLastSaleDate() != null ? pending.getLastSaleDate() : persisted.getLastSaleDate())
+                .dailySalesVelocity(persisted.getDailySalesVelocity())
+                .build();
+
+        if (pending.isRecalculateTicketsPerParticipant()) {
+            merged.setTicketsPerParticipant(divide(raffle.getTotalTickets() - merged.getAvailableTickets(), merged.getParticipants()));
+        }
+        if (pending.isRecalculateAverageOrderValue()) {
+            merged.setAverageOrderValue(merged.getCompletedOrders() > 0
+                    ? merged.getRevenue().divide(BigDecimal.valueOf(merged.getCompletedOrders()), 2, HALF_UP)
+                    : ZERO);
+        }
+        return merged;
+    }
+
+    private void apply(Raffle raffle, String operation, RaffleStatisticsDelta delta) {
+        statisticsBuffer.add(raffle, delta, false);
+        recordUpdate(operation);
+    }
 
     private BigDecimal calculateAmount(BigDecimal ticketPrice, long numTickets) {
         return ticketPrice.multiply(BigDecimal.valueOf(numTickets));
     }
 
-    private void updateTicketsPerParticipant(RaffleStatistics statistics, long totalTickets) {
-        long unavailableTickets = totalTickets - statistics.getAvailableTickets();
-        if (statistics.getParticipants() > 0) {
-            BigDecimal preciseResult = new BigDecimal(unavailableTickets).divide(new BigDecimal(statistics.getParticipants()), 2, HALF_UP);
-            statistics.setTicketsPerParticipant(preciseResult);
-        } else {
-            statistics.setTicketsPerParticipant(ZERO);
-        }
+    private BigDecimal divide(long dividend, long divisor) {
+        return divisor > 0 ? BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 2, HALF_UP) : ZERO;
+    }
+
+    private void recordUpdate(String operation) {
+        meterRegistry.counter(UPDATES_METRIC, "operation", operation).increment();
+    }
+
+    private void recordConflict(String operation) {
+        meterRegistry.counter(CONFLICTS_METRIC, "operation", operation).increment();
     }
 }
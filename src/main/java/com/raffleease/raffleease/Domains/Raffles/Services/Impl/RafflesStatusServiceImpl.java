@@ -5,9 +5,12 @@ import com.raffleease.raffleease.Domains.Raffles.DTOs.StatusUpdate;
 import com.raffleease.raffleease.Domains.Raffles.Mappers.RafflesMapper;
 import com.raffleease.raffleease.Domains.Raffles.Model.CompletionReason;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
 import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesPersistenceService;
+import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatisticsService;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesStatusService;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsQueryService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,12 +20,13 @@ import java.util.Objects;
 
 import static com.raffleease.raffleease.Domains.Raffles.Model.CompletionReason.*;
 import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.*;
-import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.SOLD;
 
 @RequiredArgsConstructor
 @Service
 public class RafflesStatusServiceImpl implements RafflesStatusService {
     private final RafflesPersistenceService rafflesPersistence;
+    private final RafflesStatisticsService statisticsService;
+    private final TicketsQueryService ticketsQueryService;
     private final RafflesMapper mapper;
 
     @Override
@@ -49,8 +53,7 @@ public class RafflesStatusServiceImpl implements RafflesStatusService {
 
     @Override
     public void completeRaffleIfAllTicketsSold(Raffle raffle) {
-        boolean allTicketsSold = raffle.getTickets().stream().allMatch(ticket -> ticket.getStatus().equals(SOLD));
-        if (allTicketsSold) {
+        if (!ticketsQueryService.hasUnsoldTickets(raffle)) {
             raffle.setStatus(COMPLETED);
             raffle.setCompletedAt(LocalDateTime.now());
             raffle.setCompletionReason(ALL_TICKETS_SOLD);
@@ -122,7 +125,8 @@ public class RafflesStatusServiceImpl implements RafflesStatusService {
 
         validateRaffleEndDate(raffle);
 
-        if (raffle.getStatistics().getAvailableTickets() == 0 || raffle.getTotalTickets() <= raffle.getStatistics().getSoldTickets()) {
+        RaffleStatistics statistics = statisticsService.getStatistics(raffle);
+        if (statistics.getAvailableTickets() == 0 || raffle.getTotalTickets() <= statistics.getSoldTickets()) {
             throw new BusinessException("Available tickets for raffle are required to reactivate");
         }
 
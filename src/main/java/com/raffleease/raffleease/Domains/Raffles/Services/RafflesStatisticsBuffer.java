@@ -0,0 +1,55 @@
+package com.raffleease.raffleease.Domains.Raffles.Services;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+
+/**
+ * Accumulates raffle statistics changes in front of the database.
+ *
+ * When write-behind is disabled every change is applied to the database immediately.
+ * When enabled, changes that leave the available tickets untouched are absorbed into a per-raffle
+ * Redis hash once the surrounding transaction commits and merged into the database in batches by {@link #flush()}.
+ * Changes to the available tickets are always applied immediately, so their bounds are enforced by the database.
+ * A change that cannot be buffered because Redis is unreachable is applied to the database instead.
+ * The Redis hashes act as the durable delta log, so pending changes survive a restart of
+ * the application and are recovered on the next flush.
+ */
+public interface RafflesStatisticsBuffer {
+
+    /**
+     * Records a statistics change for a raffle.
+     *
+     * Guarded changes are only accepted if the resulting available tickets stay
+     * between zero and the total tickets of the raffle.
+     *
+     * @param raffle the raffle whose statistics change
+     * @param delta the change to record
+     * @param guarded whether the available tickets bounds must be enforced
+     * @return whether the change was accepted
+     */
+    boolean add(Raffle raffle, RaffleStatisticsDelta delta, boolean guarded);
+
+    /**
+     * Retrieves the changes recorded for a raffle that are not yet included in the given persisted statistics.
+     * A batch that was flushed after the statistics were loaded is still returned, never one that is already included.
+     *
+     * @param statistics the persisted statistics of the raffle
+     * @return the pending changes, empty when there are none or write-behind is disabled
+     */
+    RaffleStatisticsDelta getPending(RaffleStatistics statistics);
+
+    /**
+     * Checks whether enough changes or time have accumulated since the last flush.
+     *
+     * @return true if a flush is due
+     */
+    boolean isFlushDue();
+
+    /**
+     * Persists all pending changes, including changes left behind by an interrupted flush.
+     *
+     * @return the number of raffles whose statistics were flushed
+     */
+    int flush();
+}
@@ -1,10 +1,17 @@
 package com.raffleease.raffleease.Domains.Raffles.Services;
 
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Every update is recorded as a relative change through {@link RafflesStatisticsBuffer}, so concurrent
+ * operations on the same raffle do not overwrite each other. Applied and rejected updates are
+ * published as the {@code raffle.statistics.updates} and {@code raffle.statistics.conflicts} metrics.
+ */
 public interface RafflesStatisticsService {
 
     /**
@@ -44,6 +51,17 @@ public interface RafflesStatisticsService {
      */
     void setReleaseStatistics(Raffle raffle, long increaseQuantity);
 
+    /**
+     * Updates raffle statistics when new tickets are added to an existing raffle.
+     * 
+     * This method is called when the total tickets of a raffle are increased.
+     * It increases the available ticket count by the number of tickets added.
+     * 
+     * @param raffle the raffle whose statistics need to be updated
+     * @param addedTickets the number of tickets added to the raffle
+     */
+    void setTicketsAddedStatistics(Raffle raffle, long addedTickets);
+
     /**
      * Updates raffle statistics when a new order is created.
      * 
@@ -148,6 +166,22 @@ public interface RafflesStatisticsService {
      */
     void increaseRafflesTicketsAvailability(List<Ticket> tickets);
 
+    /**
+     * Bulk operation to release the tickets of expired carts across multiple raffles.
+     * 
+     * Unlike {@link #increaseRafflesTicketsAvailability(List)}, the changes of all the carts are
+     * aggregated first, so each affected raffle receives a single update regardless of how many carts held its tickets.
+     * The update is not guarded, since the tickets have already been released.
+     * 
+     * Updated statistics, per raffle:
+     * - Increases available tickets by the number of released tickets
+     * - Decrements participants by the number of carts that held tickets of the raffle
+     * - Recalculates the tickets-per-participant ratio
+     * 
+     * @param ticketsByCart the released tickets grouped by the ID of the cart that held them
+     */
+    void setExpiredCartsStatistics(Map<Long, List<Ticket>> ticketsByCart);
+
     /**
      * Bulk operation to decrease ticket availability across multiple raffles.
      * 
@@ -163,4 +197,15 @@ public interface RafflesStatisticsService {
      * @param tickets the list of tickets to be reserved (grouped by raffle internally)
      */
     void reduceRaffleTicketsAvailability(List<Ticket> tickets);
+
+    /**
+     * Retrieves the current statistics of a raffle.
+     * 
+     * Merges the persisted statistics with the changes that are still pending in the
+     * write-behind buffer. The returned instance must be treated as read-only.
+     * 
+     * @param raffle the raffle whose statistics are requested
+     * @return the persisted statistics when nothing is pending, otherwise a detached merged copy
+     */
+    RaffleStatistics getStatistics(Raffle raffle);
 }
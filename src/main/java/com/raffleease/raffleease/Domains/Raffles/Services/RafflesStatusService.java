@@ -26,6 +26,8 @@ public interface RafflesStatusService {
 
     /**
      * Completes a raffle if all tickets are sold.
+     * The decision is based on an existence check over the ticket statuses,
+     * so the tickets of the raffle are never loaded.
      * 
      * @param raffle the raffle to complete
      */
@@ -54,4 +54,20 @@ public class TicketsController {
                  )
          );
      }
-}
\ No newline at end of file
+
+    @GetMapping("/availability")
+    @RateLimit(operation = "read", accessLevel = PRIVATE,
+               message = "Too many availability requests. Please try again later.")
+    public ResponseEntity<ApiResponse> getAvailability(
+            @PathVariable Long raffleId,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        return ResponseEntity.ok(
+                ResponseFactory.success(
+                        queryService.getAvailability(raffleId, from, to),
+                        "Ticket availability retrieved successfully"
+                )
+        );
+    }
+}
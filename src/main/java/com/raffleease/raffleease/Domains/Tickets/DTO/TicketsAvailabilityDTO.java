@@ -0,0 +1,14 @@
+package com.raffleease.raffleease.Domains.Tickets.DTO;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TicketsAvailabilityDTO(
+        Long raffleId,
+        long availableTickets,
+        long soldTickets,
+        boolean soldOut,
+        List<Long> availableNumbers
+) {}
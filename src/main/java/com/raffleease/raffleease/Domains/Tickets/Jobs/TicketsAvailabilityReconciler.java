@@ -0,0 +1,41 @@
+package com.raffleease.raffleease.Domains.Tickets.Jobs;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.ACTIVE;
+import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.PAUSED;
+import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.PENDING;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TicketsAvailabilityReconciler {
+    private final RafflesRepository rafflesRepository;
+    private final TicketsAvailabilityService availabilityService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOpenRaffles() {
+        List<Raffle> raffles = rafflesRepository.findAllByStatusIn(List.of(PENDING, ACTIVE, PAUSED));
+        log.info("Reconciling ticket availability of {} raffles", raffles.size());
+
+        int failed = 0;
+        for (Raffle raffle : raffles) {
+            try {
+                availabilityService.reconcile(raffle);
+            } catch (Exception ex) {
+                failed++;
+                log.warn("Failed to reconcile ticket availability of raffle {}: {}", raffle.getId(), ex.getMessage());
+            }
+        }
+        log.info("Completed ticket availability reconciliation with {} failures", failed);
+    }
+}
@@ -18,7 +18,9 @@ import static jakarta.persistence.EnumType.STRING;
 @Getter
 @Builder
 @Entity
-@Table(name = "Tickets")
+@Table(name = "Tickets", indexes = {
+        @Index(name = "idx_tickets_raffle_status_id", columnList = "raffle_id, status, id")
+})
 public class Ticket {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
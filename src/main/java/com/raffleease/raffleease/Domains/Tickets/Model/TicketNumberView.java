@@ -0,0 +1,10 @@
+package com.raffleease.raffleease.Domains.Tickets.Model;
+
+/**
+ * Ticket id, number and status read without loading the ticket entity.
+ */
+public interface TicketNumberView {
+    Long getId();
+    String getTicketNumber();
+    String getStatus();
+}
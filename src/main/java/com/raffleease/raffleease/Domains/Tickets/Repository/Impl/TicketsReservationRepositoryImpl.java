@@ -0,0 +1,118 @@
+package com.raffleease.raffleease.Domains.Tickets.Repository.Impl;
+
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsReservationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TicketsReservationRepositoryImpl implements TicketsReservationRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reserves for the cart, in a single conditional statement, those tickets that are still available
+     * and belong to a raffle of the association. Tickets already claimed by another cart are left untouched,
+     * so two carts can never hold the same ticket. Rows are locked in ID order to avoid deadlocks between
+     * overlapping reservations, and their status is checked again once the lock is acquired.
+     *
+     * @return the tickets that were actually reserved
+     */
+    @Override
+    public List<Ticket> claimAvailable(Long cartId, Long associationId, Collection<Long> ticketIds) {
+        String query = "WITH claimable AS (" +
+                "SELECT t.id FROM tickets t " +
+                "WHERE t.id IN (:ticketIds) " +
+                "AND t.status = 'AVAILABLE' " +
+                "AND t.raffle_id IN (SELECT r.id FROM raffles r WHERE r.association_id = :associationId) " +
+                "ORDER BY t.id " +
+                "FOR UPDATE) " +
+                "UPDATE tickets " +
+                "SET status = 'RESERVED', cart_id = :cartId, updated_at = NOW() " +
+                "FROM claimable " +
+                "WHERE tickets.id = claimable.id " +
+                "RETURNING tickets.id";
+
+        List<Long> claimedIds = ((List<?>) entityManager.createNativeQuery(query)
+                .setParameter("cartId", cartId)
+                .setParameter("associationId", associationId)
+                .setParameter("ticketIds", ticketIds)
+                .getResultList())
+                .stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+
+        if (claimedIds.isEmpty()) {
+            return List.of();
+        }
+        refreshManaged(claimedIds);
+        return entityManager.createQuery("SELECT t FROM Ticket t WHERE t.id IN :ids", Ticket.class)
+                .setParameter("ids", claimedIds)
+                .getResultList();
+    }
+
+    @Override
+    public void unclaim(Long cartId, Collection<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return;
+        }
+        String query = "UPDATE tickets " +
+                "SET status = 'AVAILABLE', cart_id = NULL, updated_at = NOW() " +
+                "WHERE id IN (:ticketIds) " +
+                "AND cart_id = :cartId " +
+                "AND status = 'RESERVED'";
+
+        entityManager.createNativeQuery(query)
+                .setParameter("cartId", cartId)
+                .setParameter("ticketIds", ticketIds)
+                .executeUpdate();
+        refreshManaged(ticketIds);
+    }
+
+    /**
+     * Returns to the available pool, in a single statement, every ticket still reserved by any of the carts.
+     *
+     * @return the IDs of the released tickets mapped to the ID of the cart that held them
+     */
+    @Override
+    public Map<Long, Long> releaseByCarts(Collection<Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return Map.of();
+        }
+        String query = "UPDATE tickets " +
+                "SET status = 'AVAILABLE', cart_id = NULL, customer_id = NULL, updated_at = NOW() " +
+                "FROM (SELECT id, cart_id FROM tickets WHERE cart_id IN (:cartIds) AND status = 'RESERVED' FOR UPDATE) AS released " +
+                "WHERE tickets.id = released.id " +
+                "RETURNING tickets.id, released.cart_id";
+
+        Map<Long, Long> releasedTickets = new HashMap<>();
+        for (Object row : entityManager.createNativeQuery(query)
+                .setParameter("cartIds", cartIds)
+                .getResultList()) {
+            Object[] columns = (Object[]) row;
+            releasedTickets.put(((Number) columns[0]).longValue(), ((Number) columns[1]).longValue());
+        }
+        refreshManaged(releasedTickets.keySet());
+        return releasedTickets;
+    }
+
+    /**
+     * Native updates bypass the persistence context, so tickets already loaded in it
+     * are refreshed to avoid working with stale state. Tickets not loaded yet are not fetched.
+     */
+    private void refreshManaged(Collection<Long> ticketIds) {
+        for (Long id : ticketIds) {
+            Ticket ticket = entityManager.getReference(Ticket.class, id);
+            if (Hibernate.isInitialized(ticket)) {
+                entityManager.refresh(ticket);
+            }
+        }
+    }
+}
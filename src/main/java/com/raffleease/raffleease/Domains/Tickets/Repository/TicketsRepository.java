@@ -3,10 +3,15 @@ package com.raffleease.raffleease.Domains.Tickets.Repository;
 import com.raffleease.raffleease.Domains.Carts.Model.Cart;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Model.TicketNumberView;
 import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +20,66 @@ public interface TicketsRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByRaffleAndStatus(Raffle raffle, TicketStatus status);
     List<Ticket> findAllByRaffle(Raffle raffle);
     List<Ticket> findAllByCart(Cart cart);
+    long countByRaffleAndStatus(Raffle raffle, TicketStatus status);
+    boolean existsByRaffleAndStatusIn(Raffle raffle, Collection<TicketStatus> statuses);
+    List<Ticket> findAllByRaffleAndStatusAndIdIn(Raffle raffle, TicketStatus status, Collection<Long> ids);
+
+    @Query("SELECT MIN(t.id) FROM Ticket t WHERE t.raffle = :raffle AND t.status = :status")
+    Long findMinIdByRaffleAndStatus(@Param("raffle") Raffle raffle, @Param("status") TicketStatus status);
+
+    @Query("SELECT MAX(t.id) FROM Ticket t WHERE t.raffle = :raffle AND t.status = :status")
+    Long findMaxIdByRaffleAndStatus(@Param("raffle") Raffle raffle, @Param("status") TicketStatus status);
+
+    /**
+     * Reads the ids of the tickets of a raffle with a status starting at a given id, in id order.
+     * Together with {@link #findIdsBefore} it reads a window of ids from a random starting point
+     * as a range scan of idx_tickets_raffle_status_id, wrapping around at the highest id.
+     */
+    @Query(value = """
+    SELECT id FROM tickets
+    WHERE raffle_id = :raffleId AND status = :status AND id >= :fromId
+    ORDER BY id
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findIdsFrom(@Param("raffleId") Long raffleId, @Param("status") String status, @Param("fromId") long fromId, @Param("limit") int limit);
+
+    @Query(value = """
+    SELECT id FROM tickets
+    WHERE raffle_id = :raffleId AND status = :status AND id < :beforeId
+    ORDER BY id
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findIdsBefore(@Param("raffleId") Long raffleId, @Param("status") String status, @Param("beforeId") long beforeId, @Param("limit") int limit);
+
+    /**
+     * Reads the available and sold ticket numbers of a raffle one page at a time, ordered by id,
+     * so the next page starts after the last id of the previous one.
+     */
+    @Query(value = """
+    SELECT id AS id, ticket_number AS ticketNumber, status AS status FROM tickets
+    WHERE raffle_id = :raffleId AND status IN ('AVAILABLE', 'SOLD') AND id > :afterId
+    ORDER BY id
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<TicketNumberView> findTicketNumbersPage(@Param("raffleId") Long raffleId, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Query(value = """
+    SELECT CAST(ticket_number AS BIGINT) AS number FROM tickets
+    WHERE raffle_id = :raffleId AND status = :status
+    AND CASE WHEN ticket_number ~ '^[0-9]+$' AND LENGTH(ticket_number) <= 18 THEN CAST(ticket_number AS BIGINT) END BETWEEN :from AND :to
+    ORDER BY number
+    """, nativeQuery = true)
+    List<Long> findTicketNumbersInRange(@Param("raffleId") Long raffleId, @Param("status") String status, @Param("from") long from, @Param("to") long to);
+
+    /**
+     * Generates the available tickets of a raffle for a contiguous range of numbers in a single statement.
+     * The rows are produced by the database itself, so no ticket entity is built or kept in memory.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+    INSERT INTO tickets (ticket_number, status, raffle_id, created_at, updated_at)
+    SELECT CAST(n AS VARCHAR), 'AVAILABLE', :raffleId, NOW(), NOW()
+    FROM generate_series(CAST(:lowerLimit AS BIGINT), CAST(:upperLimit AS BIGINT)) AS n
+    """, nativeQuery = true)
+    int insertRange(@Param("raffleId") Long raffleId, @Param("lowerLimit") long lowerLimit, @Param("upperLimit") long upperLimit);
 }
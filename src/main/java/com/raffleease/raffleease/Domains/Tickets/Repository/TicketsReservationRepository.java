@@ -0,0 +1,13 @@
+package com.raffleease.raffleease.Domains.Tickets.Repository;
+
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface TicketsReservationRepository {
+    List<Ticket> claimAvailable(Long cartId, Long associationId, Collection<Long> ticketIds);
+    void unclaim(Long cartId, Collection<Long> ticketIds);
+    Map<Long, Long> releaseByCarts(Collection<Long> cartIds);
+}
@@ -0,0 +1,364 @@
+package com.raffleease.raffleease.Domains.Tickets.Services.Impls;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Model.TicketNumberView;
+import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.SOLD;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TicketsAvailabilityServiceImpl implements TicketsAvailabilityService {
+    private static final String AVAILABLE_KEY_PREFIX = "tickets_availability:available:";
+    private static final String SOLD_KEY_PREFIX = "tickets_availability:sold:";
+    private static final String REBUILD_LOCK_KEY_PREFIX = "tickets_availability:rebuild:";
+    private static final String JOURNAL_KEY_PREFIX = "tickets_availability:journal:";
+    private static final String STALE = "stale";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    private static final int REBUILD_PAGE_SIZE = 10000;
+    private static final int RANGE_WRITE_CHUNK_BYTES = 64 * 1024;
+
+    /**
+     * Sets the available and sold bits of a list of offsets in one step. Bitmaps that do not exist yet are left
+     * untouched, they are rebuilt from the database on their next read. While a rebuild is running the changes
+     * are also journaled, so they can be replayed onto the rebuilt bitmaps.
+     * KEYS: available bitmap, sold bitmap, rebuild lock, journal. ARGV: available bit, sold bit, journal ttl in ms, then the offsets.
+     */
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                for i = 4, #ARGV do
+                    redis.call('RPUSH', KEYS[4], ARGV[1] .. ':' .. ARGV[2] .. ':' .. ARGV[i])
+                end
+                redis.call('PEXPIRE', KEYS[4], ARGV[3])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 0 then
+                return 0
+            end
+            for i = 4, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], ARGV[1])
+                redis.call('SETBIT', KEYS[2], ARGV[i], ARGV[2])
+            end
+            return #ARGV - 3
+            """, Long.class);
+
+    /**
+     * Swaps rebuilt bitmaps in and replays the changes journaled while they were being built.
+     * The rebuild is discarded if its lock was lost, or dropped along with the current bitmaps if tickets
+     * were created meanwhile, so the next read rebuilds them again.
+     * KEYS: rebuilt available bitmap, rebuilt sold bitmap, available bitmap, sold bitmap, journal, rebuild lock. ARGV: lock token.
+     */
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[6]) ~= ARGV[1] then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return 0
+            end
+            local entries = redis.call('LRANGE', KEYS[5], 0, -1)
+            for _, entry in ipairs(entries) do
+                if entry == 'stale' then
+                    redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5], KEYS[6])
+                    return 0
+                end
+            end
+            redis.call('RENAME', KEYS[1], KEYS[3])
+            redis.call('RENAME', KEYS[2], KEYS[4])
+            for _, entry in ipairs(entries) do
+                local available, sold, offset = string.match(entry, '^(%d):(%d):(%d+)$')
+                if offset then
+                    redis.call('SETBIT', KEYS[3], offset, available)
+                    redis.call('SETBIT', KEYS[4], offset, sold)
+                end
+            end
+            redis.call('DEL', KEYS[5], KEYS[6])
+            return 1
+            """, Long.class);
+
+    /**
+     * Deletes the rebuild lock only if it is still held with the given token.
+     * KEYS: lock key. ARGV: token.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final TicketsRepository repository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void markCreated(Raffle raffle, long lowerLimit, long upperLimit) {
+        Long raffleId = raffle.getId();
+        long fromOffset = lowerLimit - raffle.getFirstTicketNumber();
+        long toOffset = upperLimit - raffle.getFirstTicketNumber();
+        afterCommit(() -> redisTemplate.execute((RedisCallback<Void>) connection -> {
+            byte[] availableKey = key(AVAILABLE_KEY_PREFIX, raffleId);
+            byte[] soldKey = key(SOLD_KEY_PREFIX, raffleId);
+            if (Boolean.TRUE.equals(connection.keyCommands().exists(key(REBUILD_LOCK_KEY_PREFIX, raffleId)))) {
+                byte[] journalKey = key(JOURNAL_KEY_PREFIX, raffleId);
+                connection.listCommands().rPush(journalKey, STALE.getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().pExpire(journalKey, REBUILD_LOCK_TTL.toMillis());
+            }
+            if (fromOffset > 0 && !Boolean.TRUE.equals(connection.keyCommands().exists(availableKey))) {
+                return null;
+            }
+            connection.stringCommands().setNX(soldKey, new byte[0]);
+            setRange(connection, availableKey, fromOffset, toOffset);
+            return null;
+        }));
+    }
+
+    @Override
+    public void markStatus(List<Ticket> tickets, TicketStatus status) {
+        if (tickets == null || tickets.isEmpty()) {
+            return;
+        }
+        String availableBit = status == AVAILABLE ? "1" : "0";
+        String soldBit = status == SOLD ? "1" : "0";
+        Map<Long, List<String>> offsetsByRaffle = tickets.stream()
+                .filter(ticket -> isWithinRaffle(ticket.getRaffle(), offset(ticket.getRaffle(), ticket.getTicketNumber())))
+                .collect(Collectors.groupingBy(
+                        ticket -> ticket.getRaffle().getId(),
+                        Collectors.mapping(ticket -> Long.toString(offset(ticket.getRaffle(), ticket.getTicketNumber())), Collectors.toList())
+                ));
+
+        afterCommit(() -> offsetsByRaffle.forEach((raffleId, offsets) -> {
+            List<String> args = new ArrayList<>(offsets.size() + 3);
+            args.add(availableBit);
+            args.add(soldBit);
+            args.add(Long.toString(REBUILD_LOCK_TTL.toMillis()));
+            args.addAll(offsets);
+            redisTemplate.execute(MARK_SCRIPT,
+                    List.of(AVAILABLE_KEY_PREFIX + raffleId, SOLD_KEY_PREFIX + raffleId,
+                            REBUILD_LOCK_KEY_PREFIX + raffleId, JOURNAL_KEY_PREFIX + raffleId),
+                    args.toArray());
+        }));
+    }
+
+    @Override
+    public long countAvailable(Raffle raffle) {
+        if (!ensureBitmaps(raffle)) {
+            return repository.countByRaffleAndStatus(raffle, AVAILABLE);
+        }
+        return bitCount(AVAILABLE_KEY_PREFIX, raffle);
+    }
+
+    @Override
+    public long countSold(Raffle raffle) {
+        if (!ensureBitmaps(raffle)) {
+            return repository.countByRaffleAndStatus(raffle, SOLD);
+        }
+        return bitCount(SOLD_KEY_PREFIX, raffle);
+    }
+
+    @Override
+    public boolean isSoldOut(Raffle raffle) {
+        return countSold(raffle) >= raffle.getTotalTickets();
+    }
+
+    @Override
+    public List<Long> findAvailableNumbers(Raffle raffle, long from, long to) {
+        if (!ensureBitmaps(raffle)) {
+            return repository.findTicketNumbersInRange(raffle.getId(), AVAILABLE.name(), from, to);
+        }
+        long firstNumber = raffle.getFirstTicketNumber();
+        long fromOffset = Math.max(from - firstNumber, 0);
+        long toOffset = Math.min(to - firstNumber, raffle.getTotalTickets() - 1);
+        if (fromOffset > toOffset) {
+            return List.of();
+        }
+
+        byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands()
+                .getRange(key(AVAILABLE_KEY_PREFIX, raffle.getId()), fromOffset / 8, toOffset / 8));
+
+        List<Long> numbers = new ArrayList<>();
+        long baseOffset = (fromOffset / 8) * 8;
+        for (long offset = fromOffset; bytes != null && offset <= toOffset; offset++) {
+            int index = (int) ((offset - baseOffset) / 8);
+            if (index >= bytes.length) {
+                break;
+            }
+            if ((bytes[index] & (0x80 >>> (offset % 8))) != 0) {
+                numbers.add(firstNumber + offset);
+            }
+        }
+        return numbers;
+    }
+
+    @Override
+    public void reconcile(Raffle raffle) {
+        rebuild(raffle);
+    }
+
+    /**
+     * Builds both bitmaps in memory from the ticket numbers stored in the database, read in pages,
+     * and swaps them in atomically along with the changes made while they were being built.
+     * Only one node rebuilds the bitmaps of a raffle at a time.
+     *
+     * @return whether the rebuilt bitmaps were swapped in
+     */
+    private boolean rebuild(Raffle raffle) {
+        String lockKey = REBUILD_LOCK_KEY_PREFIX + raffle.getId();
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, lockToken, REBUILD_LOCK_TTL))) {
+            log.debug("Ticket availability bitmaps for raffle {} are already being rebuilt", raffle.getId());
+            return false;
+        }
+        try {
+            redisTemplate.delete(JOURNAL_KEY_PREFIX + raffle.getId());
+            int size = (int) ((raffle.getTotalTickets() + 7) / 8);
+            byte[] available = new byte[size];
+            byte[] sold = new byte[size];
+            fill(available, sold, raffle);
+
+            byte[] availableTempKey = key(AVAILABLE_KEY_PREFIX + "tmp:", raffle.getId());
+            byte[] soldTempKey = key(SOLD_KEY_PREFIX + "tmp:", raffle.getId());
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.stringCommands().set(availableTempKey, available);
+                connection.stringCommands().set(soldTempKey, sold);
+                return null;
+            });
+            Long swapped = redisTemplate.execute(SWAP_SCRIPT, List.of(
+                    AVAILABLE_KEY_PREFIX + "tmp:" + raffle.getId(),
+                    SOLD_KEY_PREFIX + "tmp:" + raffle.getId(),
+                    AVAILABLE_KEY_PREFIX + raffle.getId(),
+                    SOLD_KEY_PREFIX + raffle.getId(),
+                    JOURNAL_KEY_PREFIX + raffle.getId(),
+                    lockKey), lockToken);
+            return Long.valueOf(1).equals(swapped);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), lockToken);
+        }
+    }
+
+    private long bitCount(String prefix, Raffle raffle) {
+        Long count = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitCount(key(prefix, raffle.getId())));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Rebuilds missing bitmaps on the calling thread unless another rebuild is already running.
+     *
+     * @return whether the bitmaps can be read, false when the caller has to answer from the database
+     */
+    private boolean ensureBitmaps(Raffle raffle) {
+        Long existing = redisTemplate.countExistingKeys(List.of(
+                AVAILABLE_KEY_PREFIX + raffle.getId(),
+                SOLD_KEY_PREFIX + raffle.getId()));
+        if (existing != null && existing == 2) {
+            return true;
+        }
+        log.debug("Rebuilding ticket availability bitmaps for raffle {}", raffle.getId());
+        return rebuild(raffle);
+    }
+
+    /**
+     * Sets every bit of an offset range, writing whole bytes with SETRANGE and only the unaligned edges bit by bit.
+     */
+    private void setRange(RedisConnection connection, byte[] key, long fromOffset, long toOffset) {
+        long firstFullByte = (fromOffset + 7) / 8;
+        long lastFullByte = (toOffset + 1) / 8 - 1;
+        if (firstFullByte > lastFullByte) {
+            for (long offset = fromOffset; offset <= toOffset; offset++) {
+                connection.stringCommands().setBit(key, offset, true);
+            }
+            return;
+        }
+
+        for (long offset = fromOffset; offset < firstFullByte * 8; offset++) {
+            connection.stringCommands().setBit(key, offset, true);
+        }
+        for (long byteOffset = firstFullByte; byteOffset <= lastFullByte; byteOffset += RANGE_WRITE_CHUNK_BYTES) {
+            int length = (int) Math.min(RANGE_WRITE_CHUNK_BYTES, lastFullByte - byteOffset + 1);
+            byte[] ones = new byte[length];
+            Arrays.fill(ones, (byte) 0xFF);
+            connection.stringCommands().setRange(key, ones, byteOffset);
+        }
+        for (long offset = (lastFullByte + 1) * 8; offset <= toOffset; offset++) {
+            connection.stringCommands().setBit(key, offset, true);
+        }
+    }
+
+    private void fill(byte[] available, byte[] sold, Raffle raffle) {
+        long afterId = 0;
+        List<TicketNumberView> page;
+        do {
+            page = repository.findTicketNumbersPage(raffle.getId(), afterId, REBUILD_PAGE_SIZE);
+            for (TicketNumberView ticket : page) {
+                long offset = offset(raffle, ticket.getTicketNumber());
+                if (isWithinRaffle(raffle, offset)) {
+                    byte[] bitmap = SOLD.name().equals(ticket.getStatus()) ? sold : available;
+                    bitmap[(int) (offset / 8)] |= (byte) (0x80 >>> (offset % 8));
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+    }
+
+    private long offset(Raffle raffle, String ticketNumber) {
+        try {
+            return Long.parseLong(ticketNumber) - raffle.getFirstTicketNumber();
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private boolean isWithinRaffle(Raffle raffle, long offset) {
+        return offset >= 0 && offset < raffle.getTotalTickets();
+    }
+
+    private byte[] key(String prefix, Long raffleId) {
+        return (prefix + raffleId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bits only reflect committed changes, so updates made inside a transaction are deferred until it commits.
+     * Failures are logged and left for the next reconciliation, the database stays authoritative.
+     */
+    private void afterCommit(Runnable update) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (Exception ex) {
+                log.warn("Failed to update ticket availability bitmaps: {}", ex.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
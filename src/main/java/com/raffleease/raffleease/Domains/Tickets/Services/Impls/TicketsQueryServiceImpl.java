@@ -5,12 +5,14 @@ import com.raffleease.raffleease.Domains.Carts.Model.Cart;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Raffles.Services.RafflesPersistenceService;
 import com.raffleease.raffleease.Domains.Tickets.DTO.TicketDTO;
+import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsAvailabilityDTO;
 import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsSearchFilters;
 import com.raffleease.raffleease.Domains.Tickets.Mappers.TicketsMapper;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
 import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsSearchRepository;
 import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsAvailabilityService;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsQueryService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.BusinessException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
@@ -21,19 +23,34 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static com.raffleease.raffleease.Common.Exceptions.ErrorCodes.INSUFFICIENT_TICKETS_AVAILABLE;
 import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.RESERVED;
 
 @RequiredArgsConstructor
 @Service
 public class TicketsQueryServiceImpl implements TicketsQueryService {
+    private static final double MIN_SAMPLING_DENSITY = 0.25;
+    private static final double SAMPLING_OVERSHOOT = 1.5;
+    private static final int MAX_SAMPLING_ROUNDS = 4;
+    private static final int RANDOM_WINDOW_FACTOR = 4;
+    private static final int SAMPLING_LOOKUP_CHUNK_SIZE = 500;
+    private static final long MAX_AVAILABILITY_RANGE = 10_000;
+
     private final RafflesPersistenceService rafflePersistence;
     private final TicketsRepository repository;
     private final TicketsSearchRepository customRepository;
     private final TicketsMapper mapper;
+    private final TicketsAvailabilityService availabilityService;
 
     @Override
     public List<Ticket> findAllById(List<Long> ticketIds) {
@@ -59,13 +76,26 @@ public class TicketsQueryServiceImpl implements TicketsQueryService {
         }
     }
 
+    @Override
+    public boolean hasUnsoldTickets(Raffle raffle) {
+        try {
+            return repository.existsByRaffleAndStatusIn(raffle, List.of(AVAILABLE, RESERVED));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while checking tickets status: " + ex.getMessage());
+        }
+    }
+
     @Override
     public List<TicketDTO> getRandom(Long raffleId, Long quantity) {
         Raffle raffle = rafflePersistence.findById(raffleId);
-        List<Ticket> availableTickets = findByRaffleAndStatus(raffle, AVAILABLE);
-        validateTicketAvailability(availableTickets, quantity);
-        List<Ticket> selectedTickets = selectRandomTickets(availableTickets, quantity);
-        return mapper.fromTicketList(selectedTickets);
+        try {
+            long availableCount = repository.countByRaffleAndStatus(raffle, AVAILABLE);
+            validateTicketAvailability(availableCount, quantity);
+            List<Ticket> selectedTickets = selectRandomTickets(raffle, availableCount, quantity.intValue());
+            return mapper.fromTicketList(selectedTickets);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while retrieving random tickets: " + ex.getMessage());
+        }
     }
 
     @Override
@@ -77,14 +107,126 @@ public class TicketsQueryServiceImpl implements TicketsQueryService {
         }
     }
 
-    private void validateTicketAvailability(List<Ticket> availableTickets, Long requestedQuantity) {
-        if (availableTickets.isEmpty() || availableTickets.size() < requestedQuantity) {
+    @Override
+    public TicketsAvailabilityDTO getAvailability(Long raffleId, Long from, Long to) {
+        Raffle raffle = rafflePersistence.findById(raffleId);
+        List<Long> availableNumbers = null;
+        if (from != null || to != null) {
+            validateAvailabilityRange(from, to);
+            availableNumbers = availabilityService.findAvailableNumbers(raffle, from, to);
+        }
+        long soldTickets = availabilityService.countSold(raffle);
+        return TicketsAvailabilityDTO.builder()
+                .raffleId(raffleId)
+                .availableTickets(availabilityService.countAvailable(raffle))
+                .soldTickets(soldTickets)
+                .soldOut(soldTickets >= raffle.getTotalTickets())
+                .availableNumbers(availableNumbers)
+                .build();
+    }
+
+    private void validateAvailabilityRange(Long from, Long to) {
+        if (from == null || to == null || from > to) {
+            throw new BusinessException("A valid ticket number range is required");
+        }
+        if (to - from + 1 > MAX_AVAILABILITY_RANGE) {
+            throw new BusinessException("The ticket number range cannot exceed " + MAX_AVAILABILITY_RANGE + " tickets");
+        }
+    }
+
+    private void validateTicketAvailability(long availableCount, Long requestedQuantity) {
+        if (availableCount == 0 || availableCount < requestedQuantity) {
             throw new BusinessException("Not enough tickets were found for this order", INSUFFICIENT_TICKETS_AVAILABLE);
         }
     }
 
-    private List<Ticket> selectRandomTickets(List<Ticket> availableTickets, Long quantity) {
-        Collections.shuffle(availableTickets);
-        return availableTickets.subList(0, quantity.intValue());
+    /**
+     * Selects random available tickets without loading the whole available pool.
+     * Random IDs are drawn inside the ID range of the available tickets and looked up in batches,
+     * so each round only reads a number of rows proportional to the requested quantity.
+     * When the available tickets are too sparse in that range, almost all of them are requested,
+     * or sampling falls short, the tickets are picked from a window of available IDs starting at a random ID.
+     */
+    private List<Ticket> selectRandomTickets(Raffle raffle, long availableCount, int quantity) {
+        if (quantity <= 0) {
+            return List.of();
+        }
+
+        Long lowestId = repository.findMinIdByRaffleAndStatus(raffle, AVAILABLE);
+        Long highestId = repository.findMaxIdByRaffleAndStatus(raffle, AVAILABLE);
+        if (lowestId == null || highestId == null) {
+            // The available tickets were taken after they were counted
+            throw new BusinessException("Not enough tickets were found for this order", INSUFFICIENT_TICKETS_AVAILABLE);
+        }
+        long minId = lowestId;
+        long maxId = highestId;
+        long idRange = maxId - minId + 1;
+        double density = (double) availableCount / idRange;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (density < MIN_SAMPLING_DENSITY || quantity * 2L > availableCount) {
+            return selectFromRandomWindow(raffle, minId, maxId, availableCount, quantity, random);
+        }
+
+        Map<Long, Ticket> selectedTickets = new LinkedHashMap<>();
+        for (int round = 0; round < MAX_SAMPLING_ROUNDS && selectedTickets.size() < quantity; round++) {
+            int missing = quantity - selectedTickets.size();
+            long candidatesCount = Math.min((long) Math.ceil(missing / density * SAMPLING_OVERSHOOT), idRange);
+            Set<Long> candidateIds = new HashSet<>();
+            while (candidateIds.size() < candidatesCount) {
+                candidateIds.add(random.nextLong(minId, maxId + 1));
+            }
+            candidateIds.removeAll(selectedTickets.keySet());
+
+            List<Ticket> hits = findAvailableByIds(raffle, new ArrayList<>(candidateIds));
+            Collections.shuffle(hits, random);
+            for (Ticket ticket : hits) {
+                if (selectedTickets.size() == quantity) {
+                    break;
+                }
+                selectedTickets.put(ticket.getId(), ticket);
+            }
+        }
+
+        if (selectedTickets.size() < quantity) {
+            return selectFromRandomWindow(raffle, minId, maxId, availableCount, quantity, random);
+        }
+        return new ArrayList<>(selectedTickets.values());
+    }
+
+    /**
+     * Reads the IDs of a few times the requested quantity of available tickets, in ID order from a random ID
+     * and wrapping around, and picks the tickets among them at random.
+     * Only the index is scanned and only the picked tickets are loaded, so the whole pool is never sorted.
+     */
+    private List<Ticket> selectFromRandomWindow(Raffle raffle, long minId, long maxId, long availableCount, int quantity, ThreadLocalRandom random) {
+        int windowSize = (int) Math.min(availableCount, (long) quantity * RANDOM_WINDOW_FACTOR);
+        long startId = random.nextLong(minId, maxId + 1);
+        List<Long> ids = new ArrayList<>(repository.findIdsFrom(raffle.getId(), AVAILABLE.name(), startId, windowSize));
+        if (ids.size() < windowSize) {
+            ids.addAll(repository.findIdsBefore(raffle.getId(), AVAILABLE.name(), startId, windowSize - ids.size()));
+        }
+        Collections.shuffle(ids, random);
+
+        // Tickets taken after their IDs were read are replaced with the next IDs of the window
+        List<Ticket> selectedTickets = new ArrayList<>();
+        for (int from = 0; from < ids.size() && selectedTickets.size() < quantity; ) {
+            int to = Math.min(from + quantity - selectedTickets.size(), ids.size());
+            selectedTickets.addAll(findAvailableByIds(raffle, ids.subList(from, to)));
+            from = to;
+        }
+        return selectedTickets;
+    }
+
+    /**
+     * Looks up candidate IDs in chunks, keeping the number of bound parameters of each query small.
+     */
+    private List<Ticket> findAvailableByIds(Raffle raffle, List<Long> ids) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += SAMPLING_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SAMPLING_LOOKUP_CHUNK_SIZE, ids.size()));
+            tickets.addAll(repository.findAllByRaffleAndStatusAndIdIn(raffle, AVAILABLE, chunk));
+        }
+        return tickets;
     }
 }
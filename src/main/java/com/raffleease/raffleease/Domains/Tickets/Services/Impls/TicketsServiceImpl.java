@@ -7,16 +7,18 @@ import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsCreate;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
 import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsReservationRepository;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsAvailabilityService;
 import com.raffleease.raffleease.Domains.Tickets.Services.TicketsService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 
 import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.*;
 
@@ -24,17 +26,30 @@ import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.*;
 @Service
 public class TicketsServiceImpl implements TicketsService {
     private final TicketsRepository repository;
+    private final TicketsReservationRepository reservationRepository;
+    private final TicketsAvailabilityService availabilityService;
 
+    @Value("${spring.application.configs.tickets.insert_chunk_size}")
+    private Long insertChunkSize;
+
+    /**
+     * Tickets are written in fixed-size ranges so that very large raffles are split
+     * into several bounded statements instead of a single huge one.
+     */
     @Override
-    public List<Ticket> create(Raffle raffle, TicketsCreate request) {
+    public long create(Raffle raffle, TicketsCreate request) {
         long upperLimit = request.lowerLimit() + request.amount() - 1;
-        return LongStream.rangeClosed(request.lowerLimit(), upperLimit)
-                .mapToObj(i -> Ticket.builder()
-                        .status(AVAILABLE)
-                        .ticketNumber(Long.toString(i))
-                        .raffle(raffle)
-                        .build()
-                ).collect(Collectors.toCollection(ArrayList::new));
+        long created = 0;
+        try {
+            for (long chunkStart = request.lowerLimit(); chunkStart <= upperLimit; chunkStart += insertChunkSize) {
+                long chunkEnd = Math.min(chunkStart + insertChunkSize - 1, upperLimit);
+                created += repository.insertRange(raffle.getId(), chunkStart, chunkEnd);
+            }
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while creating tickets: " + ex.getMessage());
+        }
+        availabilityService.markCreated(raffle, request.lowerLimit(), upperLimit);
+        return created;
     }
 
     @Override
@@ -47,14 +62,43 @@ public class TicketsServiceImpl implements TicketsService {
             ticket.setCustomer(null);
             ticket.setCart(null);
         }).toList());
+        availabilityService.markStatus(tickets, AVAILABLE);
     }
 
     @Override
-    public void reserveTickets(Cart cart, List<Ticket> tickets) {
-        tickets.forEach(ticket -> {
-            ticket.setStatus(RESERVED);
-            ticket.setCart(cart);
-        });
+    public List<Ticket> reserveTickets(Cart cart, Long associationId, List<Long> ticketIds) {
+        try {
+            List<Ticket> reserved = reservationRepository.claimAvailable(cart.getId(), associationId, ticketIds);
+            availabilityService.markStatus(reserved, RESERVED);
+            return reserved;
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while reserving tickets: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public void cancelReservation(Cart cart, List<Ticket> tickets) {
+        try {
+            reservationRepository.unclaim(cart.getId(), tickets.stream().map(Ticket::getId).toList());
+            availabilityService.markStatus(tickets, AVAILABLE);
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while releasing tickets: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public Map<Long, List<Ticket>> releaseCartsTickets(List<Long> cartIds) {
+        try {
+            Map<Long, Long> releasedTickets = reservationRepository.releaseByCarts(cartIds);
+            if (releasedTickets.isEmpty()) {
+                return Map.of();
+            }
+            List<Ticket> tickets = repository.findAllById(releasedTickets.keySet());
+            availabilityService.markStatus(tickets, AVAILABLE);
+            return tickets.stream().collect(Collectors.groupingBy(ticket -> releasedTickets.get(ticket.getId())));
+        } catch (DataAccessException ex) {
+            throw new DatabaseException("Database error occurred while releasing tickets: " + ex.getMessage());
+        }
     }
 
     /**
@@ -71,7 +115,9 @@ public class TicketsServiceImpl implements TicketsService {
 
     @Override
     public List<Ticket> updateStatus(List<Ticket> tickets, TicketStatus status) {
-        return tickets.stream().peek(ticket -> ticket.setStatus(status)).toList();
+        List<Ticket> updated = tickets.stream().peek(ticket -> ticket.setStatus(status)).toList();
+        availabilityService.markStatus(updated, status);
+        return updated;
     }
 
     private List<Ticket> saveAll(List<Ticket> entities) {
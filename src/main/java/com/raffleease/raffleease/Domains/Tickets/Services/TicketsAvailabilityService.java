@@ -0,0 +1,77 @@
+package com.raffleease.raffleease.Domains.Tickets.Services;
+
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
+
+import java.util.List;
+
+/**
+ * Live view of the ticket availability of each raffle, kept in Redis as two bitmaps
+ * (available and sold) indexed by the offset of the ticket number from the first ticket number.
+ *
+ * The Tickets table remains the source of truth. Bits are flipped once the transaction that
+ * changed the tickets commits, and the bitmaps are rebuilt from the database on startup or
+ * whenever they are missing. Only one node rebuilds the bitmaps of a raffle at a time,
+ * reads made meanwhile are answered from the database.
+ */
+public interface TicketsAvailabilityService {
+    /**
+     * Marks a newly created range of ticket numbers as available.
+     * 
+     * @param raffle the raffle the tickets belong to
+     * @param lowerLimit the first ticket number of the range
+     * @param upperLimit the last ticket number of the range
+     */
+    void markCreated(Raffle raffle, long lowerLimit, long upperLimit);
+
+    /**
+     * Reflects a status change of tickets in the bitmaps of their raffles.
+     * 
+     * @param tickets the tickets whose status changed
+     * @param status the new status of the tickets
+     */
+    void markStatus(List<Ticket> tickets, TicketStatus status);
+
+    /**
+     * Counts the available tickets of a raffle.
+     * 
+     * @param raffle the raffle to count the tickets for
+     * @return the number of available tickets
+     */
+    long countAvailable(Raffle raffle);
+
+    /**
+     * Counts the sold tickets of a raffle.
+     * 
+     * @param raffle the raffle to count the tickets for
+     * @return the number of sold tickets
+     */
+    long countSold(Raffle raffle);
+
+    /**
+     * Checks whether every ticket of a raffle has been sold.
+     * 
+     * @param raffle the raffle to check
+     * @return true if all tickets are sold
+     */
+    boolean isSoldOut(Raffle raffle);
+
+    /**
+     * Lists the available ticket numbers of a raffle within a range.
+     * 
+     * @param raffle the raffle to search
+     * @param from the first ticket number of the range (inclusive)
+     * @param to the last ticket number of the range (inclusive)
+     * @return the available ticket numbers in ascending order
+     */
+    List<Long> findAvailableNumbers(Raffle raffle, long from, long to);
+
+    /**
+     * Rebuilds the bitmaps of a raffle from the Tickets table, unless they are already being rebuilt.
+     * Changes made during the rebuild are replayed onto the rebuilt bitmaps.
+     * 
+     * @param raffle the raffle to reconcile
+     */
+    void reconcile(Raffle raffle);
+}
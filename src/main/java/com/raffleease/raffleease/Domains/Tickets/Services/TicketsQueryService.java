@@ -3,6 +3,7 @@ package com.raffleease.raffleease.Domains.Tickets.Services;
 import com.raffleease.raffleease.Domains.Carts.Model.Cart;
 import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
 import com.raffleease.raffleease.Domains.Tickets.DTO.TicketDTO;
+import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsAvailabilityDTO;
 import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsSearchFilters;
 import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
@@ -40,6 +41,15 @@ public interface TicketsQueryService {
      */
     List<Ticket> findByRaffleAndStatus(Raffle raffle, TicketStatus status);
 
+    /**
+     * Checks whether a raffle still has tickets that are not sold.
+     * Stops at the first available or reserved ticket, so the cost does not grow with the size of the raffle.
+     * 
+     * @param raffle the raffle to check
+     * @return true if at least one ticket is available or reserved
+     */
+    boolean hasUnsoldTickets(Raffle raffle);
+
     /**
      * Fetches a random number of tickets by raffle.
      * 
@@ -56,4 +66,15 @@ public interface TicketsQueryService {
      * @return a list of tickets
     */
     List<Ticket> findAllByCart(Cart cart);
+
+    /**
+     * Summarizes the live ticket availability of a raffle.
+     * When a range is provided, the available ticket numbers within it are listed as well.
+     * 
+     * @param raffleId the ID of the raffle
+     * @param from the first ticket number of the range to list (optional)
+     * @param to the last ticket number of the range to list (optional)
+     * @return the availability summary of the raffle
+     */
+    TicketsAvailabilityDTO getAvailability(Long raffleId, Long from, Long to);
 }
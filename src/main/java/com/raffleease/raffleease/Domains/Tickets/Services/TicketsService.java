@@ -8,17 +8,20 @@ import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
 import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TicketsService {
     /**
-     * Creates a new ticket for a raffle.
-     * Used during the order creation process.
+     * Creates the available tickets of a raffle for the range described by the request.
+     * The tickets are generated directly in the database, so the raffle must already be persisted
+     * and its in-memory tickets collection is not populated.
+     * Used during the raffle creation process and when the total tickets of a raffle are increased.
      * 
-     * @param raffle the raffle to create the ticket for
-     * @param request the request to create the ticket
-     * @return the created ticket
+     * @param raffle the persisted raffle to create the tickets for
+     * @param request the request describing the amount and the first number of the tickets
+     * @return the number of created tickets
      */
-    List<Ticket> create(Raffle raffle, TicketsCreate request);
+    long create(Raffle raffle, TicketsCreate request);
 
     /**
      * Releases tickets back to the available pool from a cart.
@@ -28,13 +31,33 @@ public interface TicketsService {
     void releaseTickets(List<Ticket> tickets);
 
     /**
-     * Reserves tickets for a cart.
+     * Atomically reserves for a cart the requested tickets that are still available and belong to a raffle of the association.
+     * Tickets that cannot be reserved are skipped, so the caller can compare the result with the requested IDs.
      * Used during the order creation process.
      * 
      * @param cart the cart to reserve the tickets for
-     * @param tickets the tickets to reserve
+     * @param associationId the ID of the association the tickets must belong to
+     * @param ticketIds the IDs of the tickets to reserve
+     * @return the tickets that were reserved
+     */
+    List<Ticket> reserveTickets(Cart cart, Long associationId, List<Long> ticketIds);
+
+    /**
+     * Undoes a reservation made with {@link #reserveTickets(Cart, Long, List)} when it could not be completed.
+     * 
+     * @param cart the cart the tickets were reserved for
+     * @param tickets the reserved tickets
+     */
+    void cancelReservation(Cart cart, List<Ticket> tickets);
+
+    /**
+     * Releases back to the available pool every ticket still reserved by any of the provided carts.
+     * Used by the expiry of abandoned carts, which processes many carts at once.
+     * 
+     * @param cartIds the IDs of the carts whose tickets are released
+     * @return the released tickets grouped by the ID of the cart that held them
      */
-    void reserveTickets(Cart cart, List<Ticket> tickets);
+    Map<Long, List<Ticket>> releaseCartsTickets(List<Long> cartIds);
 
     /**
      * Transfers tickets to a customer when an order is completed.
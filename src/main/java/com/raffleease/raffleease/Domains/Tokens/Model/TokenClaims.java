@@ -0,0 +1,14 @@
+package com.raffleease.raffleease.Domains.Tokens.Model;
+
+/**
+ * Names of the custom claims of the tokens issued by the application.
+ */
+public final class TokenClaims {
+    public static final String TYPE = "type";
+    public static final String ASSOCIATION_ID = "association_id";
+    public static final String ROLE = "role";
+    public static final String MEMBERSHIP_VERSION = "membership_version";
+
+    private TokenClaims() {
+    }
+}
@@ -1,17 +1,90 @@
 package com.raffleease.raffleease.Domains.Tokens.Services.Impls;
 
 import com.raffleease.raffleease.Domains.Tokens.Services.BlackListService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
+/**
+ * Redis token blacklist fronted by a node-local {@link RevokedTokensFilter}.
+ * Revocations are stored in Redis and published to every node, so most lookups are answered locally
+ * and only possible revocations reach Redis. Every lookup reaches Redis until the filter has been loaded from Redis
+ * with the revocation channel subscribed, and again from any change of subscription until the next synchronization,
+ * as revocations published in between may have been missed.
+ */
+@Slf4j
 @Service
 public class BlackListServiceImpl implements BlackListService {
+    private static final String REVOKED_TOKENS_KEY = "token_blacklist:revoked";
+    private static final String REVOCATIONS_CHANNEL = "token_blacklist:revocations";
+    private static final String LEGACY_BACKFILLED_KEY = "token_blacklist:legacy_backfilled";
+    private static final String LEGACY_BACKFILL_LOCK_KEY = "token_blacklist:legacy_backfill_lock";
+    private static final Duration LEGACY_BACKFILL_LOCK_TTL = Duration.ofMinutes(10);
+    private static final String LEGACY_KEY_PATTERN = "????????-????-????-????-????????????";
+    private static final String BLACKLISTED = "blacklisted";
+    private static final String REDIS_LOOKUPS_METRIC = "tokens.blacklist.redis_lookups";
+
+    /**
+     * Deletes the backfill lock only if it is still held with the given token.
+     * KEYS: lock key. ARGV: token.
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final RevokedTokensFilter revokedTokens;
+    private final AtomicLong subscriptionChanges = new AtomicLong();
+    private volatile boolean synchronizedWithRedis;
+
+    public BlackListServiceImpl(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${spring.application.security.blacklist.partition_seconds:3600}") long partitionSeconds,
+            @Value("${spring.application.security.blacklist.expected_revocations:10000}") long expectedRevocations,
+            @Value("${spring.application.security.blacklist.false_positive_rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.revokedTokens = new RevokedTokensFilter(TimeUnit.SECONDS.toMillis(partitionSeconds), expectedRevocations, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(new RevocationsListener(), new ChannelTopic(REVOCATIONS_CHANNEL));
+    }
 
     @Override
     public void addTokenToBlackList(String id, Long expiration) {
@@ -23,8 +96,12 @@ public class BlackListServiceImpl implements BlackListService {
             throw new IllegalArgumentException("Expiration must be a positive number");
         }
 
+        long expiresAt = System.currentTimeMillis() + expiration;
+        revokedTokens.add(id, expiresAt);
         try {
-            redisTemplate.opsForValue().set(id, "blacklisted", expiration, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForValue().set(id, BLACKLISTED, expiration, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, id, expiresAt);
+            redisTemplate.convertAndSend(REVOCATIONS_CHANNEL, expiresAt + ":" + id);
         } catch (Exception e) {
             throw new RuntimeException("Failed to add token to blacklist", e);
         }
@@ -35,6 +112,109 @@ public class BlackListServiceImpl implements BlackListService {
         if (Objects.isNull(id) || id.trim().isEmpty()) {
             throw new IllegalArgumentException("Token ID must not be null or empty");
         }
+        if (synchronizedWithRedis && listenerContainer.isListening() && !revokedTokens.mightContain(id, System.currentTimeMillis())) {
+            return false;
+        }
+        meterRegistry.counter(REDIS_LOOKUPS_METRIC).increment();
         return Boolean.TRUE.equals(redisTemplate.hasKey(id));
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads every revocation that has not expired yet into the local filter and drops expired partitions.
+     * Runs at startup and then periodically, covering revocations whose message was missed while disconnected.
+     * The filter is only trusted once a synchronization completes with no change of subscription while it ran.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.application.security.blacklist.sync_interval_ms:30000}")
+    public synchronized void synchronizeRevocations() {
+        long subscriptionChangesBefore = subscriptionChanges.get();
+        long now = System.currentTimeMillis();
+        try {
+            backfillLegacyRevocations(now);
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<ZSetOperations.TypedTuple<String>> revocations =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(REVOKED_TOKENS_KEY, now, Double.POSITIVE_INFINITY);
+            if (revocations != null) {
+                for (ZSetOperations.TypedTuple<String> revocation : revocations) {
+                    revokedTokens.add(revocation.getValue(), revocation.getScore().longValue());
+                }
+            }
+            revokedTokens.prune(now);
+            synchronizedWithRedis = listenerContainer.isListening() && subscriptionChanges.get() == subscriptionChangesBefore;
+            log.debug("Synchronized {} token revocations in {} filter partitions",
+                    revocations != null ? revocations.size() : 0, revokedTokens.partitionCount());
+        } catch (Exception ex) {
+            synchronizedWithRedis = false;
+            log.warn("Failed to synchronize token revocations, querying Redis until the next synchronization. Error: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Copies revocations stored only as per token keys into the revocations set, for tokens revoked before the set existed.
+     * This is a one-time migration: a single node scans the keyspace under a lock and records completion,
+     * after which every synchronization skips it. A node that stops mid-scan leaves the lock to expire,
+     * and the next synchronization of any node scans again from the start.
+     *
+     * @param now Current time in milliseconds
+     */
+    private void backfillLegacyRevocations(long now) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_BACKFILLED_KEY))) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEGACY_BACKFILL_LOCK_KEY, lockToken, LEGACY_BACKFILL_LOCK_TTL))) {
+            return;
+        }
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    if (ttl != null && ttl > 0 && BLACKLISTED.equals(redisTemplate.opsForValue().get(key))) {
+                        redisTemplate.opsForZSet().addIfAbsent(REVOKED_TOKENS_KEY, key, now + ttl);
+                    }
+                }
+            }
+            redisTemplate.opsForValue().set(LEGACY_BACKFILLED_KEY, String.valueOf(now));
+            log.info("Backfilled legacy token revocations into the revocations set");
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LEGACY_BACKFILL_LOCK_KEY), lockToken);
+        }
+    }
+
+    private void onRevocation(String message) {
+        int separator = message.indexOf(':');
+        try {
+            revokedTokens.add(message.substring(separator + 1), Long.parseLong(message.substring(0, separator)));
+        } catch (RuntimeException ex) {
+            log.warn("Ignoring malformed token revocation message: {}", message);
+        }
+    }
+
+    /**
+     * Any change of subscription, including the resubscription after a reconnect, may have dropped revocations,
+     * so lookups go to Redis until the next synchronization.
+     */
+    private class RevocationsListener implements MessageListener, SubscriptionListener {
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            onRevocation(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            subscriptionChanged();
+        }
+
+        @Override
+        public void onChannelUnsubscribed(byte[] channel, long count) {
+            subscriptionChanged();
+        }
+
+        private void subscriptionChanged() {
+            subscriptionChanges.incrementAndGet();
+            synchronizedWithRedis = false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.raffleease.raffleease.Domains.Tokens.Services.Impls;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Node-local, time-partitioned Bloom filter of revoked token IDs.
+ * Each token is added to the partition covering its expiration time, so whole partitions are dropped once every
+ * token they describe has expired and the filter never grows beyond the tokens that are still alive.
+ * A negative answer is definitive, a positive one only means the token may have been revoked.
+ */
+class RevokedTokensFilter {
+    private final long partitionMillis;
+    private final int bitsPerPartition;
+    private final int hashFunctions;
+    private final ConcurrentSkipListMap<Long, BloomFilter> partitions = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param partitionMillis the span of expiration times covered by each partition
+     * @param expectedTokensPerPartition the revocations expected within one partition
+     * @param falsePositiveRate the target false positive rate of each partition
+     */
+    RevokedTokensFilter(long partitionMillis, long expectedTokensPerPartition, double falsePositiveRate) {
+        double bits = -expectedTokensPerPartition * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.partitionMillis = partitionMillis;
+        this.bitsPerPartition = (int) Math.min(Integer.MAX_VALUE - 64, Math.max(64, Math.ceil(bits)));
+        this.hashFunctions = (int) Math.max(1, Math.round(bitsPerPartition / (double) expectedTokensPerPartition * Math.log(2)));
+    }
+
+    void add(String tokenId, long expiresAt) {
+        partitions.computeIfAbsent(expiresAt / partitionMillis, slot -> new BloomFilter(bitsPerPartition, hashFunctions))
+                .add(tokenId);
+    }
+
+    boolean mightContain(String tokenId, long now) {
+        long hash = hash(tokenId);
+        for (BloomFilter partition : partitions.tailMap(now / partitionMillis).values()) {
+            if (partition.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the partitions whose tokens have all expired.
+     */
+    void prune(long now) {
+        partitions.headMap(now / partitionMillis).clear();
+    }
+
+    int partitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer, split in two halves for double hashing.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static class BloomFilter {
+        private final AtomicLongArray words;
+        private final int bits;
+        private final int hashFunctions;
+
+        private BloomFilter(int bits, int hashFunctions) {
+            this.words = new AtomicLongArray((bits + 63) / 64);
+            this.bits = bits;
+            this.hashFunctions = hashFunctions;
+        }
+
+        private void add(String value) {
+            long hash = hash(value);
+            for (int i = 0; i < hashFunctions; i++) {
+                int bit = bitIndex(hash, i);
+                long mask = 1L << bit;
+                words.getAndAccumulate(bit >>> 6, mask, (word, set) -> word | set);
+            }
+        }
+
+        private boolean mightContain(long hash) {
+            for (int i = 0; i < hashFunctions; i++) {
+                int bit = bitIndex(hash, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int bitIndex(long hash, int i) {
+            int combined = (int) hash + i * (int) (hash >>> 32);
+            return (combined & Integer.MAX_VALUE) % bits;
+        }
+    }
+}
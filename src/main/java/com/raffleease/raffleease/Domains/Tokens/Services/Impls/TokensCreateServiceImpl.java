@@ -1,8 +1,12 @@
 package com.raffleease.raffleease.Domains.Tokens.Services.Impls;
 
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
 import com.raffleease.raffleease.Domains.Tokens.Model.TokenType;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensCreateService;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensQueryService;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
+import com.raffleease.raffleease.Domains.Users.Services.UsersCacheService;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Service;
 import java.util.Date;
 import java.util.UUID;
 
+import static com.raffleease.raffleease.Domains.Tokens.Model.TokenClaims.*;
 import static com.raffleease.raffleease.Domains.Tokens.Model.TokenType.ACCESS;
 import static com.raffleease.raffleease.Domains.Tokens.Model.TokenType.REFRESH;
 
@@ -17,14 +22,24 @@ import static com.raffleease.raffleease.Domains.Tokens.Model.TokenType.REFRESH;
 @Service
 public class TokensCreateServiceImpl implements TokensCreateService {
     private final TokensQueryService tokenQueryService;
+    private final UsersCacheService usersCacheService;
 
     @Override
     public String generateAccessToken(Long userId) {
-        return buildToken(
+        JwtBuilder builder = buildToken(
                 String.valueOf(userId),
                 ACCESS,
                 tokenQueryService.getAccessTokenExpirationValue()
         );
+        try {
+            MembershipSnapshot membership = usersCacheService.findMembership(userId);
+            builder.claim(ASSOCIATION_ID, membership.associationId())
+                    .claim(ROLE, membership.role().name())
+                    .claim(MEMBERSHIP_VERSION, membership.version());
+        } catch (NotFoundException ex) {
+            // Users without a membership get a token without membership claims
+        }
+        return builder.compact();
     }
 
     @Override
@@ -33,22 +48,21 @@ public class TokensCreateServiceImpl implements TokensCreateService {
                 String.valueOf(userId),
                 REFRESH,
                 tokenQueryService.getRefreshTokenExpirationValue()
-        );
+        ).compact();
     }
 
-    private String buildToken(
+    private JwtBuilder buildToken(
             String subject,
             TokenType tokenType,
             Long jwtExpiration
     ) {
         return Jwts
                 .builder()
-                .claim("type", tokenType.toString())
+                .claim(TYPE, tokenType.toString())
                 .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(tokenQueryService.getSignInKey())
-                .compact();
+                .signWith(tokenQueryService.getSignInKey());
     }
 }
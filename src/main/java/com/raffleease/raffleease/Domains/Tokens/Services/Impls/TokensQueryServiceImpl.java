@@ -1,14 +1,27 @@
 package com.raffleease.raffleease.Domains.Tokens.Services.Impls;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.raffleease.raffleease.Domains.Associations.Model.AssociationRole;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensQueryService;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import io.jsonwebtoken.Claims;
@@ -16,6 +29,8 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import static com.raffleease.raffleease.Domains.Tokens.Model.TokenClaims.*;
+
 @RequiredArgsConstructor
 @Service
 public class TokensQueryServiceImpl implements TokensQueryService {
@@ -28,6 +43,23 @@ public class TokensQueryServiceImpl implements TokensQueryService {
     @Value("${spring.application.security.jwt.refresh_token_expiration}")
     private Long refreshTokenExpiration;
 
+    @Value("${spring.application.security.jwt.claims_cache_max_size:10000}")
+    private long claimsCacheMaxSize;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedClaims;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
     @Override
     public String getSubject(String token) {
         return getClaim(token, Claims::getSubject);
@@ -38,14 +70,35 @@ public class TokensQueryServiceImpl implements TokensQueryService {
 
     @Override
     public <T> T getClaim(String token, Function<Claims,T> claimsResolver) {
-        final Claims claims = getAllClaims(token);
+        final Claims claims = getClaims(token);
         return claimsResolver.apply(claims);
     }
 
+    @Override
+    public Claims getClaims(String token) {
+        String tokenHash = hash(token);
+        Claims claims = verifiedClaims.getIfPresent(tokenHash);
+        if (Objects.isNull(claims)) {
+            claims = parseClaims(token);
+            verifiedClaims.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    @Override
+    public MembershipSnapshot getMembership(Claims claims) {
+        Number associationId = claims.get(ASSOCIATION_ID, Number.class);
+        String role = claims.get(ROLE, String.class);
+        Number version = claims.get(MEMBERSHIP_VERSION, Number.class);
+        if (Objects.isNull(associationId) || Objects.isNull(role) || Objects.isNull(version)) {
+            return null;
+        }
+        return new MembershipSnapshot(associationId.longValue(), AssociationRole.valueOf(role), version.longValue());
+    }
+
     @Override
     public Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     @Override
@@ -63,12 +116,9 @@ public class TokensQueryServiceImpl implements TokensQueryService {
         return getClaim(token, Claims::getExpiration);
     }
 
-    private Claims getAllClaims(String token) {
+    private Claims parseClaims(String token) {
         try {
-            return Jwts
-                    .parserBuilder()
-                    .setSigningKey(getKey())
-                    .build()
+            return parser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (JwtException e) {
@@ -76,8 +126,37 @@ public class TokensQueryServiceImpl implements TokensQueryService {
         }
     }
 
-    private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Objects.requireNonNullElse(token, "").getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Keeps verified claims exactly until the token they belong to expires.
+     */
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            if (Objects.isNull(claims.getExpiration())) {
+                return 0;
+            }
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -4,6 +4,7 @@ import com.raffleease.raffleease.Domains.Tokens.Services.BlackListService;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensQueryService;
 import com.raffleease.raffleease.Domains.Tokens.Services.TokensValidateService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,32 +19,38 @@ public class TokensValidateServiceImpl implements TokensValidateService {
 
     @Override
     public void validateToken(String token) {
-        if (!isTokenNonExpired(token)) throw new AuthorizationException("Token is expired");
+        Claims claims = tokenQueryService.getClaims(token);
+        if (!isTokenNonExpired(claims)) throw new AuthorizationException("Token is expired");
 
-        String tokenId = tokenQueryService.getTokenId(token);
+        String tokenId = claims.getId();
         if (Objects.isNull(tokenId)) throw new AuthorizationException("Token id not found");
         if (blackListService.isTokenBlackListed(tokenId)) throw new AuthorizationException("Token is black listed");
 
-        String subject = tokenQueryService.getSubject(token);
+        String subject = claims.getSubject();
         if (Objects.isNull(subject)) throw new AuthorizationException("Subject not found in token");
         if (!isNumeric(subject)) throw new AuthorizationException("Invalid subject format in token");
     }
 
     @Override
     public boolean isTokenValid(String token) {
-        String subject = tokenQueryService.getSubject(token);
-        String tokenId = tokenQueryService.getTokenId(token);
+        return isTokenValid(tokenQueryService.getClaims(token));
+    }
+
+    @Override
+    public boolean isTokenValid(Claims claims) {
+        String subject = claims.getSubject();
+        String tokenId = claims.getId();
 
         return (Objects.nonNull(subject) &&
                 isNumeric(subject) &&
-                isTokenNonExpired(token) &&
+                isTokenNonExpired(claims) &&
                 Objects.nonNull(tokenId) &&
                 !blackListService.isTokenBlackListed(tokenId)
         );
     }
 
-    private boolean isTokenNonExpired(String token) {
-        return !tokenQueryService.getExpiration(token).before(new Date());
+    private boolean isTokenNonExpired(Claims claims) {
+        return Objects.nonNull(claims.getExpiration()) && !claims.getExpiration().before(new Date());
     }
 
     private boolean isNumeric(String str) {
@@ -4,6 +4,8 @@ public interface TokensCreateService {
     /**
      * Generates an access token for a user.
      * Used during the login or token refresh process.
+     * The token carries the association, role and membership version of the user, if any,
+     * so authorization checks can be made from the token alone while the membership is unchanged.
      * 
      * @param userId the ID of the user to generate the token for
      * @return the generated access token
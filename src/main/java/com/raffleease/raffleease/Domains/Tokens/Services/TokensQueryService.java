@@ -4,6 +4,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.function.Function;
 
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
 import io.jsonwebtoken.Claims;
 
 public interface TokensQueryService {
@@ -37,10 +38,32 @@ public interface TokensQueryService {
      */
     <T> T getClaim(String token, Function<Claims, T> claimsResolver);
 
+    /**
+     * Parses and verifies a JWT token, returning all of its claims.
+     * 
+     * The signature is only verified the first time a token is seen: verified claims are kept in a bounded cache,
+     * keyed by a hash of the token, until the token expires. The returned claims are shared and must not be modified.
+     * 
+     * @param token the JWT token to parse
+     * @return the verified claims of the token
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException
+     *         if the token is expired, malformed or its signature is invalid
+     */
+    Claims getClaims(String token);
+
+    /**
+     * Extracts the association membership snapshot signed into an access token.
+     * 
+     * @param claims the verified claims of the token
+     * @return the association, role and membership version at the time the token was issued,
+     *         or null if the token does not carry them
+     */
+    MembershipSnapshot getMembership(Claims claims);
+
     /**
      * Returns the cryptographic key used for JWT token signing and verification.
      * 
-     * @return the HMAC signing key derived from the application's secret key
+     * @return the HMAC signing key derived once from the application's secret key
      */
     Key getSignInKey();
 
@@ -1,5 +1,7 @@
 package com.raffleease.raffleease.Domains.Tokens.Services;
 
+import io.jsonwebtoken.Claims;
+
 public interface TokensValidateService {
 
     /**
@@ -24,4 +26,14 @@ public interface TokensValidateService {
      * @return true if the token is valid, false otherwise
      */
     boolean isTokenValid(String token);
+
+    /**
+     * Checks if the already verified claims of a JWT token are valid without throwing exceptions.
+     * 
+     * Lets callers that need the claims anyway parse the token only once.
+     * 
+     * @param claims the verified claims of the token
+     * @return true if the token is valid, false otherwise
+     */
+    boolean isTokenValid(Claims claims);
 }
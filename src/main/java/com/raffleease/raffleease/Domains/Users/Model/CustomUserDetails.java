@@ -7,8 +7,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * Principal of an authenticated request.
+ * For token principals the membership is the one signed into the access token, or the current membership
+ * when a newer version has been published since the token was issued. It is null for users without membership
+ * and for principals that do not come from a token.
+ */
 @Builder
-public record CustomUserDetails(User user, String identifier) implements UserDetails {
+public record CustomUserDetails(User user, String identifier, MembershipSnapshot membership) implements UserDetails {
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
@@ -0,0 +1,13 @@
+package com.raffleease.raffleease.Domains.Users.Model;
+
+import com.raffleease.raffleease.Domains.Associations.Model.AssociationRole;
+
+/**
+ * Immutable view of the association membership of a user, cached for authorization checks.
+ *
+ * @param associationId the association the user belongs to
+ * @param role the role of the user in the association
+ * @param version the version of the membership, incremented on every change
+ */
+public record MembershipSnapshot(Long associationId, AssociationRole role, Long version) {
+}
@@ -0,0 +1,182 @@
+package com.raffleease.raffleease.Domains.Users.Services.Impls;
+
+import com.raffleease.raffleease.Domains.Users.Services.MembershipVersionsService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the minimum accepted membership version of every user whose membership changed in a Redis hash,
+ * mirrored on every node by a local map. Changes are published to every node and the map is reloaded periodically,
+ * so tokens are checked without reaching Redis. Entries expire with the access tokens, since no token issued before
+ * the change outlives them. Until the map has been loaded with the channel subscribed, and again from any change of
+ * subscription until the next synchronization, every membership claim is treated as outdated.
+ */
+@Slf4j
+@Service
+public class MembershipVersionsServiceImpl implements MembershipVersionsService {
+    private static final String VERSIONS_KEY = "membership_versions:published";
+    private static final String VERSIONS_CHANNEL = "membership_versions:changes";
+
+    /**
+     * Raises the published version of a user, never lowering it when changes are published out of order.
+     * Entries hold the version and the time it expires at, separated by a colon.
+     * KEYS: versions hash. ARGV: user id, version, expiration time in milliseconds.
+     */
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current == false or tonumber(string.match(current, '^(%d+):')) < tonumber(ARGV[2]) then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. ':' .. ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * Removes expired entries and returns the remaining ones as user id and entry pairs.
+     * KEYS: versions hash. ARGV: current time in milliseconds.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SYNC_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            local result = {}
+            for i = 1, #entries, 2 do
+                if tonumber(string.match(entries[i + 1], ':(%d+)$')) <= tonumber(ARGV[1]) then
+                    redis.call('HDEL', KEYS[1], entries[i])
+                else
+                    table.insert(result, entries[i])
+                    table.insert(result, entries[i + 1])
+                end
+            end
+            return result
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<Long, PublishedVersion> publishedVersions = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionChanges = new AtomicLong();
+    private volatile boolean synchronizedWithRedis;
+
+    @Value("${spring.application.security.jwt.access_token_expiration}")
+    private Long accessTokenExpiration;
+
+    public MembershipVersionsServiceImpl(RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(new VersionsListener(), new ChannelTopic(VERSIONS_CHANNEL));
+    }
+
+    /**
+     * Publishing before the commit makes a failure roll the change back instead of leaving old tokens trusted.
+     * A version published by a transaction that then rolls back only makes older tokens load the membership.
+     */
+    @Override
+    public void publish(Long userId, Long version) {
+        long expiresAt = System.currentTimeMillis() + accessTokenExpiration;
+        raise(userId, version, expiresAt);
+        redisTemplate.execute(PUBLISH_SCRIPT, List.of(VERSIONS_KEY), userId.toString(), version.toString(), Long.toString(expiresAt));
+        redisTemplate.convertAndSend(VERSIONS_CHANNEL, userId + ":" + version + ":" + expiresAt);
+    }
+
+    @Override
+    public boolean isCurrent(Long userId, Long version) {
+        if (Objects.isNull(version) || !synchronizedWithRedis || !listenerContainer.isListening()) {
+            return false;
+        }
+        PublishedVersion published = publishedVersions.get(userId);
+        return Objects.isNull(published) || published.expiresAt() <= System.currentTimeMillis() || version >= published.version();
+    }
+
+    /**
+     * Loads every published version that has not expired yet into the local map and drops expired entries.
+     * Runs at startup and then periodically, covering changes whose message was missed while disconnected.
+     * The map is only trusted once a synchronization completes with no change of subscription while it ran.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.application.security.membership_versions.sync_interval_ms:30000}")
+    @SuppressWarnings("unchecked")
+    public synchronized void synchronizeVersions() {
+        long subscriptionChangesBefore = subscriptionChanges.get();
+        long now = System.currentTimeMillis();
+        try {
+            List<String> entries = redisTemplate.execute(SYNC_SCRIPT, List.of(VERSIONS_KEY), Long.toString(now));
+            if (entries != null) {
+                for (int i = 0; i + 1 < entries.size(); i += 2) {
+                    onChange(entries.get(i) + ":" + entries.get(i + 1));
+                }
+            }
+            publishedVersions.values().removeIf(published -> published.expiresAt() <= now);
+            synchronizedWithRedis = listenerContainer.isListening() && subscriptionChanges.get() == subscriptionChangesBefore;
+            log.debug("Synchronized {} published membership versions", publishedVersions.size());
+        } catch (Exception ex) {
+            synchronizedWithRedis = false;
+            log.warn("Failed to synchronize membership versions, loading memberships until the next synchronization. Error: {}", ex.getMessage());
+        }
+    }
+
+    private void raise(Long userId, long version, long expiresAt) {
+        publishedVersions.merge(userId, new PublishedVersion(version, expiresAt),
+                (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+    }
+
+    private void onChange(String message) {
+        String[] parts = message.split(":");
+        try {
+            raise(Long.valueOf(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException ex) {
+            log.warn("Ignoring malformed membership version message: {}", message);
+        }
+    }
+
+    private record PublishedVersion(long version, long expiresAt) {
+    }
+
+    /**
+     * Any change of subscription, including the resubscription after a reconnect, may have dropped changes,
+     * so membership claims are not trusted until the next synchronization.
+     */
+    private class VersionsListener implements MessageListener, SubscriptionListener {
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            onChange(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            subscriptionChanged();
+        }
+
+        @Override
+        public void onChannelUnsubscribed(byte[] channel, long count) {
+            subscriptionChanged();
+        }
+
+        private void subscriptionChanged() {
+            subscriptionChanges.incrementAndGet();
+            synchronizedWithRedis = false;
+        }
+    }
+}
@@ -5,23 +5,38 @@ import com.raffleease.raffleease.Domains.Users.Model.CustomUserDetails;
 import com.raffleease.raffleease.Domains.Users.Services.UsersService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UsersService userService;
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
         try {
             User user = userService.findByIdentifier(identifier);
-            return new CustomUserDetails(user, identifier);
+            return new CustomUserDetails(user, identifier, null);
         } catch (NotFoundException ex) {
             throw new UsernameNotFoundException(ex.getMessage());
         }
     }
+
+    /**
+     * Stores the password of a user re-hashed with the current hashing settings after a successful login.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((CustomUserDetails) userDetails).user();
+        user.setPassword(newPassword);
+        User savedUser = userService.save(user);
+        log.debug("Re-hashed password of user {} with the current hashing settings", savedUser.getId());
+        return new CustomUserDetails(savedUser, userDetails.getUsername(), null);
+    }
 }
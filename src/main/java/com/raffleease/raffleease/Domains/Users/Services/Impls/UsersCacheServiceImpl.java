@@ -0,0 +1,163 @@
+package com.raffleease.raffleease.Domains.Users.Services.Impls;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
+import com.raffleease.raffleease.Domains.Associations.Model.AssociationMembership;
+import com.raffleease.raffleease.Domains.Associations.Repository.AssociationsMembershipsRepository;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
+import com.raffleease.raffleease.Domains.Users.Model.User;
+import com.raffleease.raffleease.Domains.Users.Model.UserPhoneNumber;
+import com.raffleease.raffleease.Domains.Users.Repository.UsersRepository;
+import com.raffleease.raffleease.Domains.Users.Services.UsersCacheService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Node-local cache of users and their memberships. Evictions are published to every node once the change commits,
+ * so the time to live only bounds staleness for evictions whose message was missed while disconnected.
+ */
+@Slf4j
+@Service
+public class UsersCacheServiceImpl implements UsersCacheService {
+    private static final String EVICTIONS_CHANNEL = "users_cache:evictions";
+
+    private final UsersRepository usersRepository;
+    private final AssociationsMembershipsRepository membershipsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, User> users;
+    private final Cache<Long, MembershipSnapshot> memberships;
+
+    public UsersCacheServiceImpl(
+            UsersRepository usersRepository,
+            AssociationsMembershipsRepository membershipsRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${spring.application.configs.users.cache_ttl_seconds:30}") long ttlSeconds,
+            @Value("${spring.application.configs.users.cache_max_size:10000}") long maxSize
+    ) {
+        this.usersRepository = usersRepository;
+        this.membershipsRepository = membershipsRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onEviction(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICTIONS_CHANNEL));
+    }
+
+    @Override
+    public User findUser(Long userId) {
+        User user = users.get(userId, id -> usersRepository.findById(id).map(this::copy).orElse(null));
+        if (user == null) {
+            throw new NotFoundException("User not found with id: " + userId);
+        }
+        return copy(user);
+    }
+
+    @Override
+    public MembershipSnapshot findMembership(User user) {
+        return findMembership(user.getId());
+    }
+
+    @Override
+    public MembershipSnapshot findMembership(Long userId) {
+        MembershipSnapshot membership = memberships.get(userId, id -> membershipsRepository.findByUserId(id)
+                .map(this::snapshot)
+                .orElse(null));
+        if (membership == null) {
+            throw new NotFoundException("No association membership was found for user <" + userId + ">");
+        }
+        return membership;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Requests running before the commit could have cached the old state again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                    publishEviction(userId);
+                }
+            });
+        } else {
+            publishEviction(userId);
+        }
+    }
+
+    private void invalidate(Long userId) {
+        users.invalidate(userId);
+        memberships.invalidate(userId);
+    }
+
+    private void publishEviction(Long userId) {
+        try {
+            redisTemplate.convertAndSend(EVICTIONS_CHANNEL, userId.toString());
+        } catch (Exception ex) {
+            log.warn("Failed to publish the eviction of user {}, other nodes refresh it when it expires. Error: {}", userId, ex.getMessage());
+        }
+    }
+
+    private void onEviction(String message) {
+        try {
+            invalidate(Long.valueOf(message));
+        } catch (NumberFormatException ex) {
+            log.warn("Ignoring malformed user eviction message: {}", message);
+        }
+    }
+
+    private MembershipSnapshot snapshot(AssociationMembership membership) {
+        return new MembershipSnapshot(membership.getAssociation().getId(), membership.getRole(), membership.getVersion());
+    }
+
+    private User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .userName(user.getUserName())
+                .email(user.getEmail())
+                .phoneNumber(copy(user.getPhoneNumber()))
+                .password(user.getPassword())
+                .isEnabled(user.isEnabled())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
+    private UserPhoneNumber copy(UserPhoneNumber phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        return UserPhoneNumber.builder()
+                .id(phoneNumber.getId())
+                .prefix(phoneNumber.getPrefix())
+                .nationalNumber(phoneNumber.getNationalNumber())
+                .build();
+    }
+}
@@ -7,9 +7,12 @@ import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembe
 import com.raffleease.raffleease.Domains.Users.DTOs.UserResponse;
 import com.raffleease.raffleease.Domains.Users.DTOs.UserSearchFilters;
 import com.raffleease.raffleease.Domains.Users.Mappers.UsersMapper;
+import com.raffleease.raffleease.Domains.Users.Model.CustomUserDetails;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
 import com.raffleease.raffleease.Domains.Users.Model.User;
 import com.raffleease.raffleease.Domains.Users.Repository.UsersRepository;
 import com.raffleease.raffleease.Domains.Users.Repository.UsersSearchRepository;
+import com.raffleease.raffleease.Domains.Users.Services.UsersCacheService;
 import com.raffleease.raffleease.Domains.Users.Services.UsersService;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.DatabaseException;
 import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
@@ -35,6 +38,7 @@ public class UsersServiceImpl implements UsersService {
     private final UsersSearchRepository searchRepository;
     private final AssociationsMembershipService membershipService;
     private final UsersMapper mapper;
+    private final UsersCacheService usersCacheService;
 
     @Transactional
     @Override
@@ -115,12 +119,28 @@ public class UsersServiceImpl implements UsersService {
         }
     }
 
-     @Override
-     public User getAuthenticatedUser() {
-         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-         String identifier = auth.getName();
-         return findByIdentifier(identifier);
-     }
+    /**
+     * Returns the user already resolved for the request by the authentication filter,
+     * only querying by identifier for principals that do not carry it.
+     */
+    @Override
+    public User getAuthenticatedUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.user();
+        }
+        String identifier = auth.getName();
+        return findByIdentifier(identifier);
+    }
+
+    @Override
+    public MembershipSnapshot getAuthenticatedMembership() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof CustomUserDetails userDetails && userDetails.membership() != null) {
+            return userDetails.membership();
+        }
+        return usersCacheService.findMembership(getAuthenticatedUser());
+    }
 
     @Override
     public boolean existsByEmail(String email) {
@@ -130,7 +150,9 @@ public class UsersServiceImpl implements UsersService {
     @Override
     public User save(User user) {
         try {
-            return repository.saveAndFlush(user);
+            User savedUser = repository.saveAndFlush(user);
+            usersCacheService.evict(savedUser.getId());
+            return savedUser;
         } catch (DataIntegrityViolationException ex) {
             Optional<String> constraintName = ConstraintViolationParser.extractConstraintName(ex);
             if (constraintName.isPresent()) {
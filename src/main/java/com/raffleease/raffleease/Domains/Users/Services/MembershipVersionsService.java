@@ -0,0 +1,26 @@
+package com.raffleease.raffleease.Domains.Users.Services;
+
+/**
+ * Publishes the current membership version of users to every node, so membership claims signed into access tokens
+ * can be trusted without loading the membership while no change has been published since the token was issued.
+ */
+public interface MembershipVersionsService {
+
+    /**
+     * Publishes the version of a membership that has just changed.
+     * Must be called within the transaction that changes the membership, and never lowers a published version.
+     *
+     * @param userId the ID of the member
+     * @param version the new version of the membership
+     */
+    void publish(Long userId, Long version);
+
+    /**
+     * Checks whether a membership version signed into an access token is still current.
+     *
+     * @param userId the ID of the member
+     * @param version the membership version of the token
+     * @return false if a newer version has been published or the published versions are not synchronized on this node
+     */
+    boolean isCurrent(Long userId, Long version);
+}
@@ -0,0 +1,49 @@
+package com.raffleease.raffleease.Domains.Users.Services;
+
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
+import com.raffleease.raffleease.Domains.Users.Model.User;
+
+public interface UsersCacheService {
+
+    /**
+     * Finds a user by ID, served from a short-lived, size-bounded cache.
+     * 
+     * Used to resolve the principal of every authenticated request. Each call returns its own detached copy,
+     * so callers may modify it without affecting the cached state.
+     * 
+     * @param userId the ID of the user
+     * @return a copy of the user
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException
+     *         if no user exists with the given ID
+     */
+    User findUser(Long userId);
+
+    /**
+     * Finds the association membership of a user, served from a short-lived, size-bounded cache.
+     * 
+     * @param user the user
+     * @return the association and role of the user
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException
+     *         if the user is not a member of any association
+     */
+    MembershipSnapshot findMembership(User user);
+
+    /**
+     * Finds the association membership of a user by the user ID, served from the same cache.
+     * 
+     * @param userId the ID of the user
+     * @return the association, role and membership version of the user
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException
+     *         if the user is not a member of any association
+     */
+    MembershipSnapshot findMembership(Long userId);
+
+    /**
+     * Removes the cached user and membership, both immediately and once the current transaction commits,
+     * and publishes the eviction to every other node once committed.
+     * Must be called whenever a user or its membership changes.
+     * 
+     * @param userId the ID of the user
+     */
+    void evict(Long userId);
+}
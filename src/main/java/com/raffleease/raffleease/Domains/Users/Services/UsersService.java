@@ -4,6 +4,7 @@ import com.raffleease.raffleease.Common.Models.UserBaseDTO;
 import com.raffleease.raffleease.Common.Models.UserRegisterDTO;
 import com.raffleease.raffleease.Domains.Users.DTOs.UserResponse;
 import com.raffleease.raffleease.Domains.Users.DTOs.UserSearchFilters;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
 import com.raffleease.raffleease.Domains.Users.Model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -119,6 +120,18 @@ public interface UsersService {
      */
     User getAuthenticatedUser();
 
+    /**
+     * Retrieves the association membership of the currently authenticated user.
+     * 
+     * Taken from the verified access token claims of the request when present,
+     * otherwise from the cached membership of the authenticated user.
+     * 
+     * @return the association, role and membership version of the authenticated user
+     * @throws com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException
+     *         if the user is not a member of any association
+     */
+    MembershipSnapshot getAuthenticatedMembership();
+
     /**
      * Checks whether a user exists with the given email address.
      * 
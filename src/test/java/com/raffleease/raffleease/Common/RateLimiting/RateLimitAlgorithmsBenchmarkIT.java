@@ -0,0 +1,94 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the rate limiting algorithms by latency, Redis commands executed per check and Redis memory per bucket key,
+ * to pick the cheapest one for each endpoint class. Token bucket leasing is disabled so every check reaches Redis.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.rate_limit_algorithms.keys=10000]
+ */
+@DisplayName("Rate Limit Algorithms Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestPropertySource(properties = {
+        "rate-limiting.lease.enabled=false"
+})
+class RateLimitAlgorithmsBenchmarkIT extends AbstractIntegrationTest {
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final long CAPACITY = 1_000_000_000L;
+
+    @Autowired
+    private List<RateLimitAlgorithm> algorithms;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("Compare Redis cost per rate limit check and per bucket key")
+    void compareAlgorithms() {
+        int keys = Integer.getInteger("benchmark.rate_limit_algorithms.keys", 10000);
+        RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(CAPACITY, Duration.ofHours(1), CAPACITY);
+
+        for (RateLimitAlgorithm algorithm : algorithms) {
+            String prefix = "benchmark:" + algorithm.type() + ":";
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                algorithm.tryAcquire(prefix + "warmup", rule);
+            }
+            algorithm.clear(prefix + "warmup");
+
+            long commandsBefore = totalCommandCalls();
+            long memoryBefore = usedMemory();
+            long start = System.nanoTime();
+            for (int i = 0; i < keys; i++) {
+                algorithm.tryAcquire(prefix + i, rule);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long memoryAfter = usedMemory();
+            long commandsAfter = totalCommandCalls();
+
+            // The two INFO calls issued around the loop are not part of the checks
+            long commands = commandsAfter - commandsBefore - 2;
+            System.out.printf("algorithm=%s keys=%d latency=%.1f us/op redis commands=%.2f per check memory=%.0f bytes per key%n",
+                    algorithm.type(),
+                    keys,
+                    elapsedNanos / 1e3 / keys,
+                    (double) commands / keys,
+                    (double) (memoryAfter - memoryBefore) / keys);
+            assertThat(commands).isPositive();
+        }
+    }
+
+    private long totalCommandCalls() {
+        Properties stats = info("commandstats");
+        long calls = 0;
+        for (String name : stats.stringPropertyNames()) {
+            for (String field : stats.getProperty(name).split(",")) {
+                if (field.startsWith("calls=")) {
+                    calls += Long.parseLong(field.substring("calls=".length()));
+                }
+            }
+        }
+        return calls;
+    }
+
+    private long usedMemory() {
+        return Long.parseLong(info("memory").getProperty("used_memory"));
+    }
+
+    private Properties info(String section) {
+        return redisTemplate.execute((RedisCallback<Properties>) (RedisConnection connection) -> connection.serverCommands().info(section));
+    }
+}
@@ -0,0 +1,111 @@
+package com.raffleease.raffleease.Common.RateLimiting;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Aspects.RateLimitingAspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static com.raffleease.raffleease.Common.RateLimiting.RateLimit.AccessLevel.PUBLIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the latency that {@link RateLimitingAspect} adds to every annotated call, served from locally leased
+ * tokens, compared with a single Lua round trip per call and with the previous four round trip check reproduced below.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.rate_limiting.iterations=20000]
+ */
+@DisplayName("Rate Limiting Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestPropertySource(properties = {
+        "rate-limiting.limits.public.read=1000000000",
+        "rate-limiting.burst.public=1000000000"
+})
+class RateLimitingBenchmarkIT extends AbstractIntegrationTest {
+    private static final int WARMUP_ITERATIONS = 2000;
+    private static final Long ASSOCIATION_ID = 1L;
+    private static final long CAPACITY = 1_000_000_000L;
+
+    @Autowired
+    private RateLimitingAspect rateLimitingAspect;
+
+    @Autowired
+    private RedisTokenBucket redisTokenBucket;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    public static class Endpoint {
+        @RateLimit(operation = "read", accessLevel = PUBLIC, perUser = false)
+        public long get(Long associationId) {
+            return associationId;
+        }
+    }
+
+    @Test
+    @DisplayName("Compare per request rate limiting overhead")
+    void compareRateLimitingOverhead() {
+        int iterations = Integer.getInteger("benchmark.rate_limiting.iterations", 20000);
+
+        RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(CAPACITY, Duration.ofHours(1));
+        Endpoint target = new Endpoint();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(rateLimitingAspect);
+        Endpoint limited = proxyFactory.getProxy();
+
+        measure(WARMUP_ITERATIONS, () -> limited.get(ASSOCIATION_ID));
+        measure(WARMUP_ITERATIONS, () -> redisTokenBucket.take("benchmark:lua", rule, 1));
+        measure(WARMUP_ITERATIONS, () -> legacyConsumeToken("benchmark:legacy"));
+
+        long baselineNanos = measure(iterations, () -> target.get(ASSOCIATION_ID));
+        long leasedNanos = measure(iterations, () -> limited.get(ASSOCIATION_ID));
+        long luaNanos = measure(iterations, () -> redisTokenBucket.take("benchmark:lua", rule, 1));
+        long legacyNanos = measure(iterations, () -> legacyConsumeToken("benchmark:legacy"));
+
+        System.out.printf("iterations=%d baseline=%.1f us/op aspect(leased)=%.1f us/op lua(1 round trip)=%.1f us/op legacy(4 round trips)=%.1f us/op%n",
+                iterations,
+                baselineNanos / 1e3 / iterations,
+                (leasedNanos - baselineNanos) / 1e3 / iterations,
+                luaNanos / 1e3 / iterations,
+                legacyNanos / 1e3 / iterations);
+        assertThat(leasedNanos).isPositive();
+    }
+
+    private long measure(int iterations, Runnable call) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            call.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Reproduces the previous token bucket: two GETs and two SETs on separate keys per request.
+     */
+    private void legacyConsumeToken(String bucketKey) {
+        long capacity = CAPACITY;
+        Duration refillPeriod = Duration.ofHours(1);
+        String tokenKey = "rate_limit:" + bucketKey;
+        String refillKey = "rate_limit_refill:" + bucketKey;
+
+        String currentTokensStr = redisTemplate.opsForValue().get(tokenKey);
+        String lastRefillStr = redisTemplate.opsForValue().get(refillKey);
+        long now = Instant.now().toEpochMilli();
+        long currentTokens = currentTokensStr != null ? Long.parseLong(currentTokensStr) : capacity;
+        long lastRefillTime = lastRefillStr != null ? Long.parseLong(lastRefillStr) : now;
+        long tokensToAdd = (long) ((now - lastRefillTime) * ((double) capacity / refillPeriod.toMillis()));
+        long newTokenCount = Math.min(currentTokens + tokensToAdd, capacity) - 1;
+
+        long ttl = refillPeriod.multipliedBy(2).toMillis();
+        redisTemplate.opsForValue().set(tokenKey, String.valueOf(newTokenCount), ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForValue().set(refillKey, String.valueOf(now), ttl, TimeUnit.MILLISECONDS);
+    }
+}
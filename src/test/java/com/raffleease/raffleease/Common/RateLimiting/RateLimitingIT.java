@@ -8,6 +8,8 @@ import com.raffleease.raffleease.Domains.Users.DTOs.CreateUserRequest;
 import com.raffleease.raffleease.Common.Models.UserRegisterDTO;
 import com.raffleease.raffleease.util.AuthTestUtils;
 import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +19,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -235,6 +239,29 @@ class RateLimitingIT extends AbstractIntegrationTest {
     @DisplayName("Token Bucket Refill Logic")
     class TokenBucketRefillTests {
 
+        @Test
+        @DisplayName("Should reject requests beyond the burst within a second and accept them again in the next one")
+        void shouldEnforceBurstPerSecond() throws Exception {
+            // Arrange - reading users uses the default token bucket, 300/hour with a private burst of 15 per second
+            AuthTestData adminData = authTestUtils.createAuthenticatedUser(true, AssociationRole.ADMIN);
+            Long associationId = adminData.association().getId();
+            awaitStartOfSecond();
+
+            // Act
+            int allowed = 0;
+            for (int i = 0; i < 16; i++) {
+                if (rateLimitingService.isRequestAllowed("read", RateLimit.AccessLevel.PRIVATE, associationId, true)) {
+                    allowed++;
+                }
+            }
+            Thread.sleep(1000 - System.currentTimeMillis() % 1000);
+            boolean allowedNextSecond = rateLimitingService.isRequestAllowed("read", RateLimit.AccessLevel.PRIVATE, associationId, true);
+
+            // Assert - the burst caps the second, the hourly capacity is far from used
+            assertThat(allowed).isEqualTo(15);
+            assertThat(allowedNextSecond).isTrue();
+        }
+
         @Test
         @DisplayName("Should refill tokens over time")
         void shouldRefillTokensOverTime() throws Exception {
@@ -306,7 +333,7 @@ class RateLimitingIT extends AbstractIntegrationTest {
             
             // Assert
             long tokensAfterClear = rateLimitingService.getAvailableTokens("create", RateLimit.AccessLevel.PRIVATE, associationId, true);
-            assertThat(tokensAfterClear).isEqualTo(50); // Should be reset to full capacity
+            assertThat(tokensAfterClear).isEqualTo(15); // Should be reset, limited only by the burst of the current second
         }
 
         @Test
@@ -442,8 +469,232 @@ class RateLimitingIT extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Leased Token Buckets")
+    class LeasedTokenBucketsTests {
+
+        @Autowired
+        private LeasedTokenBuckets leasedTokenBuckets;
+
+        @Autowired
+        private RedisTokenBucket redisTokenBucket;
+
+        @Test
+        @DisplayName("Should lease a small share of the burst and keep the shared burst")
+        void shouldLeaseSmallShareOfBurst() throws Exception {
+            // Arrange - public search rules are large enough to be leased (500/hour), with a public burst of 50 per second,
+            // shared by two expected instances, so batches hold 50 / (4 * 2) = 6 tokens
+            AuthTestData adminData = authTestUtils.createAuthenticatedUser(true, AssociationRole.ADMIN);
+            Long associationId = adminData.association().getId();
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(500, Duration.ofHours(1), 50);
+            awaitStartOfSecond();
+
+            // Act
+            boolean firstAllowed = rateLimitingService.isRequestAllowed("search", RateLimit.AccessLevel.PUBLIC, associationId, false);
+            awaitLease(associationId + ":public:search", rule, 43);
+            long tokensAfterFirstLease = rateLimitingService.getAvailableTokens("search", RateLimit.AccessLevel.PUBLIC, associationId, false);
+
+            int allowed = firstAllowed ? 1 : 0;
+            for (int i = 0; i < 59; i++) {
+                if (rateLimitingService.isRequestAllowed("search", RateLimit.AccessLevel.PUBLIC, associationId, false)) {
+                    allowed++;
+                }
+            }
+
+            // Assert - the first request is served by Redis while the lease fills in the background,
+            // the lease leaves most of the burst to other instances, and the shared burst still holds
+            assertThat(firstAllowed).isTrue();
+            assertThat(tokensAfterFirstLease).isEqualTo(43);
+            assertThat(allowed).isBetween(44, 50);
+        }
+
+        @Test
+        @DisplayName("Should top the lease up to a single batch")
+        void shouldTopLeaseUpToSingleBatch() throws Exception {
+            // Arrange - batches of 20 from a bucket holding 1000
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(1000, Duration.ofHours(1));
+            leasedTokenBuckets.tryAcquire("lease-refresh-test", rule);
+            awaitLease("lease-refresh-test", rule, 979);
+
+            // Act - the refresh is triggered once a quarter of the batch is left
+            for (int i = 0; i < 15; i++) {
+                assertThat(leasedTokenBuckets.tryAcquire("lease-refresh-test", rule)).isTrue();
+            }
+            awaitLease("lease-refresh-test", rule, 964);
+
+            // Assert - 16 tokens used and 20 held locally, not a whole batch on top of the remaining ones
+            assertThat(redisTokenBucket.peek("lease-refresh-test", rule)).isBetween(964L, 965L);
+        }
+
+        @Test
+        @DisplayName("Should return the leased tokens to the shared bucket when the lease is cleared")
+        void shouldReturnLeasedTokensOnClear() throws Exception {
+            // Arrange
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(1000, Duration.ofHours(1));
+            leasedTokenBuckets.tryAcquire("lease-clear-test", rule);
+            awaitLease("lease-clear-test", rule, 979);
+
+            // Act
+            leasedTokenBuckets.clear("lease-clear-test");
+
+            // Assert - only the token actually used is missing
+            assertThat(redisTokenBucket.peek("lease-clear-test", rule)).isBetween(999L, 1000L);
+        }
+
+        private void awaitLease(String bucketKey, RateLimitConfig.RateLimitRule rule, long tokens) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 1000;
+            while (redisTokenBucket.peek(bucketKey, rule) > tokens && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rate Limiting Algorithms")
+    class RateLimitingAlgorithmsTests {
+
+        @Autowired
+        private GcraAlgorithm gcraAlgorithm;
+
+        @Autowired
+        private SlidingWindowAlgorithm slidingWindowAlgorithm;
+
+        @Autowired
+        private RateLimitRegistry rateLimitRegistry;
+
+        static class Endpoint {
+            @RateLimit(operation = "read", accessLevel = RateLimit.AccessLevel.PUBLIC, algorithm = RateLimit.Algorithm.GCRA)
+            public void get() {
+            }
+        }
+
+        @Test
+        @DisplayName("Should compile the algorithm selected on the annotation")
+        void shouldCompileSelectedAlgorithm() throws Exception {
+            // Arrange
+            Method method = Endpoint.class.getMethod("get");
+
+            // Act
+            RateLimitDescriptor descriptor = rateLimitRegistry.get(method, method.getAnnotation(RateLimit.class));
+
+            // Assert
+            assertThat(descriptor.algorithm()).isSameAs(gcraAlgorithm);
+        }
+
+        @Test
+        @DisplayName("Should enforce the burst limit with GCRA")
+        void shouldEnforceBurstLimitWithGcra() throws Exception {
+            // Arrange
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(100, Duration.ofHours(1), 5);
+            awaitStartOfSecond();
+
+            // Act
+            int allowed = 0;
+            for (int i = 0; i < 6; i++) {
+                if (gcraAlgorithm.tryAcquire("gcra-test", rule)) {
+                    allowed++;
+                }
+            }
+
+            // Assert - only the burst passes within the second, although the capacity is far from used
+            assertThat(allowed).isEqualTo(5);
+            assertThat(gcraAlgorithm.available("gcra-test", rule)).isZero();
+
+            gcraAlgorithm.clear("gcra-test");
+            assertThat(gcraAlgorithm.available("gcra-test", rule)).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Should enforce the burst limit with the sliding window")
+        void shouldEnforceBurstLimitWithSlidingWindow() throws Exception {
+            // Arrange
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(100, Duration.ofHours(1), 5);
+            awaitStartOfSecond();
+
+            // Act
+            int allowed = 0;
+            for (int i = 0; i < 6; i++) {
+                if (slidingWindowAlgorithm.tryAcquire("window-test", rule)) {
+                    allowed++;
+                }
+            }
+
+            // Assert
+            assertThat(allowed).isEqualTo(5);
+            assertThat(slidingWindowAlgorithm.available("window-test", rule)).isZero();
+        }
+
+        @Test
+        @DisplayName("Should enforce the window capacity with the sliding window")
+        void shouldEnforceCapacityWithSlidingWindow() {
+            // Arrange - a burst above the capacity is capped at the capacity
+            RateLimitConfig.RateLimitRule rule = new RateLimitConfig.RateLimitRule(3, Duration.ofHours(1), 10);
+
+            // Act
+            int allowed = 0;
+            for (int i = 0; i < 5; i++) {
+                if (slidingWindowAlgorithm.tryAcquire("window-capacity-test", rule)) {
+                    allowed++;
+                }
+            }
+
+            // Assert
+            assertThat(allowed).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis Fallback")
+    class RedisFallbackTests {
+
+        @Autowired
+        private RateLimitCircuitBreaker circuitBreaker;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @AfterEach
+        void closeCircuit() {
+            circuitBreaker.reset();
+        }
+
+        @Test
+        @DisplayName("Should enforce local limits while the circuit is open")
+        void shouldEnforceLocalLimitsWhileCircuitIsOpen() throws Exception {
+            // Arrange
+            AuthTestData adminData = authTestUtils.createAuthenticatedUser(true, AssociationRole.ADMIN);
+            Long associationId = adminData.association().getId();
+            double fallbacksBefore = meterRegistry.counter("rate_limiting.fallback", "reason", "circuit_open").count();
+            for (int i = 0; i < 5; i++) {
+                circuitBreaker.recordFailure();
+            }
+            awaitStartOfSecond();
+
+            // Act
+            int allowed = 0;
+            for (int i = 0; i < 16; i++) {
+                if (rateLimitingService.isRequestAllowed("create", RateLimit.AccessLevel.PRIVATE, associationId, true)) {
+                    allowed++;
+                }
+            }
+
+            // Assert - the local bucket enforces the same burst per second, and Redis was never touched
+            assertThat(circuitBreaker.isOpen()).isTrue();
+            assertThat(allowed).isEqualTo(15);
+            assertThat(meterRegistry.counter("rate_limiting.fallback", "reason", "circuit_open").count() - fallbacksBefore).isEqualTo(16);
+            assertThat(rateLimitingService.getAvailableTokens("create", RateLimit.AccessLevel.PRIVATE, associationId, true)).isEqualTo(15);
+        }
+    }
+
     // Helper methods
 
+    private void awaitStartOfSecond() throws InterruptedException {
+        long millis = System.currentTimeMillis() % 1000;
+        if (millis > 500) {
+            Thread.sleep(1000 - millis);
+        }
+    }
+
     private CreateUserRequest createValidCreateUserRequest() {
         return createUniqueCreateUserRequest(0);
     }
@@ -0,0 +1,84 @@
+package com.raffleease.raffleease.Common.Security;
+
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderIT {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject hashing with 429 once the pool and its queue are full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 10000, new SimpleMeterRegistry());
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+        // The queued call is submitted from another thread; give it time to reach the queue
+        Thread.sleep(200);
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:running");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:queued");
+    }
+
+    @Test
+    @DisplayName("Should reject hashing with 429 when it does not complete in time")
+    void shouldRejectOnTimeout() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 100, new SimpleMeterRegistry());
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.matches("password", "hashed:password"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            block();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            block();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void block() {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
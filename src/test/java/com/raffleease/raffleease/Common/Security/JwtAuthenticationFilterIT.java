@@ -0,0 +1,83 @@
+package com.raffleease.raffleease.Common.Security;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
+import com.raffleease.raffleease.Domains.Tokens.Services.TokensCreateService;
+import com.raffleease.raffleease.Domains.Users.Model.CustomUserDetails;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.ADMIN;
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JWT Authentication Filter Integration Tests")
+class JwtAuthenticationFilterIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private TokensCreateService tokensCreateService;
+
+    @Autowired
+    private AssociationsMembershipService membershipService;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authorize with the membership signed into the token while no newer version is published")
+    void shouldTrustCurrentMembershipClaims() throws Exception {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        String token = tokensCreateService.generateAccessToken(authData.user().getId());
+        authTestUtils.setUserRoleInAssociation(authData.user(), MEMBER);
+
+        // Act
+        MembershipSnapshot membership = authenticate(token);
+
+        // Assert
+        assertThat(membership.role()).isEqualTo(ADMIN);
+        assertThat(membership.associationId()).isEqualTo(authData.association().getId());
+    }
+
+    @Test
+    @DisplayName("Should downgrade a token whose membership version is outdated to the current membership")
+    void shouldDowngradeStaleMembershipClaims() throws Exception {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        String token = tokensCreateService.generateAccessToken(authData.user().getId());
+        membershipService.updateUserRole(authData.user(), MEMBER);
+
+        // Act
+        MembershipSnapshot membership = authenticate(token);
+
+        // Assert
+        assertThat(membership.role()).isEqualTo(MEMBER);
+        assertThat(membership.version()).isGreaterThan(authData.membership().getVersion());
+    }
+
+    private MembershipSnapshot authenticate(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/associations/1/raffles");
+        request.setServletPath("/v1/associations/1/raffles");
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return principal.membership();
+    }
+}
@@ -3,6 +3,8 @@ package com.raffleease.raffleease.Domains.Auth.Controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.raffleease.raffleease.Base.AbstractIntegrationTest;
 import com.raffleease.raffleease.Domains.Auth.DTOs.LoginRequest;
+import com.raffleease.raffleease.Domains.Users.Model.User;
+import com.raffleease.raffleease.Domains.Users.Repository.UsersRepository;
 import com.raffleease.raffleease.util.AuthTestUtils;
 import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +12,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -24,6 +29,12 @@ class AuthControllerIT extends AbstractIntegrationTest {
     @Autowired
     private AuthTestUtils authTestUtils;
 
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     private static final String LOGIN_ENDPOINT = "/v1/auth/login";
 
     @Nested
@@ -173,5 +184,27 @@ class AuthControllerIT extends AbstractIntegrationTest {
             // Assert
             result.andExpect(status().isUnsupportedMediaType());
         }
+
+        @Test
+        @DisplayName("Should re-hash a legacy password with the current settings after a successful login")
+        void shouldRehashLegacyPasswordOnLogin() throws Exception {
+            // Arrange
+            AuthTestData testData = authTestUtils.createAuthenticatedUser();
+            User user = usersRepository.findById(testData.user().getId()).orElseThrow();
+            user.setPassword(new BCryptPasswordEncoder(4).encode(testData.plainTextPassword()));
+            usersRepository.saveAndFlush(user);
+            LoginRequest loginRequest = new LoginRequest(testData.user().getUserName(), testData.plainTextPassword());
+
+            // Act
+            ResultActions result = mockMvc.perform(post(LOGIN_ENDPOINT)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginRequest)));
+
+            // Assert
+            result.andExpect(status().isOk());
+            String storedPassword = usersRepository.findById(testData.user().getId()).orElseThrow().getPassword();
+            assertThat(storedPassword).startsWith("{bcrypt}");
+            assertThat(passwordEncoder.matches(testData.plainTextPassword(), storedPassword)).isTrue();
+        }
     }
-} 
\ No newline at end of file
+}
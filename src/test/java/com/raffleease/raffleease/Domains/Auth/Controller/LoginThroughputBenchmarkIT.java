@@ -0,0 +1,122 @@
+package com.raffleease.raffleease.Domains.Auth.Controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Auth.DTOs.LoginRequest;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Measures login throughput and latency at increasing concurrency levels, counting the logins rejected with 429
+ * by the bounded password hashing pool. Rate limits are raised so they do not interfere.
+ * Runs outside the test transaction so that every login sees the committed user, as it does in production.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.login.requests=200]
+ */
+@DisplayName("Login Throughput Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "rate-limiting.limits.public.read=1000000000",
+        "rate-limiting.burst.public=1000000000"
+})
+class LoginThroughputBenchmarkIT extends AbstractIntegrationTest {
+    private static final int[] CONCURRENCY_LEVELS = {1, 4, 16, 64};
+    private static final int WARMUP_REQUESTS = 20;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String loginBody;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        AuthTestData authData = new TransactionTemplate(transactionManager).execute(status -> authTestUtils.createAuthenticatedUser());
+        loginBody = objectMapper.writeValueAsString(new LoginRequest(authData.user().getUserName(), authData.plainTextPassword()));
+    }
+
+    @Test
+    @DisplayName("Compare login throughput at several concurrency levels")
+    void compareLoginThroughput() throws Exception {
+        int requests = Integer.getInteger("benchmark.login.requests", 200);
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            login();
+        }
+
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger remaining = new AtomicInteger(requests);
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    start.await();
+                    while (remaining.getAndDecrement() > 0) {
+                        int status = login();
+                        if (status == 200) {
+                            succeeded.incrementAndGet();
+                        } else if (status == 429) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+            clients.shutdown();
+
+            System.out.printf("concurrency=%d requests=%d throughput=%.1f logins/s mean latency=%.1f ms ok=%d rejected=%d%n",
+                    concurrency,
+                    requests,
+                    succeeded.get() / (elapsedNanos / 1e9),
+                    elapsedNanos / 1e6 * concurrency / requests,
+                    succeeded.get(),
+                    rejected.get());
+            assertThat(succeeded.get() + rejected.get()).isEqualTo(requests);
+        }
+    }
+
+    private int login() throws Exception {
+        return mockMvc.perform(post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(loginBody))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+}
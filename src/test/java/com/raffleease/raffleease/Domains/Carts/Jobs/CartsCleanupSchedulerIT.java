@@ -0,0 +1,188 @@
+package com.raffleease.raffleease.Domains.Carts.Jobs;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Model.CartStatus;
+import com.raffleease.raffleease.Domains.Carts.Repository.CartsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.ACTIVE;
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.CLOSED;
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.EXPIRED;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.RESERVED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Carts Cleanup Scheduler Integration Tests")
+@TestPropertySource(properties = {
+    "spring.application.configs.cleanup.carts_cleanup_cutoff_seconds=300",
+    "spring.application.configs.cleanup.carts_cleanup_chunk_size=1"
+})
+class CartsCleanupSchedulerIT extends AbstractIntegrationTest {
+    private static final long TOTAL_TICKETS = 10L;
+    private static final int TICKETS_PER_CART = 2;
+
+    @Autowired
+    private CartsCleanupScheduler scheduler;
+
+    @Autowired
+    private CartsRepository cartsRepository;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private TicketsRepository ticketsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    private AuthTestData authData;
+    private Raffle raffle;
+    private int nextTicketNumber;
+
+    @BeforeEach
+    void setUp() {
+        authData = authTestUtils.createAuthenticatedUser();
+        nextTicketNumber = 1;
+        raffle = rafflesRepository.save(TestDataBuilder.raffle()
+                .association(authData.association())
+                .status(RaffleStatus.ACTIVE)
+                .totalTickets(TOTAL_TICKETS)
+                .statistics(TestDataBuilder.statistics().availableTickets(TOTAL_TICKETS).build())
+                .build());
+    }
+
+    private Cart createCartWithReservedTickets(CartStatus status, LocalDateTime updatedAt) {
+        Cart cart = cartsRepository.save(Cart.builder()
+                .status(status)
+                .user(authData.user())
+                .tickets(new ArrayList<>())
+                .build());
+
+        for (int i = 0; i < TICKETS_PER_CART; i++) {
+            Ticket ticket = TestDataBuilder.ticket()
+                    .ticketNumber(String.valueOf(nextTicketNumber++))
+                    .reserved()
+                    .raffle(raffle)
+                    .build();
+            ticket.setCart(cart);
+            ticketsRepository.save(ticket);
+        }
+
+        RaffleStatistics statistics = raffle.getStatistics();
+        statistics.setAvailableTickets(statistics.getAvailableTickets() - TICKETS_PER_CART);
+        statistics.setParticipants(statistics.getParticipants() + 1);
+        rafflesRepository.save(raffle);
+
+        // Update the updatedAt timestamp directly in the database to bypass @UpdateTimestamp
+        entityManager.flush();
+        entityManager.createQuery("UPDATE Cart c SET c.updatedAt = :updatedAt WHERE c.id = :id")
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", cart.getId())
+                .executeUpdate();
+        return cart;
+    }
+
+    private RaffleStatistics reloadStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        return rafflesRepository.findById(raffle.getId()).orElseThrow().getStatistics();
+    }
+
+    @Nested
+    @DisplayName("releaseScheduled()")
+    class ReleaseScheduledTests {
+
+        @Test
+        @DisplayName("Should expire old active carts and release their tickets")
+        void shouldExpireOldActiveCarts() {
+            LocalDateTime now = LocalDateTime.now();
+            Cart oldCart = createCartWithReservedTickets(ACTIVE, now.minusMinutes(10));
+            Cart recentCart = createCartWithReservedTickets(ACTIVE, now.minusMinutes(1));
+
+            scheduler.releaseScheduled();
+            entityManager.flush();
+            entityManager.clear();
+
+            assertThat(cartsRepository.findById(oldCart.getId()).orElseThrow().getStatus()).isEqualTo(EXPIRED);
+            assertThat(cartsRepository.findById(recentCart.getId()).orElseThrow().getStatus()).isEqualTo(ACTIVE);
+
+            List<Ticket> tickets = ticketsRepository.findAllByRaffle(raffle);
+            assertThat(tickets).filteredOn(ticket -> ticket.getStatus() == AVAILABLE)
+                    .hasSize(TICKETS_PER_CART)
+                    .allSatisfy(ticket -> assertThat(ticket.getCart()).isNull());
+            assertThat(tickets).filteredOn(ticket -> ticket.getStatus() == RESERVED)
+                    .hasSize(TICKETS_PER_CART)
+                    .allSatisfy(ticket -> assertThat(ticket.getCart().getId()).isEqualTo(recentCart.getId()));
+        }
+
+        @Test
+        @DisplayName("Should release every expired cart across several chunks")
+        void shouldReleaseExpiredCartsAcrossChunks() {
+            LocalDateTime oldUpdatedAt = LocalDateTime.now().minusMinutes(10);
+            List<Cart> oldCarts = List.of(
+                    createCartWithReservedTickets(ACTIVE, oldUpdatedAt),
+                    createCartWithReservedTickets(ACTIVE, oldUpdatedAt),
+                    createCartWithReservedTickets(ACTIVE, oldUpdatedAt)
+            );
+
+            scheduler.releaseScheduled();
+
+            RaffleStatistics statistics = reloadStatistics();
+            assertThat(statistics.getAvailableTickets()).isEqualTo(TOTAL_TICKETS);
+            assertThat(statistics.getParticipants()).isZero();
+            assertThat(cartsRepository.findAllById(oldCarts.stream().map(Cart::getId).toList()))
+                    .allSatisfy(cart -> assertThat(cart.getStatus()).isEqualTo(EXPIRED));
+            assertThat(ticketsRepository.findAllByRaffle(raffle))
+                    .allSatisfy(ticket -> assertThat(ticket.getStatus()).isEqualTo(AVAILABLE));
+        }
+
+        @Test
+        @DisplayName("Should not release carts that are no longer active")
+        void shouldNotReleaseClosedCarts() {
+            Cart closedCart = createCartWithReservedTickets(CLOSED, LocalDateTime.now().minusMinutes(10));
+
+            scheduler.releaseScheduled();
+
+            RaffleStatistics statistics = reloadStatistics();
+            assertThat(cartsRepository.findById(closedCart.getId()).orElseThrow().getStatus()).isEqualTo(CLOSED);
+            assertThat(statistics.getAvailableTickets()).isEqualTo(TOTAL_TICKETS - TICKETS_PER_CART);
+            assertThat(statistics.getParticipants()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should handle scenario with no expired carts")
+        void shouldHandleNoExpiredCarts() {
+            Cart recentCart = createCartWithReservedTickets(ACTIVE, LocalDateTime.now().minusMinutes(1));
+
+            scheduler.releaseScheduled();
+
+            RaffleStatistics statistics = reloadStatistics();
+            assertThat(cartsRepository.findById(recentCart.getId()).orElseThrow().getStatus()).isEqualTo(ACTIVE);
+            assertThat(statistics.getAvailableTickets()).isEqualTo(TOTAL_TICKETS - TICKETS_PER_CART);
+        }
+    }
+}
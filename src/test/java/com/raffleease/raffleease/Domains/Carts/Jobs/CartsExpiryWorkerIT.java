@@ -0,0 +1,126 @@
+package com.raffleease.raffleease.Domains.Carts.Jobs;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Model.CartStatus;
+import com.raffleease.raffleease.Domains.Carts.Repository.CartsRepository;
+import com.raffleease.raffleease.Domains.Carts.Services.CartsExpiryService;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.Domains.Users.Model.User;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.ACTIVE;
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.CLOSED;
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.EXPIRED;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs outside the test transaction because deadlines are only scheduled once the surrounding transaction commits.
+ */
+@DisplayName("Carts Expiry Worker Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.application.configs.cleanup.carts_cleanup_cutoff_seconds=1",
+        "spring.application.configs.carts.expiry_poll_ms=3600000"
+})
+class CartsExpiryWorkerIT extends AbstractIntegrationTest {
+    private static final String DEADLINES_KEY = "carts_expiry:deadlines";
+    private static final long TOTAL_TICKETS = 10L;
+
+    @Autowired
+    private CartsExpiryWorker worker;
+
+    @Autowired
+    private CartsExpiryService cartsExpiryService;
+
+    @Autowired
+    private CartsRepository cartsRepository;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private TicketsRepository ticketsRepository;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Should release due carts and drop the ones that are no longer active")
+    void shouldReleaseDueCarts() throws InterruptedException {
+        Long[] ids = transactionTemplate.execute(status -> {
+            AuthTestData authData = authTestUtils.createAuthenticatedUser();
+            Raffle raffle = rafflesRepository.save(TestDataBuilder.raffle()
+                    .association(authData.association())
+                    .status(RaffleStatus.ACTIVE)
+                    .totalTickets(TOTAL_TICKETS)
+                    .statistics(TestDataBuilder.statistics()
+                            .availableTickets(TOTAL_TICKETS - 1)
+                            .participants(1L)
+                            .build())
+                    .build());
+            Cart activeCart = createScheduledCart(authData.user(), ACTIVE);
+            Cart closedCart = createScheduledCart(authData.user(), CLOSED);
+
+            Ticket ticket = TestDataBuilder.ticket().ticketNumber("1").reserved().raffle(raffle).build();
+            ticket.setCart(activeCart);
+            ticketsRepository.save(ticket);
+            return new Long[] {raffle.getId(), activeCart.getId(), closedCart.getId(), ticket.getId()};
+        });
+
+        assertThat(redisTemplate.opsForZSet().score(DEADLINES_KEY, ids[1].toString())).isNotNull();
+        worker.releaseDueCarts();
+        assertThat(cartsRepository.findById(ids[1]).orElseThrow().getStatus()).isEqualTo(ACTIVE);
+
+        Thread.sleep(1500);
+        worker.releaseDueCarts();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(cartsRepository.findById(ids[1]).orElseThrow().getStatus()).isEqualTo(EXPIRED);
+            assertThat(cartsRepository.findById(ids[2]).orElseThrow().getStatus()).isEqualTo(CLOSED);
+
+            Ticket ticket = ticketsRepository.findById(ids[3]).orElseThrow();
+            assertThat(ticket.getStatus()).isEqualTo(AVAILABLE);
+            assertThat(ticket.getCart()).isNull();
+
+            RaffleStatistics statistics = rafflesRepository.findById(ids[0]).orElseThrow().getStatistics();
+            assertThat(statistics.getAvailableTickets()).isEqualTo(TOTAL_TICKETS);
+            assertThat(statistics.getParticipants()).isZero();
+        });
+        assertThat(redisTemplate.opsForZSet().size(DEADLINES_KEY)).isZero();
+    }
+
+    private Cart createScheduledCart(User user, CartStatus status) {
+        Cart cart = cartsRepository.save(Cart.builder()
+                .status(status)
+                .user(user)
+                .tickets(new ArrayList<>())
+                .build());
+        cartsExpiryService.schedule(cart);
+        return cart;
+    }
+}
@@ -0,0 +1,195 @@
+package com.raffleease.raffleease.Domains.Carts.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.TicketsUnavailableException;
+import com.raffleease.raffleease.Domains.Carts.DTO.ReservationRequest;
+import com.raffleease.raffleease.Domains.Carts.Model.Cart;
+import com.raffleease.raffleease.Domains.Carts.Repository.CartsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.raffleease.raffleease.Domains.Carts.Model.CartStatus.ACTIVE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.RESERVED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers a single hot raffle with concurrent reservations from many carts.
+ * Runs outside the test transaction so that every reservation commits on its own, as it does in production.
+ */
+@DisplayName("Reservations Concurrency Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationsConcurrencyIT extends AbstractIntegrationTest {
+    private static final int HOT_TICKETS = 20;
+    private static final int CONTENDERS = 16;
+    private static final int ATTEMPTS_PER_CONTENDER = 25;
+    private static final int TICKETS_PER_ATTEMPT = 3;
+
+    @Autowired
+    private ReservationsService reservationsService;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private TicketsRepository ticketsRepository;
+
+    @Autowired
+    private CartsRepository cartsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private AuthTestData authData;
+    private Raffle hotRaffle;
+    private List<Long> ticketIds;
+    private List<Long> cartIds;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            authData = authTestUtils.createAuthenticatedUser();
+
+            hotRaffle = rafflesRepository.save(TestDataBuilder.raffle()
+                    .association(authData.association())
+                    .status(RaffleStatus.ACTIVE)
+                    .title("Hot Raffle")
+                    .totalTickets((long) HOT_TICKETS)
+                    .statistics(TestDataBuilder.statistics().availableTickets((long) HOT_TICKETS).build())
+                    .build());
+
+            ticketIds = ticketsRepository.saveAll(LongStream.rangeClosed(1, HOT_TICKETS)
+                            .mapToObj(number -> Ticket.builder()
+                                    .ticketNumber(String.valueOf(number))
+                                    .status(AVAILABLE)
+                                    .raffle(hotRaffle)
+                                    .build())
+                            .toList())
+                    .stream()
+                    .map(Ticket::getId)
+                    .toList();
+
+            cartIds = new ArrayList<>();
+            for (int i = 0; i < CONTENDERS; i++) {
+                Cart cart = cartsRepository.save(Cart.builder()
+                        .status(ACTIVE)
+                        .user(authData.user())
+                        .tickets(new ArrayList<>())
+                        .build());
+                cartIds.add(cart.getId());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should never reserve the same ticket for two carts")
+    void shouldNeverDoubleBookTicketsUnderContention() throws Exception {
+        Long associationId = authData.association().getId();
+        String email = authData.user().getEmail();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        ConcurrentHashMap<Long, Long> claimedBy = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<Long> doubleBooked = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long cartId : cartIds) {
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(email, null, List.of()));
+                try {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_CONTENDER; attempt++) {
+                        List<Long> requested = pickTickets();
+                        try {
+                            reservationsService.reserve(new ReservationRequest(requested), associationId, cartId);
+                            accepted.incrementAndGet();
+                            requested.forEach(ticketId -> {
+                                if (claimedBy.putIfAbsent(ticketId, cartId) != null) {
+                                    doubleBooked.add(ticketId);
+                                }
+                            });
+                        } catch (TicketsUnavailableException ex) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable ex) {
+                    unexpected.add(ex);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(doubleBooked).isEmpty();
+        assertThat(rejected.get()).isPositive();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Ticket> tickets = ticketsRepository.findAllById(ticketIds);
+            Map<Long, Long> reservedBy = tickets.stream()
+                    .filter(ticket -> ticket.getStatus() == RESERVED)
+                    .collect(Collectors.toMap(Ticket::getId, ticket -> ticket.getCart().getId()));
+
+            assertThat(reservedBy).isEqualTo(claimedBy);
+            assertThat(tickets).filteredOn(ticket -> ticket.getStatus() == AVAILABLE)
+                    .allSatisfy(ticket -> assertThat(ticket.getCart()).isNull());
+
+            RaffleStatistics statistics = rafflesRepository.findById(hotRaffle.getId()).orElseThrow().getStatistics();
+            assertThat(statistics.getAvailableTickets()).isEqualTo((long) HOT_TICKETS - reservedBy.size());
+            assertThat(statistics.getParticipants()).isEqualTo((long) accepted.get());
+        });
+    }
+
+    private List<Long> pickTickets() {
+        List<Long> shuffled = new ArrayList<>(ticketIds);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled.subList(0, TICKETS_PER_ATTEMPT);
+    }
+}
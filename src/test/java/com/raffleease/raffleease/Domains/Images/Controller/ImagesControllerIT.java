@@ -86,6 +86,14 @@ class ImagesControllerIT extends AbstractIntegrationTest {
                             .map(path -> path.replace("/temp/", "/final/"))
                             .toList();
                 });
+
+        when(fileStorageService.contentHashes(anyList()))
+                .thenAnswer(invocation -> {
+                    List<String> filePaths = invocation.getArgument(0);
+                    return filePaths.stream()
+                            .map(path -> "hash-" + Math.abs(path.hashCode()))
+                            .toList();
+                });
     }
 
     @Nested
@@ -74,6 +74,14 @@ class PendingImagesControllerIT extends AbstractIntegrationTest {
                             .map(path -> path.replace("/temp/", "/final/"))
                             .toList();
                 });
+
+        when(fileStorageService.contentHashes(anyList()))
+                .thenAnswer(invocation -> {
+                    List<String> filePaths = invocation.getArgument(0);
+                    return filePaths.stream()
+                            .map(path -> "hash-" + Math.abs(path.hashCode()))
+                            .toList();
+                });
     }
 
     @Nested
@@ -1,6 +1,7 @@
 package com.raffleease.raffleease.Domains.Images.Controller;
 
 import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
 import com.raffleease.raffleease.Domains.Images.Model.Image;
 import com.raffleease.raffleease.Domains.Images.Model.ImageStatus;
 import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
@@ -11,14 +12,19 @@ import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
 import com.raffleease.raffleease.util.AuthTestUtils;
 import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
 import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.ResultActions;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -35,6 +41,12 @@ class PublicImagesControllerIT extends AbstractIntegrationTest {
     @Autowired
     private RafflesRepository rafflesRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @MockitoBean
     private FileStorageService fileStorageService;
 
@@ -332,4 +344,151 @@ class PublicImagesControllerIT extends AbstractIntegrationTest {
                     .andExpect(content().bytes("shared image content".getBytes()));
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("HTTP caching of public images")
+    class HttpCachingTests {
+
+        private static final String CONTENT_HASH = "n4bQgYhMfWWaL-qgxVrQFaO_TxsrC4Is0V1sFbDwCgg";
+
+        private Long imageId;
+        private String imageEndpoint;
+
+        @BeforeEach
+        void setUpImage() {
+            Image testImage = TestDataBuilder.image()
+                    .user(authData.user())
+                    .association(authData.association())
+                    .status(ImageStatus.PENDING)
+                    .fileName("cached-image.png")
+                    .contentType("image/png")
+                    .filePath("/test/path/cached-image.png")
+                    .build();
+            testImage.setContentHash(CONTENT_HASH);
+            testImage = imagesRepository.save(testImage);
+            imageId = testImage.getId();
+            imageEndpoint = "/v1/public/associations/" + authData.association().getId() + "/images/" + imageId;
+
+            when(fileStorageService.load("/test/path/cached-image.png"))
+                    .thenReturn(new org.springframework.core.io.ByteArrayResource("cached image content".getBytes()));
+        }
+
+        @Test
+        @DisplayName("Should return the entity tag, content type and caching headers")
+        void shouldReturnCachingHeaders() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + CONTENT_HASH + "\""))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andExpect(header().string("Cache-Control", "max-age=3600, public"))
+                    .andExpect(content().contentType("image/png"));
+        }
+
+        @Test
+        @DisplayName("Should answer a matching If-None-Match with 304 without loading the file")
+        void shouldReturnNotModifiedWithoutLoadingFile() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint)
+                    .header("If-None-Match", "\"" + CONTENT_HASH + "\""));
+
+            // Assert
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"" + CONTENT_HASH + "\""))
+                    .andExpect(content().bytes(new byte[0]));
+            verify(fileStorageService, never()).load(anyString());
+        }
+
+        @Test
+        @DisplayName("Should return the file when If-None-Match does not match")
+        void shouldReturnFileWhenEntityTagChanged() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint)
+                    .header("If-None-Match", "\"outdated\""));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(content().bytes("cached image content".getBytes()));
+        }
+
+        @Test
+        @DisplayName("Should cache URLs versioned with the content hash as immutable")
+        void shouldCacheVersionedUrlAsImmutable() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint).param("v", CONTENT_HASH));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+        }
+
+        @Test
+        @DisplayName("Should not cache a versioned URL as immutable when the version is outdated")
+        void shouldNotCacheOutdatedVersionAsImmutable() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint).param("v", "outdated"));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=3600, public"));
+        }
+
+        @Test
+        @DisplayName("Should serve the requested byte range")
+        void shouldServeByteRange() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint).header("Range", "bytes=0-5"));
+
+            // Assert
+            result.andExpect(status().isPartialContent())
+                    .andExpect(header().string("Content-Range", "bytes 0-5/20"))
+                    .andExpect(content().bytes("cached".getBytes()));
+        }
+
+        @Test
+        @DisplayName("Should omit Last-Modified when the original is served in place of a pending variant")
+        void shouldOmitLastModifiedForFallback() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint).param("size", "thumb"));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + CONTENT_HASH + "\""))
+                    .andExpect(header().doesNotExist("Last-Modified"))
+                    .andExpect(content().bytes("cached image content".getBytes()));
+        }
+
+        @Test
+        @DisplayName("Should reload the image metadata once when the cached file no longer exists")
+        void shouldReloadMetadataWhenCachedFileIsMissing() throws Exception {
+            // Arrange
+            mockMvc.perform(get(imageEndpoint)).andExpect(status().isOk());
+            entityManager.flush();
+            jdbcTemplate.update("UPDATE images SET file_path = ? WHERE id = ?", "/test/path/moved-image.png", imageId);
+            entityManager.clear();
+            when(fileStorageService.load("/test/path/cached-image.png"))
+                    .thenThrow(new FileStorageException("File not found: /test/path/cached-image.png"));
+            when(fileStorageService.load("/test/path/moved-image.png"))
+                    .thenReturn(new org.springframework.core.io.ByteArrayResource("moved image content".getBytes()));
+
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(content().bytes("moved image content".getBytes()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for an unsupported size")
+        void shouldRejectUnsupportedSize() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(imageEndpoint).param("size", "huge"));
+
+            // Assert
+            result.andExpect(status().isBadRequest());
+        }
+    }
+}
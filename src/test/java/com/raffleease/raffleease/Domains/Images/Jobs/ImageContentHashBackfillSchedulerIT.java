@@ -0,0 +1,108 @@
+package com.raffleease.raffleease.Domains.Images.Jobs;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
+import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Model.ImageStatus;
+import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
+import com.raffleease.raffleease.Domains.Images.Services.FileStorageService;
+import com.raffleease.raffleease.Domains.Images.Services.ImagesCacheService;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Image Content Hash Backfill Scheduler Integration Tests")
+@TestPropertySource(properties = {
+        "spring.application.configs.images.hash_backfill_batch_size=1000"
+})
+class ImageContentHashBackfillSchedulerIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private ImageContentHashBackfillScheduler scheduler;
+
+    @Autowired
+    private ImagesRepository imagesRepository;
+
+    @Autowired
+    private ImagesCacheService imagesCacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    private AuthTestData authData;
+
+    @BeforeEach
+    void setUp() {
+        authData = authTestUtils.createAuthenticatedUser();
+    }
+
+    @Test
+    @DisplayName("Should record the content hash of images stored without one")
+    void shouldRecordMissingContentHash() {
+        // Arrange
+        Image image = createImageWithoutHash("legacy-image.jpg");
+        imagesCacheService.findImage(image.getId());
+        when(fileStorageService.contentHash(image.getFilePath())).thenReturn("legacy-hash");
+
+        // Act
+        scheduler.backfillContentHashes();
+
+        // Assert
+        assertThat(contentHashOf(image)).isEqualTo("legacy-hash");
+        entityManager.clear();
+        assertThat(imagesCacheService.findImage(image.getId()).contentHash()).isEqualTo("legacy-hash");
+    }
+
+    @Test
+    @DisplayName("Should skip files that cannot be read and hash the rest")
+    void shouldSkipUnreadableFiles() {
+        // Arrange
+        Image missing = createImageWithoutHash("missing-image.jpg");
+        Image readable = createImageWithoutHash("readable-image.jpg");
+        when(fileStorageService.contentHash(missing.getFilePath())).thenThrow(new FileStorageException("File not found"));
+        when(fileStorageService.contentHash(readable.getFilePath())).thenReturn("readable-hash");
+
+        // Act
+        scheduler.backfillContentHashes();
+
+        // Assert
+        assertThat(contentHashOf(missing)).isNull();
+        assertThat(contentHashOf(readable)).isEqualTo("readable-hash");
+    }
+
+    private Image createImageWithoutHash(String fileName) {
+        Image image = TestDataBuilder.image()
+                .user(authData.user())
+                .association(authData.association())
+                .status(ImageStatus.PENDING)
+                .fileName(fileName)
+                .filePath("/test/path/" + fileName)
+                .build();
+        image.setContentHash(null);
+        return imagesRepository.saveAndFlush(image);
+    }
+
+    private String contentHashOf(Image image) {
+        return jdbcTemplate.queryForObject("SELECT content_hash FROM images WHERE id = ?", String.class, image.getId());
+    }
+}
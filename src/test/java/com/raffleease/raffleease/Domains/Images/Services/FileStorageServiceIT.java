@@ -0,0 +1,90 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.FileStorageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("File Storage Service Integration Tests")
+@TestPropertySource(properties = {
+        "spring.storage.images.base_path=${java.io.tmpdir}/file-storage-test-images",
+        "spring.storage.images.ingestion.threads=4"
+})
+class FileStorageServiceIT extends AbstractIntegrationTest {
+    private static final Path BASE_PATH = Paths.get(System.getProperty("java.io.tmpdir"), "file-storage-test-images");
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(BASE_PATH);
+    }
+
+    @Test
+    @DisplayName("Should store and move every file of a batch in order")
+    void shouldStoreAndMoveBatchInOrder() throws IOException {
+        // Arrange
+        List<MultipartFile> files = createFiles(10);
+
+        // Act
+        List<String> tempPaths = fileStorageService.saveTemporaryBatch(files, "1", UUID.randomUUID().toString());
+        List<String> imageIds = IntStream.rangeClosed(1, 10).mapToObj(String::valueOf).toList();
+        List<String> finalPaths = fileStorageService.moveTemporaryBatchToFinal(tempPaths, "1", "2", imageIds);
+
+        // Assert
+        assertThat(finalPaths).hasSize(10);
+        for (int i = 0; i < finalPaths.size(); i++) {
+            Path finalPath = Paths.get(finalPaths.get(i));
+            assertThat(finalPath.getFileName().toString()).isEqualTo((i + 1) + "_image" + i + ".jpg");
+            assertThat(Files.readAllBytes(finalPath)).isEqualTo(files.get(i).getBytes());
+            assertThat(Paths.get(tempPaths.get(i))).doesNotExist();
+        }
+    }
+
+    @Test
+    @DisplayName("Should roll back the whole batch when one file cannot be moved")
+    void shouldRollbackWholeBatchOnMoveFailure() throws IOException {
+        // Arrange
+        List<String> tempPaths = new ArrayList<>(fileStorageService.saveTemporaryBatch(createFiles(5), "1", UUID.randomUUID().toString()));
+        Files.delete(Paths.get(tempPaths.get(2)));
+        List<String> imageIds = IntStream.rangeClosed(1, 5).mapToObj(String::valueOf).toList();
+
+        // Act & Assert
+        assertThatThrownBy(() -> fileStorageService.moveTemporaryBatchToFinal(tempPaths, "1", "2", imageIds))
+                .isInstanceOf(FileStorageException.class);
+        Path finalDirectory = BASE_PATH.resolve(Paths.get("associations", "1", "raffles", "2", "images"));
+        try (var remaining = Files.list(finalDirectory)) {
+            assertThat(remaining).isEmpty();
+        }
+        tempPaths.forEach(tempPath -> assertThat(Paths.get(tempPath)).doesNotExist());
+    }
+
+    private List<MultipartFile> createFiles(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> (MultipartFile) new MockMultipartFile(
+                        "files",
+                        "image" + i + ".jpg",
+                        "image/jpeg",
+                        ("content of image " + i).getBytes()))
+                .toList();
+    }
+}
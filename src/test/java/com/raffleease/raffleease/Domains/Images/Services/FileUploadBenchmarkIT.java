@@ -0,0 +1,190 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares heap allocation and GC activity of storing uploads by reading them into a byte array, as done before,
+ * against streaming them to disk, at several levels of concurrent uploads.
+ * Uploads are backed by files on disk, as the container does for parts above the multipart size threshold.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.uploads.file_mb=10] [-Dbenchmark.uploads.per_client=5]
+ */
+@DisplayName("File Upload Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestPropertySource(properties = {
+        "spring.storage.images.base_path=${java.io.tmpdir}/benchmark-images"
+})
+class FileUploadBenchmarkIT extends AbstractIntegrationTest {
+    private static final int[] CONCURRENCY_LEVELS = {1, 4, 16};
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    private Path sourceFile;
+    private Path legacyDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        int fileMegabytes = Integer.getInteger("benchmark.uploads.file_mb", 10);
+        byte[] content = new byte[fileMegabytes * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        sourceFile = Files.createTempFile("benchmark-upload", ".jpg");
+        Files.write(sourceFile, content);
+        legacyDirectory = Files.createTempDirectory("benchmark-legacy");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(sourceFile);
+        FileSystemUtils.deleteRecursively(legacyDirectory);
+        FileSystemUtils.deleteRecursively(Paths.get(System.getProperty("java.io.tmpdir"), "benchmark-images"));
+    }
+
+    @Test
+    @DisplayName("Compare heap usage of buffered and streamed uploads")
+    void compareUploadStrategies() throws Exception {
+        int uploadsPerClient = Integer.getInteger("benchmark.uploads.per_client", 5);
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            run("buffered", concurrency, uploadsPerClient, file -> {
+                Path target = legacyDirectory.resolve(UUID.randomUUID() + ".jpg");
+                Files.write(target, file.getBytes());
+                Files.delete(target);
+            });
+            run("streamed", concurrency, uploadsPerClient, file -> {
+                List<String> paths = fileStorageService.saveTemporaryBatch(List.of(file), "1", UUID.randomUUID().toString());
+                fileStorageService.cleanupTemporaryFiles(paths);
+            });
+        }
+    }
+
+    private void run(String strategy, int concurrency, int uploadsPerClient, Upload upload) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        AtomicLong allocatedBytes = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                start.await();
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                for (int j = 0; j < uploadsPerClient; j++) {
+                    upload.store(new DiskMultipartFile(sourceFile));
+                }
+                allocatedBytes.addAndGet(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                return null;
+            }));
+        }
+
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTimeMillis();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        clients.shutdown();
+
+        int uploads = concurrency * uploadsPerClient;
+        System.out.printf("strategy=%s concurrency=%d uploads=%d throughput=%.1f MB/s allocated=%.1f KB per upload gc collections=%d gc time=%d ms%n",
+                strategy,
+                concurrency,
+                uploads,
+                uploads * Files.size(sourceFile) / 1048576.0 / (elapsedNanos / 1e9),
+                allocatedBytes.get() / 1024.0 / uploads,
+                gcCount() - gcCountBefore,
+                gcTimeMillis() - gcTimeBefore);
+        assertThat(allocatedBytes.get()).isPositive();
+    }
+
+    private long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private long gcTimeMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        void store(MultipartFile file) throws IOException;
+    }
+
+    /**
+     * Upload whose content was spooled to disk by the container.
+     */
+    private record DiskMultipartFile(Path source) implements MultipartFile {
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return source.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(source);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(source);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(source);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            // Copied rather than moved so the same source can be uploaded again
+            Files.copy(source, dest.toPath());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Images.Model.ImageVariant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Image Variants Service Integration Tests")
+@TestPropertySource(properties = {
+        "spring.storage.images.base_path=${java.io.tmpdir}/image-variants-test-images"
+})
+class ImageVariantsServiceIT extends AbstractIntegrationTest {
+    private static final Path BASE_PATH = Paths.get(System.getProperty("java.io.tmpdir"), "image-variants-test-images");
+
+    @Autowired
+    private ImageVariantsService imageVariantsService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(BASE_PATH);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(BASE_PATH);
+    }
+
+    @Nested
+    @DisplayName("createVariants()")
+    class CreateVariants {
+        @Test
+        @DisplayName("Should write every variant narrower than the original with its aspect ratio")
+        void shouldWriteResizedVariants() throws IOException {
+            // Arrange
+            Path original = writeImage("large.png", 2000, 1000);
+
+            // Act
+            imageVariantsService.createVariants(original.toString());
+
+            // Assert
+            for (ImageVariant variant : ImageVariant.values()) {
+                BufferedImage image = ImageIO.read(Paths.get(variant.pathFor(original.toString())).toFile());
+                assertThat(image.getWidth()).isEqualTo(variant.getMaxWidth());
+                assertThat(image.getHeight()).isEqualTo(variant.getMaxWidth() / 2);
+            }
+        }
+
+        @Test
+        @DisplayName("Should not upscale images smaller than a variant")
+        void shouldNotUpscaleSmallImages() throws IOException {
+            // Arrange
+            Path original = writeImage("small.png", 600, 400);
+
+            // Act
+            imageVariantsService.createVariants(original.toString());
+
+            // Assert
+            assertThat(Paths.get(ImageVariant.THUMB.pathFor(original.toString()))).exists();
+            assertThat(Paths.get(ImageVariant.MEDIUM.pathFor(original.toString()))).doesNotExist();
+            assertThat(Paths.get(ImageVariant.LARGE.pathFor(original.toString()))).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should skip files that are not decodable images")
+        void shouldSkipUndecodableFiles() throws IOException {
+            // Arrange
+            Path original = Files.write(BASE_PATH.resolve("broken.jpg"), "not an image".getBytes());
+
+            // Act
+            imageVariantsService.createVariants(original.toString());
+
+            // Assert
+            try (var files = Files.list(BASE_PATH)) {
+                assertThat(files).containsExactly(original);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("resolve()")
+    class Resolve {
+        @Test
+        @DisplayName("Should resolve the variant once it has been generated")
+        void shouldResolveGeneratedVariant() throws IOException {
+            // Arrange
+            Path original = writeImage("image.png", 1000, 1000);
+            imageVariantsService.createVariants(original.toString());
+
+            // Act
+            String resolved = imageVariantsService.resolve(original.toString(), ImageVariant.THUMB);
+
+            // Assert
+            assertThat(resolved).isEqualTo(ImageVariant.THUMB.pathFor(original.toString()));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the original when the variant does not exist")
+        void shouldFallBackToOriginal() throws IOException {
+            // Arrange
+            Path original = writeImage("image.png", 1000, 1000);
+
+            // Act
+            String resolved = imageVariantsService.resolve(original.toString(), ImageVariant.LARGE);
+
+            // Assert
+            assertThat(resolved).isEqualTo(original.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete the variants along with the original file")
+    void shouldDeleteVariantsWithOriginal() throws IOException {
+        // Arrange
+        Path original = writeImage("image.png", 2000, 1000);
+        imageVariantsService.createVariants(original.toString());
+
+        // Act
+        fileStorageService.delete(original.toString());
+
+        // Assert
+        try (var files = Files.list(BASE_PATH)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private Path writeImage(String fileName, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(200, 40, 40, 128));
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        Path path = BASE_PATH.resolve(fileName);
+        ImageIO.write(image, "png", path.toFile());
+        return path;
+    }
+}
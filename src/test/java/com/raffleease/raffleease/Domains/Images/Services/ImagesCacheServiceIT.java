@@ -0,0 +1,133 @@
+package com.raffleease.raffleease.Domains.Images.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.NotFoundException;
+import com.raffleease.raffleease.Domains.Images.Model.Image;
+import com.raffleease.raffleease.Domains.Images.Model.ImageSnapshot;
+import com.raffleease.raffleease.Domains.Images.Model.ImageStatus;
+import com.raffleease.raffleease.Domains.Images.Repository.ImagesRepository;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Images Cache Service Integration Tests")
+class ImagesCacheServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private ImagesCacheService imagesCacheService;
+
+    @Autowired
+    private ImagesDeleteService imagesDeleteService;
+
+    @Autowired
+    private ImagesRepository imagesRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    private Image image;
+
+    @BeforeEach
+    void setUp() {
+        AuthTestData authData = authTestUtils.createAuthenticatedUser();
+        Image testImage = TestDataBuilder.image()
+                .user(authData.user())
+                .association(authData.association())
+                .status(ImageStatus.PENDING)
+                .fileName("cached-image.jpg")
+                .filePath("/test/path/cached-image.jpg")
+                .build();
+        testImage.setContentHash("content-hash");
+        image = imagesRepository.saveAndFlush(testImage);
+    }
+
+    @Test
+    @DisplayName("Should serve cached image metadata without querying the database again")
+    void shouldServeCachedMetadata() {
+        // Arrange
+        imagesCacheService.findImage(image.getId());
+        jdbcTemplate.update("UPDATE images SET file_path = ? WHERE id = ?", "/test/path/changed.jpg", image.getId());
+
+        // Act
+        ImageSnapshot snapshot = imagesCacheService.findImage(image.getId());
+
+        // Assert
+        assertThat(snapshot.filePath()).isEqualTo("/test/path/cached-image.jpg");
+        assertThat(snapshot.contentType()).isEqualTo(image.getContentType());
+        assertThat(snapshot.contentHash()).isEqualTo("content-hash");
+        assertThat(snapshot.status()).isEqualTo(ImageStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached metadata when the image is soft deleted")
+    void shouldEvictOnSoftDelete() {
+        // Arrange
+        imagesCacheService.findImage(image.getId());
+
+        // Act
+        imagesDeleteService.softDelete(image.getId());
+
+        // Assert
+        assertThat(imagesCacheService.findImage(image.getId()).status()).isEqualTo(ImageStatus.MARKED_FOR_DELETION);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached metadata when the image is deleted")
+    void shouldEvictOnDelete() {
+        // Arrange
+        imagesCacheService.findImage(image.getId());
+
+        // Act
+        imagesDeleteService.delete(image);
+        imagesRepository.flush();
+
+        // Assert
+        assertThatThrownBy(() -> imagesCacheService.findImage(image.getId()))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict the cached metadata when another node publishes an eviction")
+    void shouldEvictOnEvictionFromOtherNode() throws InterruptedException {
+        // Arrange
+        imagesCacheService.findImage(image.getId());
+        jdbcTemplate.update("UPDATE images SET file_path = ? WHERE id = ?", "/test/path/changed.jpg", image.getId());
+        entityManager.clear();
+
+        // Act
+        redisTemplate.convertAndSend("images_cache:evictions", image.getId().toString());
+
+        // Assert
+        String filePath = null;
+        for (int i = 0; i < 50 && !"/test/path/changed.jpg".equals(filePath); i++) {
+            filePath = imagesCacheService.findImage(image.getId()).filePath();
+            if (!"/test/path/changed.jpg".equals(filePath)) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(filePath).isEqualTo("/test/path/changed.jpg");
+    }
+}
@@ -0,0 +1,116 @@
+package com.raffleease.raffleease.Domains.Raffles.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Associations.Model.Association;
+import com.raffleease.raffleease.Domains.Associations.Repository.AssociationsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsCreate;
+import com.raffleease.raffleease.Domains.Tickets.Services.TicketsService;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus.ACTIVE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.SOLD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the all-tickets-sold check performed on every order completion as the raffle grows.
+ * The previous check loaded every ticket of the raffle, the current one must stay flat.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.raffles.sizes=1000,10000,100000]
+ */
+@DisplayName("Raffles Completion Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class RafflesCompletionBenchmarkIT extends AbstractIntegrationTest {
+    private static final int ITERATIONS = 20;
+    private static final long MAX_GROWTH_FACTOR = 5;
+
+    @Autowired
+    private RafflesStatusService rafflesStatusService;
+
+    @Autowired
+    private TicketsService ticketsService;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private AssociationsRepository associationsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Completion check latency should not grow with the number of tickets")
+    void completionCheckShouldStayFlat() {
+        List<Long> sizes = Arrays.stream(System.getProperty("benchmark.raffles.sizes", "1000,10000,100000").split(","))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .toList();
+
+        Association association = associationsRepository.save(TestDataBuilder.association().build());
+        List<Long> checkNanos = new ArrayList<>();
+
+        for (Long size : sizes) {
+            Long raffleId = createRaffle(association, size);
+
+            long legacyNanos = 0;
+            long checkTotalNanos = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                entityManager.clear();
+                Raffle raffle = entityManager.find(Raffle.class, raffleId);
+                long legacyStart = System.nanoTime();
+                raffle.getTickets().stream().allMatch(ticket -> ticket.getStatus().equals(SOLD));
+                legacyNanos += System.nanoTime() - legacyStart;
+
+                entityManager.clear();
+                raffle = entityManager.find(Raffle.class, raffleId);
+                long checkStart = System.nanoTime();
+                rafflesStatusService.completeRaffleIfAllTicketsSold(raffle);
+                checkTotalNanos += System.nanoTime() - checkStart;
+                assertThat(raffle.getStatus()).isEqualTo(ACTIVE);
+            }
+
+            checkNanos.add(checkTotalNanos / ITERATIONS);
+            System.out.printf("tickets=%d legacy=%.2f ms exists=%.2f ms%n",
+                    size, legacyNanos / 1e6 / ITERATIONS, checkTotalNanos / 1e6 / ITERATIONS);
+        }
+
+        long smallest = checkNanos.get(0);
+        long largest = checkNanos.get(checkNanos.size() - 1);
+        assertThat(largest).isLessThanOrEqualTo(Math.max(smallest, 1_000_000L) * MAX_GROWTH_FACTOR);
+    }
+
+    /**
+     * Creates a raffle where every ticket is sold except the last one, the worst case for the completion check.
+     */
+    private Long createRaffle(Association association, long totalTickets) {
+        Raffle raffle = rafflesRepository.save(TestDataBuilder.raffle()
+                .association(association)
+                .status(RaffleStatus.ACTIVE)
+                .totalTickets(totalTickets)
+                .build());
+        ticketsService.create(raffle, TicketsCreate.builder()
+                .amount(totalTickets)
+                .price(BigDecimal.ONE)
+                .lowerLimit(1L)
+                .build());
+        entityManager.createNativeQuery("UPDATE tickets SET status = 'SOLD' WHERE raffle_id = :raffleId AND ticket_number <> :last")
+                .setParameter("raffleId", raffle.getId())
+                .setParameter("last", String.valueOf(totalTickets))
+                .executeUpdate();
+        entityManager.flush();
+        return raffle.getId();
+    }
+}
@@ -0,0 +1,203 @@
+package com.raffleease.raffleease.Domains.Raffles.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Associations.Model.Association;
+import com.raffleease.raffleease.Domains.Associations.Repository.AssociationsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatistics;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatisticsDelta;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the write-behind mode of the statistics buffer. Runs outside the test transaction
+ * because pending changes are only recorded once the surrounding transaction commits.
+ */
+@DisplayName("Raffles Statistics Buffer Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.application.configs.statistics.write_behind=true",
+        "spring.application.configs.statistics.flush_interval_ms=3600000",
+        "spring.application.configs.statistics.flush_max_events=1000000"
+})
+class RafflesStatisticsBufferIT extends AbstractIntegrationTest {
+    private static final long TOTAL_TICKETS = 10L;
+
+    @Autowired
+    private RafflesStatisticsService statisticsService;
+
+    @Autowired
+    private RafflesStatisticsBuffer statisticsBuffer;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private AssociationsRepository associationsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long raffleId;
+
+    @BeforeEach
+    void setUp() {
+        raffleId = transactionTemplate.execute(status -> {
+            Association association = associationsRepository.save(TestDataBuilder.association().build());
+            return rafflesRepository.save(TestDataBuilder.raffle()
+                    .association(association)
+                    .status(RaffleStatus.ACTIVE)
+                    .ticketPrice(BigDecimal.valueOf(5))
+                    .totalTickets(TOTAL_TICKETS)
+                    .statistics(TestDataBuilder.statistics().availableTickets(TOTAL_TICKETS).build())
+                    .build()).getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep changes pending until flushed and merge them on read")
+    void shouldMergePendingChangesAndPersistThemOnFlush() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+            statisticsService.setReservationStatistics(raffle, 3);
+            statisticsService.setCreateOrderStatistics(raffle, 3);
+            statisticsService.setCompleteStatistics(raffle, 3);
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+            assertThat(raffle.getStatistics().getAvailableTickets()).isEqualTo(7L);
+            assertThat(raffle.getStatistics().getSoldTickets()).isEqualTo(0L);
+
+            RaffleStatistics merged = statisticsService.getStatistics(raffle);
+            assertThat(merged.getAvailableTickets()).isEqualTo(7L);
+            assertThat(merged.getSoldTickets()).isEqualTo(3L);
+            assertThat(merged.getParticipants()).isEqualTo(1L);
+            assertThat(merged.getRevenue()).isEqualByComparingTo(BigDecimal.valueOf(15));
+            assertThat(merged.getAverageOrderValue()).isEqualByComparingTo(BigDecimal.valueOf(15));
+        });
+
+        assertThat(statisticsBuffer.flush()).isGreaterThanOrEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+            RaffleStatistics persisted = raffle.getStatistics();
+            assertThat(persisted.getAvailableTickets()).isEqualTo(7L);
+            assertThat(persisted.getSoldTickets()).isEqualTo(3L);
+            assertThat(persisted.getParticipants()).isEqualTo(1L);
+            assertThat(persisted.getTicketsPerParticipant()).isEqualByComparingTo(BigDecimal.valueOf(3));
+            assertThat(persisted.getTotalOrders()).isEqualTo(1L);
+            assertThat(persisted.getPendingOrders()).isEqualTo(0L);
+            assertThat(persisted.getCompletedOrders()).isEqualTo(1L);
+            assertThat(persisted.getRevenue()).isEqualByComparingTo(BigDecimal.valueOf(15));
+            assertThat(persisted.getFirstSaleDate()).isNotNull();
+            assertThat(statisticsBuffer.getPending(persisted).isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject reservations that exceed the available tickets including pending changes")
+    void shouldRejectReservationsBeyondMergedAvailability() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+            statisticsService.setReservationStatistics(raffle, 8);
+        });
+
+        Boolean accepted = transactionTemplate.execute(status -> statisticsBuffer.add(
+                rafflesRepository.findById(raffleId).orElseThrow(),
+                RaffleStatisticsDelta.builder().availableTickets(-3).build(),
+                true));
+
+        assertThat(accepted).isFalse();
+        statisticsBuffer.flush();
+    }
+
+    @Test
+    @DisplayName("Should neither apply nor report twice a batch left behind after it was committed")
+    void shouldSkipBatchesAlreadyApplied() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+            statisticsService.setCreateOrderStatistics(raffle, 2);
+        });
+        statisticsBuffer.flush();
+
+        // Simulate a flush interrupted between the database commit and the in-flight cleanup
+        Long lastFlushedBatch = transactionTemplate.execute(status ->
+                rafflesRepository.findById(raffleId).orElseThrow().getStatistics().getLastFlushedBatch());
+        assertThat(lastFlushedBatch).isNotNull();
+        redisTemplate.opsForHash().putAll("raffle_statistics:inflight:" + raffleId, Map.of(
+                "total_orders", "1",
+                "pending_orders", "1",
+                "batch_id", lastFlushedBatch.toString()));
+        redisTemplate.opsForSet().add("raffle_statistics:inflight", raffleId.toString());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            RaffleStatistics persisted = rafflesRepository.findById(raffleId).orElseThrow().getStatistics();
+            assertThat(statisticsBuffer.getPending(persisted).isEmpty()).isTrue();
+        });
+
+        statisticsBuffer.flush();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            RaffleStatistics persisted = rafflesRepository.findById(raffleId).orElseThrow().getStatistics();
+            assertThat(persisted.getTotalOrders()).isEqualTo(1L);
+            assertThat(persisted.getPendingOrders()).isEqualTo(1L);
+            assertThat(redisTemplate.hasKey("raffle_statistics:inflight:" + raffleId)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply changes to the database when they cannot be buffered")
+    void shouldApplyChangesDirectlyWhenBufferingFails() {
+        // Arrange
+        String pendingKey = "raffle_statistics:pending:" + raffleId;
+        redisTemplate.opsForValue().set(pendingKey, "not-a-hash");
+
+        try {
+            // Act
+            transactionTemplate.executeWithoutResult(status -> {
+                Raffle raffle = rafflesRepository.findById(raffleId).orElseThrow();
+                statisticsService.setCreateOrderStatistics(raffle, 2);
+            });
+
+            // Assert
+            transactionTemplate.executeWithoutResult(status -> {
+                RaffleStatistics persisted = rafflesRepository.findById(raffleId).orElseThrow().getStatistics();
+                assertThat(persisted.getTotalOrders()).isEqualTo(1L);
+                assertThat(persisted.getPendingOrders()).isEqualTo(1L);
+            });
+        } finally {
+            redisTemplate.delete(pendingKey);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave a flush lock held by another node untouched")
+    void shouldNotReleaseForeignFlushLock() {
+        redisTemplate.opsForValue().set("raffle_statistics:flush_lock", "other-node");
+        try {
+            assertThat(statisticsBuffer.flush()).isZero();
+            assertThat(redisTemplate.opsForValue().get("raffle_statistics:flush_lock")).isEqualTo("other-node");
+        } finally {
+            redisTemplate.delete("raffle_statistics:flush_lock");
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.math.BigDecimal;
@@ -25,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -45,6 +47,9 @@ class TicketsControllerIT extends AbstractIntegrationTest {
     @Autowired
     private CustomersRepository customersRepository;
 
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     private AuthTestData authData;
     private String searchEndpoint;
     private String randomEndpoint;
@@ -594,4 +599,109 @@ class TicketsControllerIT extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.data.totalPages").value(0));
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("GET /v1/associations/{associationId}/raffles/{raffleId}/tickets/availability - Ticket Availability")
+    class TicketAvailabilityTests {
+        private String availabilityEndpoint;
+        private Raffle numberedRaffle;
+
+        @BeforeEach
+        void setUp() {
+            numberedRaffle = rafflesRepository.save(TestDataBuilder.raffle()
+                    .association(authData.association())
+                    .status(RaffleStatus.ACTIVE)
+                    .title("Numbered Raffle")
+                    .totalTickets(10L)
+                    .firstTicketNumber(1L)
+                    .build());
+
+            List<Ticket> tickets = new ArrayList<>();
+            for (int number = 1; number <= 10; number++) {
+                TicketStatus status = number <= 6 ? AVAILABLE : number <= 8 ? RESERVED : SOLD;
+                tickets.add(TestDataBuilder.ticket()
+                        .raffle(numberedRaffle)
+                        .ticketNumber(String.valueOf(number))
+                        .status(status)
+                        .build());
+            }
+            ticketsRepository.saveAll(tickets);
+
+            availabilityEndpoint = String.format("/v1/associations/%d/raffles/%d/tickets/availability",
+                    authData.association().getId(), numberedRaffle.getId());
+        }
+
+        @Test
+        @DisplayName("Should summarize the availability of the raffle")
+        void shouldSummarizeAvailability() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(availabilityEndpoint)
+                    .with(user(authData.user().getEmail())));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.message").value("Ticket availability retrieved successfully"))
+                    .andExpect(jsonPath("$.data.availableTickets").value(6))
+                    .andExpect(jsonPath("$.data.soldTickets").value(2))
+                    .andExpect(jsonPath("$.data.soldOut").value(false));
+        }
+
+        @Test
+        @DisplayName("Should list the available ticket numbers within a range")
+        void shouldListAvailableNumbersInRange() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(availabilityEndpoint)
+                    .param("from", "5")
+                    .param("to", "9")
+                    .with(user(authData.user().getEmail())));
+
+            // Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.availableNumbers", hasSize(2)))
+                    .andExpect(jsonPath("$.data.availableNumbers[0]").value(5))
+                    .andExpect(jsonPath("$.data.availableNumbers[1]").value(6));
+        }
+
+        @Test
+        @DisplayName("Should answer from the database while another node rebuilds the bitmaps")
+        void shouldAnswerFromDatabaseWhileRebuilding() throws Exception {
+            // Arrange
+            String lockKey = "tickets_availability:rebuild:" + numberedRaffle.getId();
+            redisTemplate.opsForValue().set(lockKey, "other-node");
+
+            try {
+                // Act
+                ResultActions result = mockMvc.perform(get(availabilityEndpoint)
+                        .param("from", "5")
+                        .param("to", "9")
+                        .with(user(authData.user().getEmail())));
+
+                // Assert
+                result.andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.availableTickets").value(6))
+                        .andExpect(jsonPath("$.data.soldTickets").value(2))
+                        .andExpect(jsonPath("$.data.availableNumbers", hasSize(2)))
+                        .andExpect(jsonPath("$.data.availableNumbers[0]").value(5))
+                        .andExpect(jsonPath("$.data.availableNumbers[1]").value(6));
+                assertThat(redisTemplate.hasKey("tickets_availability:available:" + numberedRaffle.getId())).isFalse();
+            } finally {
+                redisTemplate.delete(lockKey);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the range is too large")
+        void shouldReturn400WhenRangeIsTooLarge() throws Exception {
+            // Act
+            ResultActions result = mockMvc.perform(get(availabilityEndpoint)
+                    .param("from", "1")
+                    .param("to", "20000")
+                    .with(user(authData.user().getEmail())));
+
+            // Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.raffleease.raffleease.Domains.Tickets.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Associations.Model.Association;
+import com.raffleease.raffleease.Domains.Associations.Repository.AssociationsRepository;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.DTO.TicketsCreate;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput comparison between the per-entity ticket creation path and the bulk ticket writer.
+ * Disabled by default, run with: mvn verify -Dbenchmarks=true [-Dbenchmark.tickets.sizes=10000,100000,1000000]
+ */
+@DisplayName("Tickets Creation Benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TicketsCreateBenchmarkIT extends AbstractIntegrationTest {
+    private static final int ENTITY_CHUNK_SIZE = 50;
+
+    @Autowired
+    private TicketsService ticketsService;
+
+    @Autowired
+    private TicketsRepository ticketsRepository;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private AssociationsRepository associationsRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Compare entity based and bulk ticket creation throughput")
+    void compareTicketCreationThroughput() {
+        List<Long> sizes = Arrays.stream(System.getProperty("benchmark.tickets.sizes", "10000,100000,1000000").split(","))
+                .map(String::trim)
+                .map(Long::valueOf)
+                .toList();
+
+        Association association = associationsRepository.save(TestDataBuilder.association().build());
+
+        for (Long size : sizes) {
+            Raffle entityRaffle = createRaffle(association, size);
+            long entityStart = System.nanoTime();
+            createTicketsAsEntities(entityRaffle.getId(), size);
+            long entityNanos = System.nanoTime() - entityStart;
+
+            Raffle bulkRaffle = createRaffle(association, size);
+            long bulkStart = System.nanoTime();
+            long created = ticketsService.create(bulkRaffle, TicketsCreate.builder()
+                    .amount(size)
+                    .price(BigDecimal.ONE)
+                    .lowerLimit(1L)
+                    .build());
+            long bulkNanos = System.nanoTime() - bulkStart;
+
+            assertThat(created).isEqualTo(size);
+            System.out.printf("tickets=%d entity=%d ms (%.0f rows/s) bulk=%d ms (%.0f rows/s)%n",
+                    size,
+                    entityNanos / 1_000_000, size * 1e9 / entityNanos,
+                    bulkNanos / 1_000_000, size * 1e9 / bulkNanos);
+
+            entityManager.flush();
+            entityManager.clear();
+            association = entityManager.merge(association);
+        }
+    }
+
+    private Raffle createRaffle(Association association, long totalTickets) {
+        return rafflesRepository.save(TestDataBuilder.raffle()
+                .association(association)
+                .status(RaffleStatus.ACTIVE)
+                .totalTickets(totalTickets)
+                .build());
+    }
+
+    /**
+     * Reproduces the previous creation path: one managed Ticket per number,
+     * flushed and cleared in chunks so that only the insert cost is measured.
+     */
+    private void createTicketsAsEntities(Long raffleId, long amount) {
+        List<Ticket> chunk = new ArrayList<>(ENTITY_CHUNK_SIZE);
+        for (long number = 1; number <= amount; number++) {
+            chunk.add(Ticket.builder()
+                    .status(AVAILABLE)
+                    .ticketNumber(Long.toString(number))
+                    .raffle(entityManager.getReference(Raffle.class, raffleId))
+                    .build());
+            if (chunk.size() == ENTITY_CHUNK_SIZE || number == amount) {
+                ticketsRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+                chunk.clear();
+            }
+        }
+    }
+}
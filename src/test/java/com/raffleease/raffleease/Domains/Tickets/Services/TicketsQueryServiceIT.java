@@ -0,0 +1,133 @@
+package com.raffleease.raffleease.Domains.Tickets.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.BusinessException;
+import com.raffleease.raffleease.Domains.Raffles.Model.Raffle;
+import com.raffleease.raffleease.Domains.Raffles.Model.RaffleStatus;
+import com.raffleease.raffleease.Domains.Raffles.Repository.RafflesRepository;
+import com.raffleease.raffleease.Domains.Tickets.DTO.TicketDTO;
+import com.raffleease.raffleease.Domains.Tickets.Model.Ticket;
+import com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus;
+import com.raffleease.raffleease.Domains.Tickets.Repository.TicketsRepository;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import com.raffleease.raffleease.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.AVAILABLE;
+import static com.raffleease.raffleease.Domains.Tickets.Model.TicketStatus.SOLD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tickets Query Service Integration Tests")
+class TicketsQueryServiceIT extends AbstractIntegrationTest {
+    private static final int TOTAL_TICKETS = 200;
+
+    @Autowired
+    private TicketsQueryService ticketsQueryService;
+
+    @Autowired
+    private TicketsRepository ticketsRepository;
+
+    @Autowired
+    private RafflesRepository rafflesRepository;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    private Raffle raffle;
+
+    @BeforeEach
+    void setUp() {
+        AuthTestData authData = authTestUtils.createAuthenticatedUser();
+        raffle = rafflesRepository.save(TestDataBuilder.raffle()
+                .association(authData.association())
+                .status(RaffleStatus.ACTIVE)
+                .totalTickets((long) TOTAL_TICKETS)
+                .build());
+    }
+
+    @Nested
+    @DisplayName("getRandom()")
+    class GetRandom {
+        @Test
+        @DisplayName("Should sample the requested number of distinct available tickets from a dense pool")
+        void shouldSampleDistinctTicketsFromDensePool() {
+            // Arrange
+            Set<Long> availableIds = createTickets(number -> number % 5 == 0 ? SOLD : AVAILABLE);
+
+            // Act
+            List<TicketDTO> tickets = ticketsQueryService.getRandom(raffle.getId(), 20L);
+
+            // Assert
+            assertThat(tickets).hasSize(20);
+            assertThat(tickets).extracting(TicketDTO::id).doesNotHaveDuplicates();
+            assertThat(tickets).extracting(TicketDTO::id).allMatch(availableIds::contains);
+            assertThat(tickets).extracting(TicketDTO::status).containsOnly(AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("Should pick from a window of available tickets when they are sparse")
+        void shouldPickFromWindowForSparsePool() {
+            // Arrange
+            Set<Long> availableIds = createTickets(number -> number % 10 == 0 ? AVAILABLE : SOLD);
+
+            // Act
+            List<TicketDTO> tickets = ticketsQueryService.getRandom(raffle.getId(), 5L);
+
+            // Assert
+            assertThat(tickets).hasSize(5);
+            assertThat(tickets).extracting(TicketDTO::id).doesNotHaveDuplicates();
+            assertThat(tickets).extracting(TicketDTO::id).allMatch(availableIds::contains);
+        }
+
+        @Test
+        @DisplayName("Should return every available ticket when all of them are requested")
+        void shouldReturnWholePool() {
+            // Arrange
+            Set<Long> availableIds = createTickets(number -> number < 30 ? AVAILABLE : SOLD);
+
+            // Act
+            List<TicketDTO> tickets = ticketsQueryService.getRandom(raffle.getId(), 30L);
+
+            // Assert
+            assertThat(tickets).extracting(TicketDTO::id).containsExactlyInAnyOrderElementsOf(availableIds);
+        }
+
+        @Test
+        @DisplayName("Should reject requests for more tickets than are available")
+        void shouldRejectInsufficientTickets() {
+            // Arrange
+            createTickets(number -> number < 3 ? AVAILABLE : SOLD);
+
+            // Act & Assert
+            assertThatThrownBy(() -> ticketsQueryService.getRandom(raffle.getId(), 4L))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    private Set<Long> createTickets(IntFunction<TicketStatus> statusOf) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int number = 0; number < TOTAL_TICKETS; number++) {
+            tickets.add(TestDataBuilder.ticket()
+                    .raffle(raffle)
+                    .ticketNumber(String.valueOf(number))
+                    .status(statusOf.apply(number))
+                    .build());
+        }
+        return ticketsRepository.saveAll(tickets).stream()
+                .filter(ticket -> ticket.getStatus() == AVAILABLE)
+                .map(Ticket::getId)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,143 @@
+package com.raffleease.raffleease.Domains.Tokens.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Tokens.Services.Impls.BlackListServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Black List Service Integration Tests")
+class BlackListServiceIT extends AbstractIntegrationTest {
+    private static final String REDIS_LOOKUPS_METRIC = "tokens.blacklist.redis_lookups";
+    private static final String LEGACY_BACKFILLED_KEY = "token_blacklist:legacy_backfilled";
+    private static final String LEGACY_BACKFILL_LOCK_KEY = "token_blacklist:legacy_backfill_lock";
+
+    @Autowired
+    private BlackListService blackListService;
+
+    @Autowired
+    private BlackListServiceImpl blackListServiceImpl;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should report a revoked token as blacklisted")
+    void shouldFindRevokedToken() {
+        // Arrange
+        String tokenId = UUID.randomUUID().toString();
+
+        // Act
+        blackListService.addTokenToBlackList(tokenId, 60000L);
+
+        // Assert
+        assertThat(blackListService.isTokenBlackListed(tokenId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should answer lookups of non revoked tokens without querying Redis")
+    void shouldNotQueryRedisForUnknownToken() {
+        // Arrange
+        blackListServiceImpl.synchronizeRevocations();
+        blackListService.addTokenToBlackList(UUID.randomUUID().toString(), 60000L);
+        double lookupsBefore = redisLookups();
+
+        // Act
+        boolean blacklisted = blackListService.isTokenBlackListed(UUID.randomUUID().toString());
+
+        // Assert
+        assertThat(blacklisted).isFalse();
+        assertThat(redisLookups()).isEqualTo(lookupsBefore);
+    }
+
+    @Test
+    @DisplayName("Should see revocations published by other instances")
+    void shouldReceiveRevocationsFromOtherInstances() throws InterruptedException {
+        // Arrange
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAt = System.currentTimeMillis() + 60000L;
+
+        // Act
+        redisTemplate.opsForValue().set(tokenId, "blacklisted", 60000L, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend("token_blacklist:revocations", expiresAt + ":" + tokenId);
+
+        // Assert
+        boolean blacklisted = false;
+        for (int i = 0; i < 50 && !blacklisted; i++) {
+            blacklisted = blackListService.isTokenBlackListed(tokenId);
+            if (!blacklisted) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(blacklisted).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report tokens revoked with only a per token key as blacklisted")
+    void shouldFindLegacyRevocation() {
+        // Arrange
+        String tokenId = UUID.randomUUID().toString();
+        redisTemplate.delete(LEGACY_BACKFILLED_KEY);
+        redisTemplate.opsForValue().set(tokenId, "blacklisted", 60000L, TimeUnit.MILLISECONDS);
+
+        // Act
+        blackListServiceImpl.synchronizeRevocations();
+
+        // Assert
+        assertThat(blackListService.isTokenBlackListed(tokenId)).isTrue();
+        assertThat(redisTemplate.opsForZSet().score("token_blacklist:revoked", tokenId)).isNotNull();
+        assertThat(redisTemplate.hasKey(LEGACY_BACKFILLED_KEY)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not scan for per token keys once the backfill has completed")
+    void shouldBackfillLegacyRevocationsOnce() {
+        // Arrange
+        blackListServiceImpl.synchronizeRevocations();
+        String tokenId = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(tokenId, "blacklisted", 60000L, TimeUnit.MILLISECONDS);
+
+        // Act
+        blackListServiceImpl.synchronizeRevocations();
+
+        // Assert
+        assertThat(redisTemplate.hasKey(LEGACY_BACKFILLED_KEY)).isTrue();
+        assertThat(redisTemplate.opsForZSet().score("token_blacklist:revoked", tokenId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave the backfill to the node holding its lock")
+    void shouldSkipBackfillLockedByOtherNode() {
+        // Arrange
+        String tokenId = UUID.randomUUID().toString();
+        redisTemplate.delete(LEGACY_BACKFILLED_KEY);
+        redisTemplate.opsForValue().set(LEGACY_BACKFILL_LOCK_KEY, "other-node");
+        redisTemplate.opsForValue().set(tokenId, "blacklisted", 60000L, TimeUnit.MILLISECONDS);
+
+        try {
+            // Act
+            blackListServiceImpl.synchronizeRevocations();
+
+            // Assert
+            assertThat(redisTemplate.opsForZSet().score("token_blacklist:revoked", tokenId)).isNull();
+            assertThat(redisTemplate.hasKey(LEGACY_BACKFILLED_KEY)).isFalse();
+            assertThat(redisTemplate.opsForValue().get(LEGACY_BACKFILL_LOCK_KEY)).isEqualTo("other-node");
+        } finally {
+            redisTemplate.delete(LEGACY_BACKFILL_LOCK_KEY);
+        }
+    }
+
+    private double redisLookups() {
+        return meterRegistry.counter(REDIS_LOOKUPS_METRIC).count();
+    }
+}
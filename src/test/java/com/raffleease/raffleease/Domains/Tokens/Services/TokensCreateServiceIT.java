@@ -0,0 +1,80 @@
+package com.raffleease.raffleease.Domains.Tokens.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
+import com.raffleease.raffleease.Domains.Users.Model.MembershipSnapshot;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.ADMIN;
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tokens Create Service Integration Tests")
+class TokensCreateServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private TokensCreateService tokensCreateService;
+
+    @Autowired
+    private TokensQueryService tokensQueryService;
+
+    @Autowired
+    private AssociationsMembershipService membershipService;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should sign the membership of the user into the access token")
+    void shouldSignMembershipIntoAccessToken() {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+
+        // Act
+        String token = tokensCreateService.generateAccessToken(authData.user().getId());
+
+        // Assert
+        MembershipSnapshot membership = tokensQueryService.getMembership(tokensQueryService.getClaims(token));
+        assertThat(membership).isNotNull();
+        assertThat(membership.associationId()).isEqualTo(authData.association().getId());
+        assertThat(membership.role()).isEqualTo(ADMIN);
+        assertThat(membership.version()).isEqualTo(authData.membership().getVersion());
+    }
+
+    @Test
+    @DisplayName("Should issue a new membership version after a role change")
+    void shouldIncrementMembershipVersionOnRoleChange() {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        String oldToken = tokensCreateService.generateAccessToken(authData.user().getId());
+
+        // Act
+        membershipService.updateUserRole(authData.user(), MEMBER);
+        entityManager.flush();
+        String newToken = tokensCreateService.generateAccessToken(authData.user().getId());
+
+        // Assert
+        MembershipSnapshot oldMembership = tokensQueryService.getMembership(tokensQueryService.getClaims(oldToken));
+        MembershipSnapshot newMembership = tokensQueryService.getMembership(tokensQueryService.getClaims(newToken));
+        assertThat(newMembership.role()).isEqualTo(MEMBER);
+        assertThat(newMembership.version()).isGreaterThan(oldMembership.version());
+    }
+
+    @Test
+    @DisplayName("Should issue access tokens without membership claims for users without membership")
+    void shouldOmitMembershipForUsersWithoutMembership() {
+        // Act
+        String token = tokensCreateService.generateAccessToken(99999L);
+
+        // Assert
+        assertThat(tokensQueryService.getMembership(tokensQueryService.getClaims(token))).isNull();
+    }
+}
@@ -0,0 +1,70 @@
+package com.raffleease.raffleease.Domains.Tokens.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Exceptions.CustomExceptions.AuthorizationException;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tokens Query Service Integration Tests")
+class TokensQueryServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private TokensQueryService tokensQueryService;
+
+    @Autowired
+    private TokensCreateService tokensCreateService;
+
+    @Autowired
+    private TokensValidateService tokensValidateService;
+
+    @Autowired
+    private BlackListService blackListService;
+
+    @Test
+    @DisplayName("Should verify a token once and reuse its claims")
+    void shouldReuseVerifiedClaims() {
+        // Arrange
+        String token = tokensCreateService.generateAccessToken(1L);
+
+        // Act
+        Claims first = tokensQueryService.getClaims(token);
+        Claims second = tokensQueryService.getClaims(token);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(tokensQueryService.getSubject(token)).isEqualTo("1");
+        assertThat(tokensQueryService.getTokenId(token)).isEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token even if the original one is cached")
+    void shouldRejectTamperedToken() {
+        // Arrange
+        String token = tokensCreateService.generateAccessToken(1L);
+        tokensQueryService.getClaims(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThatThrownBy(() -> tokensQueryService.getClaims(tampered))
+                .isInstanceOf(AuthorizationException.class);
+    }
+
+    @Test
+    @DisplayName("Should check the blacklist on every validation of cached claims")
+    void shouldCheckBlacklistForCachedClaims() {
+        // Arrange
+        String token = tokensCreateService.generateAccessToken(1L);
+        assertThat(tokensValidateService.isTokenValid(token)).isTrue();
+
+        // Act
+        blackListService.addTokenToBlackList(tokensQueryService.getTokenId(token), 60000L);
+
+        // Assert
+        assertThat(tokensValidateService.isTokenValid(token)).isFalse();
+    }
+}
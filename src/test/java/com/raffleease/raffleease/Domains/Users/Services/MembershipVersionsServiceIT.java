@@ -0,0 +1,106 @@
+package com.raffleease.raffleease.Domains.Users.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Domains.Users.Services.Impls.MembershipVersionsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Membership Versions Service Integration Tests")
+class MembershipVersionsServiceIT extends AbstractIntegrationTest {
+    private static final String VERSIONS_KEY = "membership_versions:published";
+
+    @Autowired
+    private MembershipVersionsService membershipVersionsService;
+
+    @Autowired
+    private MembershipVersionsServiceImpl membershipVersionsServiceImpl;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = ThreadLocalRandom.current().nextLong(1_000_000L, Long.MAX_VALUE);
+        membershipVersionsServiceImpl.synchronizeVersions();
+    }
+
+    @Test
+    @DisplayName("Should trust membership versions of users without published changes")
+    void shouldTrustVersionWithoutPublishedChange() {
+        // Act
+        boolean current = membershipVersionsService.isCurrent(userId, 0L);
+
+        // Assert
+        assertThat(current).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject membership versions older than the published one")
+    void shouldRejectOutdatedVersion() {
+        // Act
+        membershipVersionsService.publish(userId, 3L);
+
+        // Assert
+        assertThat(membershipVersionsService.isCurrent(userId, 2L)).isFalse();
+        assertThat(membershipVersionsService.isCurrent(userId, 3L)).isTrue();
+        assertThat((String) redisTemplate.opsForHash().get(VERSIONS_KEY, userId.toString())).startsWith("3:");
+    }
+
+    @Test
+    @DisplayName("Should see membership versions published by other instances")
+    void shouldReceiveVersionsFromOtherInstances() throws InterruptedException {
+        // Arrange
+        long expiresAt = System.currentTimeMillis() + 60000L;
+
+        // Act
+        redisTemplate.convertAndSend("membership_versions:changes", userId + ":5:" + expiresAt);
+
+        // Assert
+        boolean current = true;
+        for (int i = 0; i < 50 && current; i++) {
+            current = membershipVersionsService.isCurrent(userId, 4L);
+            if (current) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(current).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should load membership versions published while the message was missed")
+    void shouldLoadPublishedVersionsOnSynchronization() {
+        // Arrange
+        long expiresAt = System.currentTimeMillis() + 60000L;
+        redisTemplate.opsForHash().put(VERSIONS_KEY, userId.toString(), "7:" + expiresAt);
+
+        // Act
+        membershipVersionsServiceImpl.synchronizeVersions();
+
+        // Assert
+        assertThat(membershipVersionsService.isCurrent(userId, 6L)).isFalse();
+        assertThat(membershipVersionsService.isCurrent(userId, 7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should drop expired membership versions on synchronization")
+    void shouldDropExpiredVersions() {
+        // Arrange
+        redisTemplate.opsForHash().put(VERSIONS_KEY, userId.toString(), "7:" + (System.currentTimeMillis() - 1000L));
+
+        // Act
+        membershipVersionsServiceImpl.synchronizeVersions();
+
+        // Assert
+        assertThat(membershipVersionsService.isCurrent(userId, 6L)).isTrue();
+        assertThat(redisTemplate.opsForHash().hasKey(VERSIONS_KEY, userId.toString())).isFalse();
+    }
+}
@@ -0,0 +1,114 @@
+package com.raffleease.raffleease.Domains.Users.Services;
+
+import com.raffleease.raffleease.Base.AbstractIntegrationTest;
+import com.raffleease.raffleease.Common.Models.UserBaseDTO;
+import com.raffleease.raffleease.Domains.Associations.Services.AssociationsMembershipService;
+import com.raffleease.raffleease.Domains.Users.Model.User;
+import com.raffleease.raffleease.util.AuthTestUtils;
+import com.raffleease.raffleease.util.AuthTestUtils.AuthTestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.ADMIN;
+import static com.raffleease.raffleease.Domains.Associations.Model.AssociationRole.MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Users Cache Service Integration Tests")
+class UsersCacheServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private UsersCacheService usersCacheService;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private AssociationsMembershipService membershipService;
+
+    @Autowired
+    private AuthTestUtils authTestUtils;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should return a separate copy of the cached user on every call")
+    void shouldReturnCopiesOfCachedUser() {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+
+        // Act
+        User first = usersCacheService.findUser(authData.user().getId());
+        first.setFirstName("Changed");
+        User second = usersCacheService.findUser(authData.user().getId());
+
+        // Assert
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(authData.user().getId());
+        assertThat(second.getFirstName()).isEqualTo(authData.user().getFirstName());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached user when the user is saved")
+    void shouldEvictUserOnSave() {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        usersCacheService.findUser(authData.user().getId());
+
+        // Act
+        usersService.updateUser(authData.user(), UserBaseDTO.builder().firstName("Updated").build());
+
+        // Assert
+        assertThat(usersCacheService.findUser(authData.user().getId()).getFirstName()).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("Should evict the cached membership when the role is updated")
+    void shouldEvictMembershipOnRoleUpdate() {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        assertThat(usersCacheService.findMembership(authData.user()).role()).isEqualTo(ADMIN);
+
+        // Act
+        membershipService.updateUserRole(authData.user(), MEMBER);
+
+        // Assert
+        assertThat(usersCacheService.findMembership(authData.user()).role()).isEqualTo(MEMBER);
+        assertThat(usersCacheService.findMembership(authData.user()).associationId()).isEqualTo(authData.association().getId());
+    }
+
+    @Test
+    @DisplayName("Should evict the cached user when another node publishes an eviction")
+    void shouldEvictUserOnEvictionFromOtherNode() throws InterruptedException {
+        // Arrange
+        AuthTestData authData = authTestUtils.createAuthenticatedUser(true, ADMIN);
+        Long userId = authData.user().getId();
+        usersCacheService.findUser(userId);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE users SET first_name = ? WHERE id = ?", "Elsewhere", userId);
+        entityManager.clear();
+
+        // Act
+        redisTemplate.convertAndSend("users_cache:evictions", userId.toString());
+
+        // Assert
+        String firstName = null;
+        for (int i = 0; i < 50 && !"Elsewhere".equals(firstName); i++) {
+            firstName = usersCacheService.findUser(userId).getFirstName();
+            if (!"Elsewhere".equals(firstName)) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(firstName).isEqualTo("Elsewhere");
+    }
+}